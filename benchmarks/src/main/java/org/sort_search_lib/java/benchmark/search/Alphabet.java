@@ -0,0 +1,126 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.benchmark.search;
+
+import java.util.Random;
+
+/**
+ * Alphabets of the texts and patterns which are searched by the benchmarks.
+ *
+ * @author Matthias Fussenegger
+ */
+public enum Alphabet {
+
+    /**
+     * The digits zero and one.
+     */
+    BINARY("01"),
+    /**
+     * The four nucleobases of DNA.
+     */
+    DNA("ACGT"),
+    /**
+     * The printable ASCII characters.
+     */
+    ASCII(printableAscii()),
+    /**
+     * All code points except surrogates, including supplementary ones which
+     * take two chars.
+     */
+    UNICODE(null);
+
+    /**
+     * The symbols of the alphabet or {@code null} for all code points.
+     */
+    private final String _symbols;
+
+    Alphabet(String symbols) {
+        _symbols = symbols;
+    }
+
+    private static String printableAscii() {
+        StringBuilder builder = new StringBuilder();
+        for (char c = ' '; c < 127; ++c) {
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns the number of distinct chars which may occur, which is the
+     * largest char plus one.
+     *
+     * @return the size of the alphabet as seen by a char-based search.
+     */
+    public int size() {
+        if (_symbols == null) {
+            return Character.MAX_VALUE + 1;
+        }
+        char max = 0;
+        for (int i = 0; i < _symbols.length(); ++i) {
+            max = (char) Math.max(max, _symbols.charAt(i));
+        }
+        return max + 1;
+    }
+
+    /**
+     * Appends random symbols to the specified builder.
+     *
+     * @param builder the builder to which to append the symbols.
+     * @param length the number of chars to be appended.
+     * @param random the generator of random symbols.
+     * @return the specified builder.
+     */
+    public StringBuilder append(StringBuilder builder, int length, Random random) {
+        final int end = builder.length() + length;
+        if (_symbols != null) {
+            while (builder.length() < end) {
+                builder.append(_symbols.charAt(random.nextInt(_symbols.length())));
+            }
+            return builder;
+        }
+        final int surrogates = Character.MAX_SURROGATE - Character.MIN_SURROGATE + 1;
+        while (builder.length() < end) {
+            int codePoint = random.nextInt(Character.MAX_CODE_POINT + 1 - surrogates);
+            if (codePoint >= Character.MIN_SURROGATE) {
+                codePoint += surrogates;
+            }
+            if (Character.charCount(codePoint) <= end - builder.length()) {
+                builder.appendCodePoint(codePoint);
+            }
+        }
+        return builder;
+    }
+
+    /**
+     * Returns a string of random symbols.
+     *
+     * @param length the number of chars of the string.
+     * @param random the generator of random symbols.
+     * @return a string of random symbols.
+     */
+    public String generate(int length, Random random) {
+        return append(new StringBuilder(length), length, random).toString();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.benchmark.search;
+
+import java.util.List;
+
+/**
+ * Densities of the occurrences which are planted into the searched texts.
+ * Short patterns over small alphabets also occur by chance, in addition to
+ * the planted occurrences.
+ *
+ * @author Matthias Fussenegger
+ */
+public enum MatchDensity {
+
+    /**
+     * No planted occurrences.
+     */
+    NONE(0),
+    /**
+     * One occurrence per mebichar.
+     */
+    SPARSE(1 << 20),
+    /**
+     * One occurrence per kibichar.
+     */
+    DENSE(1 << 10);
+
+    /**
+     * Number of chars between two planted occurrences, or zero.
+     */
+    private final int _interval;
+
+    MatchDensity(int interval) {
+        _interval = interval;
+    }
+
+    /**
+     * Overwrites the text with the patterns in turn, at evenly spaced
+     * positions. The first occurrence is planted in the middle of the first
+     * interval, so that a search has to scan some text before finding it.
+     *
+     * @param text the text in which to plant the patterns.
+     * @param patterns the patterns to be planted.
+     * @return the specified text.
+     */
+    public StringBuilder plant(StringBuilder text, List<String> patterns) {
+        if (_interval == 0) {
+            return text;
+        }
+        int next = 0;
+        for (int i = _interval / 2; i < text.length(); i += _interval) {
+            String pattern = patterns.get(next);
+            if (i + pattern.length() > text.length()) {
+                break;
+            }
+            for (int j = 0; j < pattern.length(); ++j) {
+                text.setCharAt(i + j, pattern.charAt(j));
+            }
+            next = (next + 1) % patterns.size();
+        }
+        return text;
+    }
+}
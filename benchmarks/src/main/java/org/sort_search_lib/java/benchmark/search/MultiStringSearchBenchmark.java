@@ -0,0 +1,106 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.benchmark.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sort_search_lib.java.search.api.MultiStringSearch;
+
+/**
+ * Measures the latency and throughput of the multi string searches against
+ * calling {@link String#indexOf(String, int)} for each pattern. Each operation
+ * finds all occurrences of all patterns in the whole text. The planted
+ * occurrences cycle through the patterns.
+ *
+ * @author Matthias Fussenegger
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MultiStringSearchBenchmark {
+
+    @Param({Searches.BASELINE, "RabinKarpSet"})
+    public String algorithm;
+
+    @Param
+    public Alphabet alphabet;
+
+    @Param({"8", "32"})
+    public int patternLength;
+
+    @Param({"1", "10", "100"})
+    public int patternCount;
+
+    @Param({"1000", "1000000", "100000000"})
+    public int textLength;
+
+    @Param
+    public MatchDensity density;
+
+    private MultiStringSearch _search;
+
+    private Set<CharSequence> _patterns;
+
+    private String _text;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        _search = Searches.multi(algorithm);
+        Random random = new Random(SingleStringSearchBenchmark.SEED);
+        List<String> patterns = new ArrayList<String>();
+        _patterns = new LinkedHashSet<CharSequence>();
+        while (_patterns.size() < patternCount) {
+            String pattern = alphabet.generate(patternLength, random);
+            if (_patterns.add(pattern)) {
+                patterns.add(pattern);
+            }
+        }
+        StringBuilder text = alphabet.append(new StringBuilder(textLength), textLength, random);
+        _text = density.plant(text, patterns).toString();
+    }
+
+    @Benchmark
+    public int search() {
+        return _search.indexesOf(_text, _patterns, patternLength).size();
+    }
+}
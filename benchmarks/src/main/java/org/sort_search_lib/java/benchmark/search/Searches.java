@@ -0,0 +1,117 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.benchmark.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.sort_search_lib.java.search.BoyerMoore;
+import org.sort_search_lib.java.search.KnuthMorrisPratt;
+import org.sort_search_lib.java.search.RabinKarp;
+import org.sort_search_lib.java.search.RabinKarpSet;
+import org.sort_search_lib.java.search.api.MultiStringSearch;
+import org.sort_search_lib.java.search.api.SingleStringSearch;
+
+/**
+ * Creates the searches to be benchmarked by their names, which are used as
+ * values of the benchmark parameters. The baseline of both kinds of searches
+ * is named {@code StringIndexOf} and uses {@link String#indexOf(String)}.
+ *
+ * @author Matthias Fussenegger
+ */
+final class Searches {
+
+    /**
+     * Name of the searches which use {@link String#indexOf(String)}.
+     */
+    static final String BASELINE = "StringIndexOf";
+
+    private Searches() {
+        throw new AssertionError(); // holds static methods only
+    }
+
+    /**
+     * Creates the single string search with the specified name.
+     *
+     * @param name the simple class name of the search.
+     * @param alphabet the alphabet of the texts and patterns.
+     * @return a new instance of the search.
+     */
+    static SingleStringSearch single(String name, Alphabet alphabet) {
+        switch (name) {
+            case BASELINE:
+                return new IndexOfSearch();
+            case "BoyerMoore":
+                return new BoyerMoore(alphabet.size());
+            case "KnuthMorrisPratt":
+                return new KnuthMorrisPratt();
+            case "RabinKarp":
+                return new RabinKarp();
+            default:
+                throw new IllegalArgumentException("Unknown single string search: " + name);
+        }
+    }
+
+    /**
+     * Creates the multi string search with the specified name.
+     *
+     * @param name the simple class name of the search.
+     * @return a new instance of the search.
+     */
+    static MultiStringSearch multi(String name) {
+        switch (name) {
+            case BASELINE:
+                return new IndexOfSearch();
+            case "RabinKarpSet":
+                return new RabinKarpSet();
+            default:
+                throw new IllegalArgumentException("Unknown multi string search: " + name);
+        }
+    }
+
+    /**
+     * Searches by using {@link String#indexOf(String)}, once per pattern.
+     */
+    private static final class IndexOfSearch implements SingleStringSearch, MultiStringSearch {
+
+        @Override
+        public int indexOf(String text, CharSequence pattern) {
+            return text.indexOf(pattern.toString());
+        }
+
+        @Override
+        public List<Occurrence> indexesOf(CharSequence text,
+                Set<CharSequence> patterns, int patternLength) {
+            String string = text.toString();
+            List<Occurrence> occurrences = new ArrayList<Occurrence>();
+            for (CharSequence pattern : patterns) {
+                String p = pattern.toString();
+                for (int i = string.indexOf(p); i >= 0; i = string.indexOf(p, i + 1)) {
+                    occurrences.add(new Occurrence(i, pattern));
+                }
+            }
+            return occurrences;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.benchmark.search;
+
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sort_search_lib.java.search.api.SingleStringSearch;
+
+/**
+ * Measures the latency and throughput of the single string searches against
+ * {@link String#indexOf(String)}. As {@link SingleStringSearch} only finds the
+ * first occurrence, the text is split into records of {@value #RECORD_LENGTH}
+ * chars, like the lines searched by grep, and each operation counts the
+ * records containing the pattern. Each record is scanned up to its first
+ * occurrence, so denser matches mean less scanning. Texts of one hundred
+ * million chars take up to 200 MB, plus the same again while generating.
+ *
+ * @author Matthias Fussenegger
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SingleStringSearchBenchmark {
+
+    /**
+     * Number of chars of each record.
+     */
+    static final int RECORD_LENGTH = 1 << 16;
+
+    /**
+     * Seed of the random texts and patterns.
+     */
+    static final long SEED = 42L;
+
+    @Param({Searches.BASELINE, "BoyerMoore", "KnuthMorrisPratt", "RabinKarp"})
+    public String algorithm;
+
+    @Param
+    public Alphabet alphabet;
+
+    @Param({"4", "16", "64", "256"})
+    public int patternLength;
+
+    @Param({"1000", "1000000", "100000000"})
+    public int textLength;
+
+    @Param
+    public MatchDensity density;
+
+    private SingleStringSearch _search;
+
+    private String _pattern;
+
+    private String[] _records;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        _search = Searches.single(algorithm, alphabet);
+        Random random = new Random(SEED);
+        _pattern = alphabet.generate(patternLength, random);
+        StringBuilder text = alphabet.append(new StringBuilder(textLength), textLength, random);
+        density.plant(text, Collections.singletonList(_pattern));
+        _records = new String[(textLength + RECORD_LENGTH - 1) / RECORD_LENGTH];
+        for (int i = 0; i < _records.length; ++i) {
+            int start = i * RECORD_LENGTH;
+            _records[i] = text.substring(start, Math.min(start + RECORD_LENGTH, textLength));
+        }
+    }
+
+    @Benchmark
+    public int search() {
+        int found = 0;
+        for (String record : _records) {
+            if (_search.indexOf(record, _pattern) >= 0) {
+                ++found;
+            }
+        }
+        return found;
+    }
+}
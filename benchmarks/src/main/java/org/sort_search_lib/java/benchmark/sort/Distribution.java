@@ -0,0 +1,120 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.benchmark.sort;
+
+import java.util.Random;
+
+/**
+ * Distributions of the values which are sorted by the benchmarks. The values
+ * are generated from a fixed seed, so that each run sorts the same input.
+ *
+ * @author Matthias Fussenegger
+ */
+public enum Distribution {
+
+    /**
+     * Uniformly distributed random values.
+     */
+    RANDOM {
+        @Override
+        int value(int i, int n, Random random) {
+            return random.nextInt();
+        }
+    },
+    /**
+     * Values in ascending order.
+     */
+    SORTED {
+        @Override
+        int value(int i, int n, Random random) {
+            return i;
+        }
+    },
+    /**
+     * Values in descending order.
+     */
+    REVERSED {
+        @Override
+        int value(int i, int n, Random random) {
+            return n - i;
+        }
+    },
+    /**
+     * Sixteen ascending runs of equal length.
+     */
+    SAWTOOTH {
+        @Override
+        int value(int i, int n, Random random) {
+            return i % Math.max(1, n / 16);
+        }
+    },
+    /**
+     * Random values out of sixteen distinct ones.
+     */
+    FEW_DISTINCT {
+        @Override
+        int value(int i, int n, Random random) {
+            return random.nextInt(16);
+        }
+    },
+    /**
+     * Values ascending up to the middle and descending afterwards.
+     */
+    ORGAN_PIPE {
+        @Override
+        int value(int i, int n, Random random) {
+            return i < n / 2 ? i : n - i;
+        }
+    };
+
+    /**
+     * Seed of the random values.
+     */
+    static final long SEED = 42L;
+
+    /**
+     * Returns the value at the specified position.
+     *
+     * @param i the position of the value.
+     * @param n the number of values.
+     * @param random the generator of random values.
+     * @return the value at the specified position.
+     */
+    abstract int value(int i, int n, Random random);
+
+    /**
+     * Generates the specified number of values.
+     *
+     * @param size the number of values to be generated.
+     * @return an array holding the generated values.
+     */
+    public Integer[] generate(int size) {
+        Random random = new Random(SEED);
+        Integer[] values = new Integer[size];
+        for (int i = 0; i < size; ++i) {
+            values[i] = value(i, size, random);
+        }
+        return values;
+    }
+}
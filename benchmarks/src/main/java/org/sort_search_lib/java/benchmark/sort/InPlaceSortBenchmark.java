@@ -0,0 +1,89 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.benchmark.sort;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sort_search_lib.java.sort.api.InPlaceSort;
+
+/**
+ * Measures the throughput of the in-place sorts which run in
+ * {@code O(n log n)} time, or better. Each operation copies the input into a
+ * preallocated array before sorting it, so that the measured allocation is
+ * the one of the sort itself. Sizes above one million need a heap of several
+ * gigabytes, see {@code -jvmArgs}. The two-way Quicksort is measured by
+ * {@link QuicksortBenchmark}.
+ *
+ * @author Matthias Fussenegger
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InPlaceSortBenchmark {
+
+    @Param({"BlockMergeSort", "DualPivotQuicksort", "HeapSort", "IntroSort",
+        "ParallelDualPivotQuicksort", "ParallelIntroSort", "ParallelSampleSort",
+        "PdqSort", "Quicksort3Way", "ShellSort", "SortPlanner", "TimSort"})
+    public String algorithm;
+
+    @Param({"10", "1000", "100000", "10000000", "100000000"})
+    public int size;
+
+    @Param
+    public Distribution distribution;
+
+    private InPlaceSort _sort;
+
+    private Integer[] _input;
+
+    private Integer[] _values;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        _sort = Sorts.inPlace(algorithm);
+        _input = distribution.generate(size);
+        _values = new Integer[size];
+    }
+
+    @Benchmark
+    public Integer[] sort() {
+        System.arraycopy(_input, 0, _values, 0, _input.length);
+        _sort.sort(_values);
+        return _values;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.benchmark.sort;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sort_search_lib.java.sort.api.InPlaceSort;
+
+/**
+ * Measures the throughput of the two-way Quicksort. Keys equal to the pivot
+ * are not split off, so few distinct values make it run in quadratic time and
+ * recurse once per element, which overflows the stack at ten million values.
+ * This is why the sizes of {@link Distribution#FEW_DISTINCT} end at ten
+ * thousand, while the other distributions use the sizes of
+ * {@link InPlaceSortBenchmark}.
+ *
+ * @author Matthias Fussenegger
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuicksortBenchmark {
+
+    /**
+     * Input of the distributions for which the sort runs in
+     * {@code O(n log n)} time.
+     */
+    @State(Scope.Thread)
+    public static class Input {
+
+        @Param({"10", "1000", "100000", "10000000", "100000000"})
+        public int size;
+
+        @Param({"RANDOM", "SORTED", "REVERSED", "SAWTOOTH", "ORGAN_PIPE"})
+        public Distribution distribution;
+
+        Integer[] _input;
+
+        Integer[] _values;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            _input = distribution.generate(size);
+            _values = new Integer[size];
+        }
+    }
+
+    /**
+     * Input of few distinct values, for which the sort runs in quadratic time.
+     */
+    @State(Scope.Thread)
+    public static class FewDistinctInput {
+
+        @Param({"10", "100", "1000", "10000"})
+        public int fewDistinctSize;
+
+        Integer[] _input;
+
+        Integer[] _values;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            _input = Distribution.FEW_DISTINCT.generate(fewDistinctSize);
+            _values = new Integer[fewDistinctSize];
+        }
+    }
+
+    private final InPlaceSort _sort = Sorts.inPlace("Quicksort");
+
+    @Benchmark
+    public Integer[] sort(Input input) {
+        System.arraycopy(input._input, 0, input._values, 0, input._input.length);
+        _sort.sort(input._values);
+        return input._values;
+    }
+
+    @Benchmark
+    public Integer[] sortFewDistinct(FewDistinctInput input) {
+        System.arraycopy(input._input, 0, input._values, 0, input._input.length);
+        _sort.sort(input._values);
+        return input._values;
+    }
+}
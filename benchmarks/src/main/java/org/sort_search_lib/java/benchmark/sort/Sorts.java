@@ -0,0 +1,125 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.benchmark.sort;
+
+import org.sort_search_lib.java.sort.BlockMergeSort;
+import org.sort_search_lib.java.sort.BubbleSort;
+import org.sort_search_lib.java.sort.CocktailShakerSort;
+import org.sort_search_lib.java.sort.DualPivotQuicksort;
+import org.sort_search_lib.java.sort.HeapSort;
+import org.sort_search_lib.java.sort.InsertionSort;
+import org.sort_search_lib.java.sort.IntroSort;
+import org.sort_search_lib.java.sort.MergeSort;
+import org.sort_search_lib.java.sort.ParallelDualPivotQuicksort;
+import org.sort_search_lib.java.sort.ParallelIntroSort;
+import org.sort_search_lib.java.sort.ParallelMergeSort;
+import org.sort_search_lib.java.sort.ParallelSampleSort;
+import org.sort_search_lib.java.sort.PdqSort;
+import org.sort_search_lib.java.sort.Quicksort;
+import org.sort_search_lib.java.sort.SelectionSort;
+import org.sort_search_lib.java.sort.ShellSort;
+import org.sort_search_lib.java.sort.SortPlanner;
+import org.sort_search_lib.java.sort.TimSort;
+import org.sort_search_lib.java.sort.api.InPlaceSort;
+import org.sort_search_lib.java.sort.api.OutPlaceSort;
+
+/**
+ * Creates the sorts to be benchmarked by their names, which are used as
+ * values of the benchmark parameters.
+ *
+ * @author Matthias Fussenegger
+ */
+final class Sorts {
+
+    private Sorts() {
+        throw new AssertionError(); // holds static methods only
+    }
+
+    /**
+     * Creates the in-place sort with the specified name.
+     *
+     * @param name the simple class name of the sort. Quicksort with three-way
+     * partitioning is named {@code Quicksort3Way}.
+     * @return a new instance of the sort.
+     */
+    static InPlaceSort inPlace(String name) {
+        switch (name) {
+            case "BlockMergeSort":
+                return new BlockMergeSort();
+            case "BubbleSort":
+                return new BubbleSort();
+            case "CocktailShakerSort":
+                return new CocktailShakerSort();
+            case "DualPivotQuicksort":
+                return new DualPivotQuicksort();
+            case "HeapSort":
+                return new HeapSort();
+            case "InsertionSort":
+                return new InsertionSort();
+            case "IntroSort":
+                return new IntroSort();
+            case "ParallelDualPivotQuicksort":
+                return new ParallelDualPivotQuicksort();
+            case "ParallelIntroSort":
+                return new ParallelIntroSort();
+            case "ParallelSampleSort":
+                return new ParallelSampleSort();
+            case "PdqSort":
+                return new PdqSort();
+            case "Quicksort":
+                return new Quicksort();
+            case "Quicksort3Way":
+                return new Quicksort(true);
+            case "SelectionSort":
+                return new SelectionSort();
+            case "ShellSort":
+                return new ShellSort();
+            case "SortPlanner":
+                return new SortPlanner();
+            case "TimSort":
+                return new TimSort();
+            default:
+                throw new IllegalArgumentException("Unknown in-place sort: " + name);
+        }
+    }
+
+    /**
+     * Creates the out-place sort with the specified name.
+     *
+     * @param name the simple class name of the sort.
+     * @return a new instance of the sort.
+     */
+    static OutPlaceSort outPlace(String name) {
+        switch (name) {
+            case "MergeSort":
+                return new MergeSort();
+            case "ParallelMergeSort":
+                return new ParallelMergeSort();
+            case "TimSort":
+                return new TimSort();
+            default:
+                throw new IllegalArgumentException("Unknown out-place sort: " + name);
+        }
+    }
+}
@@ -0,0 +1,436 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+import java.util.Comparator;
+import org.sort_search_lib.java.sort.api.InPlaceSort;
+
+/**
+ * Offers sorts which return the permutation of indexes that would sort an
+ * array, instead of moving its elements. The permutation can then be applied
+ * to the array itself or to any number of parallel arrays, so that only the
+ * indexes are moved while sorting.
+ *
+ * Indexes of elements are sorted by an Intro-Sort that breaks ties by the
+ * index itself, so the permutation is the one of a stable sort. Indexes of
+ * {@code int} values are packed together with their values into
+ * {@code long} values, which are then sorted by {@link IntroSort}, and
+ * those of {@code long} and {@code double} values are sorted along with the
+ * values by {@link RadixSort}. A permutation is applied in place by
+ * following its cycles, so only one element is held at a time.
+ *
+ * @author Matthias Fussenegger
+ */
+public final class ArgSort {
+
+    private final IntroSort _introSort = new IntroSort();
+
+    /**
+     * Returns the permutation which sorts the specified array using the
+     * natural ordering of its elements. The element at index {@code i} of the
+     * sorted array is the one at index {@code permutation[i]} of the specified
+     * array, and the array itself is not changed.
+     *
+     * @param <T> type of the array elements.
+     * @param values the array of which to sort the indexes.
+     * @return the permutation that sorts the array.
+     */
+    public <T> int[] argsort(T[] values) {
+        return argsort(values, Comparators.<T>naturalOrder());
+    }
+
+    /**
+     * Returns the permutation which sorts the specified array using the
+     * specified {@link Comparator}. The element at index {@code i} of the
+     * sorted array is the one at index {@code permutation[i]} of the specified
+     * array, and the array itself is not changed.
+     *
+     * @param <T> type of the array elements.
+     * @param values the array of which to sort the indexes.
+     * @param c the {@link Comparator} used to compare the elements.
+     * @return the permutation that sorts the array.
+     */
+    public <T> int[] argsort(T[] values, Comparator<? super T> c) {
+        int[] permutation = identity(values.length);
+        if (values.length > 1) {
+            int maxDepth = IntroSort.calculateMaxDepth(values.length);
+            introsort(permutation, 0, values.length - 1, maxDepth, values, c);
+        }
+        return permutation;
+    }
+
+    /**
+     * Returns the permutation which sorts the specified array in ascending
+     * numerical order. The array itself is not changed.
+     *
+     * @param values the array of which to sort the indexes.
+     * @return the permutation that sorts the array.
+     */
+    public int[] argsort(int[] values) {
+        /*the value takes the upper half and the index the lower half*/
+        long[] packed = new long[values.length];
+        for (int i = 0; i < values.length; ++i) {
+            packed[i] = ((long) values[i] << Integer.SIZE) | i;
+        }
+        _introSort.sort(packed);
+        int[] permutation = new int[values.length];
+        for (int i = 0; i < values.length; ++i) {
+            permutation[i] = (int) packed[i];
+        }
+        return permutation;
+    }
+
+    /**
+     * Returns the permutation which sorts the specified array in ascending
+     * numerical order. The array itself is not changed.
+     *
+     * @param values the array of which to sort the indexes.
+     * @return the permutation that sorts the array.
+     */
+    public int[] argsort(long[] values) {
+        return argsortKeys(values.clone());
+    }
+
+    /**
+     * Returns the permutation which sorts the specified array in ascending
+     * numerical order, as defined by {@link Double#compare(double, double)}.
+     * The array itself is not changed.
+     *
+     * @param values the array of which to sort the indexes.
+     * @return the permutation that sorts the array.
+     */
+    public int[] argsort(double[] values) {
+        long[] keys = new long[values.length];
+        for (int i = 0; i < values.length; ++i) {
+            keys[i] = RadixSort.toSortableBits(values[i]);
+        }
+        return argsortKeys(keys);
+    }
+
+    /**
+     * Rearranges the specified array so that the element at index {@code i}
+     * is the one that was at index {@code permutation[i]}. The permutation is
+     * restored before this method returns.
+     *
+     * @param <T> type of the array elements.
+     * @param values the array to be rearranged.
+     * @param permutation the permutation, e.g. as returned by an argsort.
+     * @throws IllegalArgumentException if the permutation does not contain
+     * each index of the array exactly once.
+     */
+    public <T> void applyPermutation(T[] values, int[] permutation) {
+        checkPermutation(permutation, values.length);
+        for (int start = 0; start < permutation.length; ++start) {
+            if (permutation[start] < 0) {
+                continue; // already part of a cycle
+            }
+            /*move the elements of the cycle, then place the leader*/
+            T leader = values[start];
+            int i = start, next = permutation[start];
+            while (next != start) {
+                values[i] = values[next];
+                permutation[i] = ~next;
+                i = next;
+                next = permutation[i];
+            }
+            values[i] = leader;
+            permutation[i] = ~next;
+        }
+        restore(permutation);
+    }
+
+    /**
+     * Rearranges the specified array so that the value at index {@code i} is
+     * the one that was at index {@code permutation[i]}. The permutation is
+     * restored before this method returns.
+     *
+     * @param values the array to be rearranged.
+     * @param permutation the permutation, e.g. as returned by an argsort.
+     * @throws IllegalArgumentException if the permutation does not contain
+     * each index of the array exactly once.
+     */
+    public void applyPermutation(int[] values, int[] permutation) {
+        checkPermutation(permutation, values.length);
+        for (int start = 0; start < permutation.length; ++start) {
+            if (permutation[start] < 0) {
+                continue; // already part of a cycle
+            }
+            int leader = values[start];
+            int i = start, next = permutation[start];
+            while (next != start) {
+                values[i] = values[next];
+                permutation[i] = ~next;
+                i = next;
+                next = permutation[i];
+            }
+            values[i] = leader;
+            permutation[i] = ~next;
+        }
+        restore(permutation);
+    }
+
+    /**
+     * Rearranges the specified array so that the value at index {@code i} is
+     * the one that was at index {@code permutation[i]}. The permutation is
+     * restored before this method returns.
+     *
+     * @param values the array to be rearranged.
+     * @param permutation the permutation, e.g. as returned by an argsort.
+     * @throws IllegalArgumentException if the permutation does not contain
+     * each index of the array exactly once.
+     */
+    public void applyPermutation(long[] values, int[] permutation) {
+        checkPermutation(permutation, values.length);
+        for (int start = 0; start < permutation.length; ++start) {
+            if (permutation[start] < 0) {
+                continue; // already part of a cycle
+            }
+            long leader = values[start];
+            int i = start, next = permutation[start];
+            while (next != start) {
+                values[i] = values[next];
+                permutation[i] = ~next;
+                i = next;
+                next = permutation[i];
+            }
+            values[i] = leader;
+            permutation[i] = ~next;
+        }
+        restore(permutation);
+    }
+
+    /**
+     * Rearranges the specified array so that the value at index {@code i} is
+     * the one that was at index {@code permutation[i]}. The permutation is
+     * restored before this method returns.
+     *
+     * @param values the array to be rearranged.
+     * @param permutation the permutation, e.g. as returned by an argsort.
+     * @throws IllegalArgumentException if the permutation does not contain
+     * each index of the array exactly once.
+     */
+    public void applyPermutation(double[] values, int[] permutation) {
+        checkPermutation(permutation, values.length);
+        for (int start = 0; start < permutation.length; ++start) {
+            if (permutation[start] < 0) {
+                continue; // already part of a cycle
+            }
+            double leader = values[start];
+            int i = start, next = permutation[start];
+            while (next != start) {
+                values[i] = values[next];
+                permutation[i] = ~next;
+                i = next;
+                next = permutation[i];
+            }
+            values[i] = leader;
+            permutation[i] = ~next;
+        }
+        restore(permutation);
+    }
+
+    private static int[] identity(int length) {
+        int[] permutation = new int[length];
+        for (int i = 0; i < length; ++i) {
+            permutation[i] = i;
+        }
+        return permutation;
+    }
+
+    /**
+     * Returns the permutation which sorts the specified keys, which are
+     * sorted as well.
+     */
+    private static int[] argsortKeys(long[] keys) {
+        int[] permutation = identity(keys.length);
+        RadixSort.sort(keys, permutation, 0, keys.length,
+                new long[keys.length], new int[keys.length]);
+        return permutation;
+    }
+
+    /**
+     * Checks whether the specified array is a permutation of the indexes of
+     * an array of the specified length. Indexes that occurred are marked by
+     * flipping the bits of the value at their position, which are flipped back
+     * afterwards, so no additional memory is required.
+     */
+    private static void checkPermutation(int[] permutation, int length) {
+        if (permutation.length != length) {
+            throw new IllegalArgumentException("permutation has a different length");
+        }
+        for (int index : permutation) {
+            if (index < 0 || index >= length) {
+                throw new IllegalArgumentException("index out of range: " + index);
+            }
+        }
+        for (int i = 0; i < length; ++i) {
+            int index = permutation[i] < 0 ? ~permutation[i] : permutation[i];
+            if (permutation[index] < 0) {
+                restore(permutation);
+                throw new IllegalArgumentException("duplicate index: " + index);
+            }
+            permutation[index] = ~permutation[index];
+        }
+        restore(permutation);
+    }
+
+    /**
+     * Flips the bits of all marked values of the specified permutation back.
+     */
+    private static void restore(int[] permutation) {
+        for (int i = 0; i < permutation.length; ++i) {
+            if (permutation[i] < 0) {
+                permutation[i] = ~permutation[i];
+            }
+        }
+    }
+
+    /**
+     * Main method of the Intro-Sort algorithm, which sorts the indexes of
+     * {@code [left, right]} by the elements they refer to. Both boundaries
+     * are considered inclusively.
+     */
+    private static <T> void introsort(int[] indexes, int left, int right, int maxDepth,
+            T[] values, Comparator<? super T> c) {
+        if (left < right) {
+            if (maxDepth == 0) {
+                heapSort(indexes, left, right, values, c);
+            } else if (right - left < InPlaceSort.SIZE_THRESHOLD) {
+                insertionSort(indexes, left, right, values, c);
+            } else {
+                int pivot = divide(indexes, left, right, values, c);
+                introsort(indexes, left, pivot - 1, maxDepth - 1, values, c);
+                introsort(indexes, pivot + 1, right, maxDepth - 1, values, c);
+            }
+        }
+    }
+
+    /**
+     * Compares the elements at the specified indexes, and the indexes if the
+     * elements are equal. Hence, no two indexes are considered equal.
+     */
+    private static <T> int compare(int i, int j, T[] values, Comparator<? super T> c) {
+        int result = c.compare(values[i], values[j]);
+        return result != 0 ? result : Integer.compare(i, j);
+    }
+
+    /**
+     * Partitions the indexes like {@link Quicksort#divide(int, int, int[])}
+     * does, using the median of three as pivot.
+     */
+    private static <T> int divide(int[] indexes, int left, int right,
+            T[] values, Comparator<? super T> c) {
+        int mid = (left + right) >>> 1;
+        if (compare(indexes[right], indexes[left], values, c) < 0) {
+            swap(indexes, right, left);
+        }
+        if (compare(indexes[right], indexes[mid], values, c) < 0) {
+            swap(indexes, right, mid);
+        }
+        if (compare(indexes[mid], indexes[left], values, c) < 0) {
+            swap(indexes, mid, left);
+        }
+        int i = left, j = right - 1; // j is element to the left of pivot
+        swap(indexes, mid, right); // swap median element to rightmost position
+        int pivot = indexes[right]; // pivot is element at rightmost position
+
+        while (true) {
+            /*search element from the left, which is not smaller than pivot*/
+            while (compare(indexes[i], pivot, values, c) < 0) {
+                ++i;
+            }
+
+            /*search element from the right, which is not bigger than pivot*/
+            while (compare(indexes[j], pivot, values, c) > 0 && j > left) {
+                --j;
+            }
+
+            if (i >= j) {
+                break;
+            }
+            swap(indexes, i, j);
+            ++i;
+            --j;
+        }
+
+        /*swap pivot with new final position*/
+        swap(indexes, i, right);
+        return i; // return position of pivot
+    }
+
+    private static <T> void insertionSort(int[] indexes, int left, int right,
+            T[] values, Comparator<? super T> c) {
+        for (int i = left + 1; i <= right; ++i) {
+            int index = indexes[i];
+            int j = i;
+            while (j > left && compare(indexes[j - 1], index, values, c) > 0) {
+                indexes[j] = indexes[j - 1];
+                --j;
+            }
+            indexes[j] = index;
+        }
+    }
+
+    private static <T> void heapSort(int[] indexes, int left, int right,
+            T[] values, Comparator<? super T> c) {
+        int n = (right + 1) - left;
+        /*heapify while respecting bounds*/
+        for (int i = n / 2; i >= 0; --i) {
+            siftDown(indexes, n, i, left, values, c);
+        }
+        /*sort-down while respecting bounds*/
+        while (n - 1 > 0) {
+            swap(indexes, left + n - 1, left);
+            siftDown(indexes, n - 1, 0, left, values, c);
+            --n;
+        }
+    }
+
+    private static <T> void siftDown(int[] indexes, int end, int parent, int low,
+            T[] values, Comparator<? super T> c) {
+        int index = indexes[low + parent];
+        int child = parent * 2 + 1;
+        while (child < end) {
+            if (child + 1 < end
+                    && compare(indexes[low + child + 1], indexes[low + child], values, c) > 0) {
+                ++child; // right child is larger than left one
+            }
+            /*move child up if it is larger than the sifted index*/
+            if (compare(indexes[low + child], index, values, c) > 0) {
+                indexes[low + parent] = indexes[low + child];
+                parent = child;
+                child = 2 * parent + 1;
+            } else {
+                break;
+            }
+        }
+        indexes[low + parent] = index;
+    }
+
+    private static void swap(int[] indexes, int i, int j) {
+        int temp = indexes[j];
+        indexes[j] = indexes[i];
+        indexes[i] = temp;
+    }
+}
@@ -0,0 +1,460 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+import java.util.Comparator;
+import org.sort_search_lib.java.sort.api.InPlaceSort;
+
+/**
+ * Offers a stable Block Merge-Sort algorithm (in the style of WikiSort) to sort
+ * an array consisting of any type in ascending order or by using a specified
+ * {@link Comparator}.
+ *
+ * Short runs are sorted by insertion sort and then merged bottom-up. Merges
+ * whose left run fits into a small buffer of fixed size are done by copying
+ * the left run into that buffer. Longer runs are merged in place: about
+ * {@code 2 * sqrt(n)} distinct values are pulled out of the left run to serve
+ * as internal buffers, the left run is split into blocks of about
+ * {@code sqrt(n)} elements, which are tagged with the values of the first
+ * buffer and rolled through the right run, and each block is merged locally
+ * by using the second buffer as swap space. Finally, the buffers are sorted and
+ * inserted back. If the left run holds fewer distinct values, larger blocks
+ * are used and merged by rotations instead. Each merge takes linear time, so
+ * the whole sort runs in {@code O(n log n)} time using {@code O(1)} memory.
+ *
+ * @author Matthias Fussenegger
+ */
+public final class BlockMergeSort implements InPlaceSort {
+
+    /**
+     * The default number of elements of the buffer that is used for merges.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 512;
+
+    /**
+     * Runs of this length are sorted by insertion sort before merging.
+     */
+    static final int RUN_LENGTH = 16;
+
+    /**
+     * The maximum number of elements of the buffer used for merges.
+     */
+    private final int _cacheSize;
+
+    /**
+     * Creates a new instance which uses a buffer of
+     * {@link #DEFAULT_CACHE_SIZE} elements for merging short runs.
+     */
+    public BlockMergeSort() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Creates a new instance which uses a buffer of the specified size for
+     * merging short runs. A size of zero means that all runs are merged
+     * without any additional memory.
+     *
+     * @param cacheSize the maximum number of elements of the buffer.
+     */
+    public BlockMergeSort(int cacheSize) {
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException("Cache size must not be negative.");
+        }
+        _cacheSize = cacheSize;
+    }
+
+    @Override
+    public <T> void sort(T[] values) {
+        if (values != null && values.length > 1) {
+            sort(values, 0, values.length, Comparators.<T>naturalOrder());
+        }
+    }
+
+    @Override
+    public <T> void sort(T[] values, Comparator<? super T> c) {
+        if (values != null && values.length > 1) {
+            sort(values, 0, values.length, c);
+        }
+    }
+
+    @Override
+    public <T> void sortRange(T[] values, int fromIndex, int toIndex) {
+        Ranges.check(values.length, fromIndex, toIndex);
+        sort(values, fromIndex, toIndex, Comparators.<T>naturalOrder());
+    }
+
+    @Override
+    public <T> void sortRange(T[] values, int fromIndex, int toIndex, Comparator<? super T> c) {
+        Ranges.check(values.length, fromIndex, toIndex);
+        sort(values, fromIndex, toIndex, c);
+    }
+
+    /**
+     * Internal API that sorts the range {@code [low, high)} of the specified
+     * array by using the specified {@link Comparator}.
+     *
+     * @param <T> type of the array elements.
+     * @param values reference to the array that is to be sorted.
+     * @param low the left boundary (inclusive) of the range.
+     * @param high the right boundary (exclusive) of the range.
+     * @param c the {@link Comparator} used to compare the elements.
+     */
+    <T> void sort(T[] values, int low, int high, Comparator<? super T> c) {
+        final int size = high - low;
+        if (size < 2) {
+            return;
+        }
+        for (int i = low; i < high; i += RUN_LENGTH) {
+            InsertionSort.sort(values, i, Math.min(i + RUN_LENGTH, high) - 1, c);
+        }
+        @SuppressWarnings("unchecked")
+        T[] cache = (T[]) new Object[Math.min(_cacheSize, size / 2)]; // never leaves this class
+        for (int width = RUN_LENGTH; width < size; width <<= 1) {
+            for (int start = low; start < high - width; start += width << 1) {
+                int mid = start + width;
+                int end = high - mid > width ? mid + width : high;
+                merge(values, start, mid, end, cache, c);
+            }
+        }
+    }
+
+    /**
+     * Merges the sorted ranges {@code [start, mid)} and {@code [mid, end)}.
+     */
+    private static <T> void merge(T[] values, int start, int mid, int end,
+            T[] cache, Comparator<? super T> c) {
+        if (c.compare(values[mid - 1], values[mid]) <= 0) {
+            return; // already in order
+        }
+        if (c.compare(values[end - 1], values[start]) < 0) {
+            /*all elements of the right run are smaller*/
+            rotate(values, mid - start, start, end, cache);
+        } else if (mid - start <= cache.length) {
+            mergeExternal(values, start, mid, end, cache, c);
+        } else {
+            blockMerge(values, start, mid, end, cache, c);
+        }
+    }
+
+    /**
+     * Merges the sorted ranges {@code [start, mid)} and {@code [mid, end)} by
+     * copying the left range into the specified cache first.
+     */
+    private static <T> void mergeExternal(T[] values, int start, int mid, int end,
+            T[] cache, Comparator<? super T> c) {
+        final int lengthA = mid - start;
+        System.arraycopy(values, start, cache, 0, lengthA);
+        int a = 0, b = mid, insert = start;
+        while (a < lengthA && b < end) {
+            if (c.compare(values[b], cache[a]) < 0) {
+                values[insert++] = values[b++];
+            } else {
+                values[insert++] = cache[a++];
+            }
+        }
+        System.arraycopy(cache, a, values, insert, lengthA - a);
+    }
+
+    /**
+     * Merges the sorted ranges {@code [start, mid)} and {@code [mid, end)} in
+     * place by using internal buffers taken from the left range.
+     */
+    private static <T> void blockMerge(T[] values, int start, int mid, int end,
+            T[] cache, Comparator<? super T> c) {
+        final int bufferSize = (int) Math.sqrt(mid - start) + 1;
+        final int count = pullOutUnique(values, start, mid, bufferSize * 2, cache, c);
+        final int a = start + count;
+        if (count == bufferSize * 2) {
+            /*two buffers: the second one holds the blocks which are merged*/
+            int blockSize = (mid - a) / bufferSize + 1;
+            mergeBlocks(values, a, mid, end, start, a - bufferSize, blockSize, cache, c);
+            InsertionSort.sort(values, a - bufferSize, a - 1, c);
+        } else {
+            /*there are only count distinct values, so each of the larger
+            blocks can be merged by a few rotations*/
+            int blockSize = (mid - a) / count + 1;
+            mergeBlocks(values, a, mid, end, start, -1, blockSize, cache, c);
+        }
+        redistribute(values, start, a, end, cache, c);
+    }
+
+    /**
+     * Moves up to {@code find} distinct values of the sorted range
+     * {@code [start, end)} to the front of it. Of equal elements, the first
+     * one is taken, and the remaining elements stay sorted.
+     *
+     * @return the number of values that have been moved to the front.
+     */
+    private static <T> int pullOutUnique(T[] values, int start, int end, int find,
+            T[] cache, Comparator<? super T> c) {
+        int bufferStart = start, bufferEnd = start + 1;
+        while (bufferEnd - bufferStart < find) {
+            int next = binaryLast(values, values[bufferEnd - 1], bufferEnd, end, c);
+            if (next == end) {
+                break;
+            }
+            /*roll the buffer over the duplicates of its last value*/
+            rotate(values, bufferEnd - bufferStart, bufferStart, next, cache);
+            bufferStart += next - bufferEnd;
+            bufferEnd = next + 1;
+        }
+        rotate(values, bufferStart - start, start, bufferEnd, cache);
+        return bufferEnd - bufferStart;
+    }
+
+    /**
+     * Inserts the sorted distinct values of {@code [start, mid)}, which have
+     * been taken from the left run, into the sorted range {@code [mid, end)}.
+     * Each value is placed before all elements that are equal to it.
+     */
+    private static <T> void redistribute(T[] values, int start, int mid, int end,
+            T[] cache, Comparator<? super T> c) {
+        int bufferStart = start, bufferEnd = mid;
+        while (bufferStart < bufferEnd) {
+            int index = binaryFirst(values, values[bufferStart], bufferEnd, end, c);
+            int amount = index - bufferEnd;
+            rotate(values, bufferEnd - bufferStart, bufferStart, index, cache);
+            bufferStart += amount + 1;
+            bufferEnd += amount;
+        }
+    }
+
+    /**
+     * Merges the sorted ranges {@code [start, mid)} and {@code [mid, end)} by
+     * rolling the blocks of the left range through the right range. The
+     * elements of the first buffer are used to tag the blocks, so that their
+     * original order is known. If the second buffer is available, it must be
+     * able to hold a block and is used to merge the blocks locally, which
+     * jumbles its elements. Otherwise, the blocks are merged by rotations.
+     *
+     * @param buffer1 the start of the first buffer.
+     * @param buffer2 the start of the second buffer, or -1 if there is none.
+     * @param blockSize the number of elements of each block.
+     */
+    private static <T> void mergeBlocks(T[] values, int start, int mid, int end,
+            int buffer1, int buffer2, int blockSize, T[] cache, Comparator<? super T> c) {
+        final boolean hasBuffer2 = buffer2 >= 0;
+        /*the first block is unevenly sized and does not need a tag*/
+        int blockAStart = start + (mid - start) % blockSize;
+        int blockAEnd = mid;
+        for (int i = blockAStart, tag = buffer1; i < blockAEnd; i += blockSize) {
+            swap(values, i, tag++);
+        }
+
+        int lastAStart = start, lastAEnd = blockAStart;
+        int lastBStart = blockAStart, lastBEnd = blockAStart;
+        int blockBStart = mid, blockBEnd = mid + Math.min(blockSize, end - mid);
+        int indexA = buffer1;
+        if (hasBuffer2) {
+            blockSwap(values, lastAStart, buffer2, lastAEnd - lastAStart);
+        }
+
+        while (blockAStart < blockAEnd) {
+            if (blockBStart == blockBEnd || (lastBStart < lastBEnd
+                    && c.compare(values[lastBEnd - 1], values[indexA]) >= 0)) {
+                /*drop the minimum block behind and split the previous B block*/
+                int splitB = binaryFirst(values, values[indexA], lastBStart, lastBEnd, c);
+                int remainingB = lastBEnd - splitB;
+
+                int minA = blockAStart;
+                for (int i = minA + blockSize; i < blockAEnd; i += blockSize) {
+                    if (c.compare(values[i], values[minA]) < 0) {
+                        minA = i;
+                    }
+                }
+                blockSwap(values, blockAStart, minA, blockSize);
+                swap(values, blockAStart, indexA++); // restore the tagged value
+
+                /*merge the previous A block with the B values that follow it*/
+                if (hasBuffer2) {
+                    mergeInternal(values, lastAStart, lastAEnd, splitB, buffer2, c);
+                    /*the block is kept in the second buffer until it is
+                    merged, so the rest of the B block can be swapped*/
+                    blockSwap(values, blockAStart, buffer2, blockSize);
+                    blockSwap(values, splitB, blockAStart + blockSize - remainingB, remainingB);
+                } else {
+                    mergeInPlace(values, lastAStart, lastAEnd, splitB, cache, c);
+                    rotate(values, blockAStart - splitB, splitB, blockAStart + blockSize, cache);
+                }
+
+                lastAStart = blockAStart - remainingB;
+                lastAEnd = lastAStart + blockSize;
+                lastBStart = lastAEnd;
+                lastBEnd = lastAEnd + remainingB;
+                blockAStart += blockSize;
+            } else if (blockBEnd - blockBStart < blockSize) {
+                /*move the last B block, which is unevenly sized, before the
+                remaining A blocks*/
+                int lengthB = blockBEnd - blockBStart;
+                rotate(values, blockAEnd - blockAStart, blockAStart, blockBEnd, cache);
+                lastBStart = blockAStart;
+                lastBEnd = blockAStart + lengthB;
+                blockAStart += lengthB;
+                blockAEnd += lengthB;
+                blockBEnd = blockBStart;
+            } else {
+                /*roll the leftmost A block to the end by swapping it with
+                the next B block*/
+                blockSwap(values, blockAStart, blockBStart, blockSize);
+                lastBStart = blockAStart;
+                lastBEnd = blockAStart + blockSize;
+                blockAStart += blockSize;
+                blockAEnd += blockSize;
+                blockBStart += blockSize;
+                blockBEnd = end - blockBEnd > blockSize ? blockBEnd + blockSize : end;
+            }
+        }
+
+        /*merge the last A block with the remaining B values*/
+        if (hasBuffer2) {
+            mergeInternal(values, lastAStart, lastAEnd, end, buffer2, c);
+        } else {
+            mergeInPlace(values, lastAStart, lastAEnd, end, cache, c);
+        }
+    }
+
+    /**
+     * Merges the range {@code [start, mid)}, the elements of which are held by
+     * the buffer, with the sorted range {@code [mid, end)}. Elements are swapped
+     * into place, so the buffer retains its elements in a different order.
+     */
+    private static <T> void mergeInternal(T[] values, int start, int mid, int end,
+            int buffer, Comparator<? super T> c) {
+        final int lengthA = mid - start;
+        int a = 0, b = mid, insert = start;
+        if (lengthA > 0 && b < end) {
+            while (true) {
+                if (c.compare(values[b], values[buffer + a]) >= 0) {
+                    swap(values, insert++, buffer + a++);
+                    if (a == lengthA) {
+                        break;
+                    }
+                } else {
+                    swap(values, insert++, b++);
+                    if (b == end) {
+                        break;
+                    }
+                }
+            }
+        }
+        blockSwap(values, buffer + a, insert, lengthA - a);
+    }
+
+    /**
+     * Merges the sorted ranges {@code [start, mid)} and {@code [mid, end)} by
+     * rotating the smaller elements of the right range before each group of
+     * equal elements of the left range.
+     */
+    private static <T> void mergeInPlace(T[] values, int start, int mid, int end,
+            T[] cache, Comparator<? super T> c) {
+        while (start < mid && mid < end) {
+            int index = binaryFirst(values, values[start], mid, end, c);
+            int amount = index - mid;
+            rotate(values, mid - start, start, index, cache);
+            start += amount;
+            mid = index;
+            start = binaryLast(values, values[start], start, mid, c);
+        }
+    }
+
+    /**
+     * Returns the index of the first element of the sorted range
+     * {@code [start, end)} that is not smaller than the specified value.
+     */
+    private static <T> int binaryFirst(T[] values, T value, int start, int end,
+            Comparator<? super T> c) {
+        while (start < end) {
+            int middle = (start + end) >>> 1;
+            if (c.compare(values[middle], value) < 0) {
+                start = middle + 1;
+            } else {
+                end = middle;
+            }
+        }
+        return start;
+    }
+
+    /**
+     * Returns the index of the first element of the sorted range
+     * {@code [start, end)} that is bigger than the specified value.
+     */
+    private static <T> int binaryLast(T[] values, T value, int start, int end,
+            Comparator<? super T> c) {
+        while (start < end) {
+            int middle = (start + end) >>> 1;
+            if (c.compare(values[middle], value) <= 0) {
+                start = middle + 1;
+            } else {
+                end = middle;
+            }
+        }
+        return start;
+    }
+
+    /**
+     * Rotates the range {@code [start, end)} to the left by the specified
+     * amount. The cache is used if the smaller part fits into it.
+     */
+    private static <T> void rotate(T[] values, int amount, int start, int end, T[] cache) {
+        final int lengthA = amount, lengthB = end - start - amount;
+        if (lengthA == 0 || lengthB == 0) {
+            return;
+        }
+        if (lengthA <= cache.length && lengthA <= lengthB) {
+            System.arraycopy(values, start, cache, 0, lengthA);
+            System.arraycopy(values, start + lengthA, values, start, lengthB);
+            System.arraycopy(cache, 0, values, start + lengthB, lengthA);
+        } else if (lengthB <= cache.length) {
+            System.arraycopy(values, start + lengthA, cache, 0, lengthB);
+            System.arraycopy(values, start, values, start + lengthB, lengthA);
+            System.arraycopy(cache, 0, values, start, lengthB);
+        } else {
+            reverse(values, start, start + lengthA);
+            reverse(values, start + lengthA, end);
+            reverse(values, start, end);
+        }
+    }
+
+    private static <T> void reverse(T[] values, int start, int end) {
+        for (--end; start < end; ++start, --end) {
+            swap(values, start, end);
+        }
+    }
+
+    /**
+     * Swaps the elements of the non-overlapping ranges starting at {@code i}
+     * and {@code j}, both of the specified length.
+     */
+    private static <T> void blockSwap(T[] values, int i, int j, int length) {
+        for (int k = 0; k < length; ++k) {
+            swap(values, i + k, j + k);
+        }
+    }
+
+    private static <T> void swap(T[] values, int i, int j) {
+        T temp = values[i];
+        values[i] = values[j];
+        values[j] = temp;
+    }
+}
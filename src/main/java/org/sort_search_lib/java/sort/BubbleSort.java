@@ -35,37 +35,77 @@ import org.sort_search_lib.java.sort.api.InPlaceSort;
 public final class BubbleSort implements InPlaceSort {
 
     @Override
-    @SuppressWarnings("unchecked")
     public <T> void sort(T[] values) {
         if (values != null && values.length > 1) {
-            boolean isDone = false;
-            for (int n = values.length; n > 1 && !isDone; --n) {
-                isDone = true;
-                for (int j = 0; j < n - 1; ++j) {
-                    if (((Comparable<? super T>) values[j]).compareTo(values[j + 1]) > 0) {
-                        T temp = values[j];
-                        values[j] = values[j + 1];
-                        values[j + 1] = temp;
-                        isDone = false;
-                    }
-                }
-            }
+            bubbleSortComparable(values, 0, values.length - 1);
         }
     }
 
     @Override
     public <T> void sort(T[] values, Comparator<? super T> c) {
         if (values != null && values.length > 1) {
-            boolean isDone = false;
-            for (int n = values.length; n > 1 && !isDone; --n) {
-                isDone = true;
-                for (int j = 0; j < n - 1; ++j) {
-                    if (c.compare(values[j], values[j + 1]) > 0) {
-                        T temp = values[j];
-                        values[j] = values[j + 1];
-                        values[j + 1] = temp;
-                        isDone = false;
-                    }
+            bubbleSortUsingComparator(values, 0, values.length - 1, c);
+        }
+    }
+
+    @Override
+    public <T> void sortRange(T[] values, int fromIndex, int toIndex) {
+        Ranges.check(values.length, fromIndex, toIndex);
+        bubbleSortComparable(values, fromIndex, toIndex - 1);
+    }
+
+    @Override
+    public <T> void sortRange(T[] values, int fromIndex, int toIndex, Comparator<? super T> c) {
+        Ranges.check(values.length, fromIndex, toIndex);
+        bubbleSortUsingComparator(values, fromIndex, toIndex - 1, c);
+    }
+
+    /**
+     * Main method of Bubble-Sort using the natural ordering of the array
+     * elements for sorting. Both boundaries are considered inclusively.
+     *
+     * @param <T> type of the array elements.
+     * @param values the array to be sorted.
+     * @param left the left boundary of the array.
+     * @param right the right boundary of the array.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> void bubbleSortComparable(T[] values, int left, int right) {
+        boolean isDone = false;
+        for (int n = right + 1; n > left + 1 && !isDone; --n) {
+            isDone = true;
+            for (int j = left; j < n - 1; ++j) {
+                if (((Comparable<? super T>) values[j]).compareTo(values[j + 1]) > 0) {
+                    T temp = values[j];
+                    values[j] = values[j + 1];
+                    values[j + 1] = temp;
+                    isDone = false;
+                }
+            }
+        }
+    }
+
+    /**
+     * Main method of Bubble-Sort using the specified comparator for sorting the
+     * elements in the array. Both boundaries are considered inclusively.
+     *
+     * @param <T> type of the array elements.
+     * @param values the array to be sorted.
+     * @param left the left boundary of the array.
+     * @param right the right boundary of the array.
+     * @param c the comparator used for sorting the array.
+     */
+    private <T> void bubbleSortUsingComparator(T[] values, int left, int right,
+            Comparator<? super T> c) {
+        boolean isDone = false;
+        for (int n = right + 1; n > left + 1 && !isDone; --n) {
+            isDone = true;
+            for (int j = left; j < n - 1; ++j) {
+                if (c.compare(values[j], values[j + 1]) > 0) {
+                    T temp = values[j];
+                    values[j] = values[j + 1];
+                    values[j + 1] = temp;
+                    isDone = false;
                 }
             }
         }
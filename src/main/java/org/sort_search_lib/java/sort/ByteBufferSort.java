@@ -0,0 +1,325 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.sort_search_lib.java.sort.api.InPlaceSort;
+
+/**
+ * Offers the Intro-Sort algorithm to sort fixed-width records which are
+ * stored in a {@link ByteBuffer}, e.g. a direct or a mapped buffer, in
+ * ascending order of a key. The key is located at the same offset within each
+ * record and is either a sequence of unsigned bytes, which are compared
+ * lexicographically, or a signed {@code int} or {@code long} value, which is
+ * read in the byte order of the buffer.
+ *
+ * Records are compared and swapped directly within the buffer by using
+ * absolute positions, so neither objects are created for the records nor are
+ * the records copied to the heap. Like {@link IntroSort}, the sort is not
+ * stable and runs in {@code O(n log n)} time, as ranges which exceed the
+ * maximum recursion depth are sorted by heap sort instead.
+ *
+ * @author Matthias Fussenegger
+ */
+public final class ByteBufferSort {
+
+    /**
+     * The type of the key by which records are sorted.
+     */
+    public enum KeyType {
+        /**
+         * A sequence of bytes compared lexicographically as unsigned values.
+         */
+        UNSIGNED_BYTES,
+        /**
+         * A signed {@code int} value of four bytes.
+         */
+        INT,
+        /**
+         * A signed {@code long} value of eight bytes.
+         */
+        LONG
+    }
+
+    private final int _recordWidth;
+
+    private final int _keyOffset;
+
+    private final int _keyLength;
+
+    private final KeyType _keyType;
+
+    /**
+     * Creates a new instance that sorts records by a key of the specified
+     * type. The key of type {@link KeyType#UNSIGNED_BYTES} extends to the end
+     * of the record.
+     *
+     * @param recordWidth the number of bytes of each record.
+     * @param keyOffset the offset of the key within each record.
+     * @param keyType the type of the key.
+     */
+    public ByteBufferSort(int recordWidth, int keyOffset, KeyType keyType) {
+        this(recordWidth, keyOffset, keyLength(keyType, recordWidth, keyOffset), keyType);
+    }
+
+    /**
+     * Creates a new instance that sorts records by a key which consists of
+     * the specified number of unsigned bytes.
+     *
+     * @param recordWidth the number of bytes of each record.
+     * @param keyOffset the offset of the key within each record.
+     * @param keyLength the number of bytes of the key.
+     */
+    public ByteBufferSort(int recordWidth, int keyOffset, int keyLength) {
+        this(recordWidth, keyOffset, keyLength, KeyType.UNSIGNED_BYTES);
+    }
+
+    private ByteBufferSort(int recordWidth, int keyOffset, int keyLength, KeyType keyType) {
+        if (recordWidth < 1) {
+            throw new IllegalArgumentException("recordWidth must be positive");
+        }
+        if (keyOffset < 0 || keyLength < 1 || keyLength > recordWidth - keyOffset) {
+            throw new IllegalArgumentException("key must be within the record");
+        }
+        _recordWidth = recordWidth;
+        _keyOffset = keyOffset;
+        _keyLength = keyLength;
+        _keyType = keyType;
+    }
+
+    private static int keyLength(KeyType keyType, int recordWidth, int keyOffset) {
+        if (keyType == null) {
+            throw new NullPointerException("keyType must not be null");
+        }
+        switch (keyType) {
+            case INT:
+                return Integer.BYTES;
+            case LONG:
+                return Long.BYTES;
+            default:
+                return recordWidth - keyOffset;
+        }
+    }
+
+    /**
+     * Sorts the records between the position and the limit of the specified
+     * buffer. Neither the position nor the limit of the buffer is changed.
+     *
+     * @param buffer the buffer holding the records to be sorted.
+     * @throws IllegalArgumentException if the number of remaining bytes is not
+     * a multiple of the record width.
+     */
+    public void sort(ByteBuffer buffer) {
+        if (buffer != null) {
+            if (buffer.remaining() % _recordWidth != 0) {
+                throw new IllegalArgumentException(
+                        "remaining bytes are not a multiple of the record width");
+            }
+            int length = buffer.remaining() / _recordWidth;
+            if (length > 1) {
+                Records records = new Records(buffer);
+                records.introsort(0, length - 1, IntroSort.calculateMaxDepth(length));
+            }
+        }
+    }
+
+    /**
+     * Gives access to the records of a buffer by their index. Indexes are
+     * relative to the position of the buffer.
+     */
+    private final class Records {
+
+        private final ByteBuffer _buffer;
+
+        private final int _base;
+
+        private final boolean _bigEndian;
+
+        Records(ByteBuffer buffer) {
+            _buffer = buffer;
+            _base = buffer.position();
+            _bigEndian = buffer.order() == ByteOrder.BIG_ENDIAN;
+        }
+
+        void introsort(int left, int right, int maxDepth) {
+            if (left < right) {
+                if (maxDepth == 0) {
+                    heapSort(left, right);
+                } else if (right - left < InPlaceSort.SIZE_THRESHOLD) {
+                    insertionSort(left, right);
+                } else {
+                    int pivot = divide(left, right);
+                    introsort(left, pivot - 1, maxDepth - 1);
+                    introsort(pivot + 1, right, maxDepth - 1);
+                }
+            }
+        }
+
+        /**
+         * Partitions the records like {@link Quicksort#divide(int, int, int[])}
+         * does, using the median of three records as pivot.
+         */
+        private int divide(int left, int right) {
+            int median = medianOfThree(left, right);
+            int i = left, j = right - 1; // j is record to the left of pivot
+            swap(median, right); // swap median record to rightmost position
+
+            while (true) {
+                /*search record from the left, which is not smaller than pivot*/
+                while (compare(i, right) < 0) {
+                    ++i;
+                }
+
+                /*search record from the right, which is not bigger than pivot*/
+                while (compare(j, right) > 0 && j > left) {
+                    --j;
+                }
+
+                if (i >= j) {
+                    break;
+                }
+                swap(i, j);
+                ++i;
+                --j;
+            }
+
+            /*swap pivot with new final position*/
+            swap(i, right);
+            return i; // return position of pivot
+        }
+
+        private int medianOfThree(int left, int right) {
+            int mid = (left + right) >>> 1;
+            if (compare(right, left) < 0) {
+                swap(right, left);
+            }
+            if (compare(right, mid) < 0) {
+                swap(right, mid);
+            }
+            if (compare(mid, left) < 0) {
+                swap(mid, left);
+            }
+            return mid;
+        }
+
+        private void insertionSort(int left, int right) {
+            for (int i = left + 1; i <= right; ++i) {
+                for (int j = i; j > left && compare(j - 1, j) > 0; --j) {
+                    swap(j - 1, j);
+                }
+            }
+        }
+
+        private void heapSort(int left, int right) {
+            int n = (right + 1) - left;
+            /*heapify while respecting bounds*/
+            for (int i = n / 2; i >= 0; --i) {
+                siftDown(n, i, left);
+            }
+            /*sort-down while respecting bounds*/
+            while (n - 1 > 0) {
+                swap(left + n - 1, left);
+                siftDown(n - 1, 0, left);
+                --n;
+            }
+        }
+
+        private void siftDown(int end, int parent, int low) {
+            int child = parent * 2 + 1;
+            while (child < end) {
+                if (child + 1 < end && compare(low + child + 1, low + child) > 0) {
+                    ++child; // right child is larger than left one
+                }
+                if (compare(low + child, low + parent) > 0) {
+                    swap(low + child, low + parent);
+                    parent = child;
+                    child = 2 * parent + 1;
+                } else {
+                    break;
+                }
+            }
+        }
+
+        /**
+         * Compares the keys of the records at the specified indexes.
+         */
+        private int compare(int i, int j) {
+            int a = _base + i * _recordWidth + _keyOffset;
+            int b = _base + j * _recordWidth + _keyOffset;
+            switch (_keyType) {
+                case INT:
+                    return Integer.compare(_buffer.getInt(a), _buffer.getInt(b));
+                case LONG:
+                    return Long.compare(_buffer.getLong(a), _buffer.getLong(b));
+                default:
+                    return compareUnsignedBytes(a, b);
+            }
+        }
+
+        private int compareUnsignedBytes(int a, int b) {
+            int k = 0;
+            /*compare eight bytes at once, as a big-endian value*/
+            for (; k <= _keyLength - Long.BYTES; k += Long.BYTES) {
+                long x = _buffer.getLong(a + k), y = _buffer.getLong(b + k);
+                if (x != y) {
+                    if (!_bigEndian) {
+                        x = Long.reverseBytes(x);
+                        y = Long.reverseBytes(y);
+                    }
+                    return Long.compareUnsigned(x, y);
+                }
+            }
+            for (; k < _keyLength; ++k) {
+                int x = _buffer.get(a + k) & 0xFF, y = _buffer.get(b + k) & 0xFF;
+                if (x != y) {
+                    return x - y;
+                }
+            }
+            return 0;
+        }
+
+        /**
+         * Swaps the records at the specified indexes, eight bytes at once.
+         */
+        private void swap(int i, int j) {
+            if (i == j) {
+                return;
+            }
+            int a = _base + i * _recordWidth;
+            int b = _base + j * _recordWidth;
+            int k = 0;
+            for (; k <= _recordWidth - Long.BYTES; k += Long.BYTES) {
+                long temp = _buffer.getLong(a + k);
+                _buffer.putLong(a + k, _buffer.getLong(b + k));
+                _buffer.putLong(b + k, temp);
+            }
+            for (; k < _recordWidth; ++k) {
+                byte temp = _buffer.get(a + k);
+                _buffer.put(a + k, _buffer.get(b + k));
+                _buffer.put(b + k, temp);
+            }
+        }
+    }
+}
@@ -33,53 +33,94 @@ import org.sort_search_lib.java.sort.api.InPlaceSort;
 public final class CocktailShakerSort implements InPlaceSort {
 
     @Override
-    @SuppressWarnings("unchecked")
     public <T> void sort(T[] values) {
         if (values != null && values.length > 1) {
-            boolean isDone = false;
-            while (!isDone) { // is sorted if no elements have been swapped
-                isDone = true;
-                for (int i = 0; i < values.length - 2; ++i) {
-                    if (((Comparable<? super T>) values[i]).compareTo(values[i + 1]) > 0) {
-                        swap(values, i, i + 1);
-                        isDone = false;
-                    }
-                }
-                if (isDone) {
-                    break;
-                }
-                isDone = true;
-                for (int i = values.length - 2; i > 0; --i) {
-                    if (((Comparable<? super T>) values[i]).compareTo(values[i + 1]) > 0) {
-                        swap(values, i, i + 1);
-                        isDone = false;
-                    }
-                }
-            }
+            cocktailShakerSortComparable(values, 0, values.length - 1);
         }
     }
 
     @Override
     public <T> void sort(T[] values, Comparator<? super T> c) {
         if (values != null && values.length > 1) {
-            boolean isDone = false;
-            while (!isDone) { // is sorted if no elements have been swapped
-                isDone = true;
-                for (int i = 0; i < values.length - 2; ++i) {
-                    if (c.compare(values[i], values[i + 1]) > 0) {
-                        swap(values, i, i + 1);
-                        isDone = false;
-                    }
+            cocktailShakerSortUsingComparator(values, 0, values.length - 1, c);
+        }
+    }
+
+    @Override
+    public <T> void sortRange(T[] values, int fromIndex, int toIndex) {
+        Ranges.check(values.length, fromIndex, toIndex);
+        cocktailShakerSortComparable(values, fromIndex, toIndex - 1);
+    }
+
+    @Override
+    public <T> void sortRange(T[] values, int fromIndex, int toIndex, Comparator<? super T> c) {
+        Ranges.check(values.length, fromIndex, toIndex);
+        cocktailShakerSortUsingComparator(values, fromIndex, toIndex - 1, c);
+    }
+
+    /**
+     * Main method of Cocktail-Shaker-Sort using the natural ordering of the
+     * array elements for sorting. Both boundaries are considered inclusively.
+     *
+     * @param <T> type of the array elements.
+     * @param values the array to be sorted.
+     * @param left the left boundary of the array.
+     * @param right the right boundary of the array.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> void cocktailShakerSortComparable(T[] values, int left, int right) {
+        boolean isDone = false;
+        while (!isDone) { // is sorted if no elements have been swapped
+            isDone = true;
+            for (int i = left; i < right; ++i) {
+                if (((Comparable<? super T>) values[i]).compareTo(values[i + 1]) > 0) {
+                    swap(values, i, i + 1);
+                    isDone = false;
+                }
+            }
+            if (isDone) {
+                break;
+            }
+            isDone = true;
+            for (int i = right - 1; i >= left; --i) {
+                if (((Comparable<? super T>) values[i]).compareTo(values[i + 1]) > 0) {
+                    swap(values, i, i + 1);
+                    isDone = false;
                 }
-                if (isDone) {
-                    break;
+            }
+        }
+    }
+
+    /**
+     * Main method of Cocktail-Shaker-Sort using the specified comparator for
+     * sorting the elements in the array. Both boundaries are considered
+     * inclusively.
+     *
+     * @param <T> type of the array elements.
+     * @param values the array to be sorted.
+     * @param left the left boundary of the array.
+     * @param right the right boundary of the array.
+     * @param c the comparator used for sorting the array.
+     */
+    private <T> void cocktailShakerSortUsingComparator(T[] values, int left, int right,
+            Comparator<? super T> c) {
+        boolean isDone = false;
+        while (!isDone) { // is sorted if no elements have been swapped
+            isDone = true;
+            for (int i = left; i < right; ++i) {
+                if (c.compare(values[i], values[i + 1]) > 0) {
+                    swap(values, i, i + 1);
+                    isDone = false;
                 }
-                isDone = true;
-                for (int i = values.length - 2; i > 0; --i) {
-                    if (c.compare(values[i], values[i + 1]) > 0) {
-                        swap(values, i, i + 1);
-                        isDone = false;
-                    }
+            }
+            if (isDone) {
+                break;
+            }
+            isDone = true;
+            for (int i = right - 1; i >= left; --i) {
+                if (c.compare(values[i], values[i + 1]) > 0) {
+                    swap(values, i, i + 1);
+                    isDone = false;
                 }
             }
         }
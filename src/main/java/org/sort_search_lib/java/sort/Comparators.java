@@ -0,0 +1,64 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+import java.util.Comparator;
+
+/**
+ * Helper methods for working with {@link Comparator} instances.
+ *
+ * @author Matthias Fussenegger
+ */
+final class Comparators {
+
+    /**
+     * Comparator which compares elements by their natural ordering.
+     */
+    private static final Comparator<Object> NATURAL_ORDER = new Comparator<Object>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public int compare(Object v1, Object v2) {
+            return ((Comparable<Object>) v1).compareTo(v2);
+        }
+    };
+
+    private Comparators() {
+        throw new AssertionError(); // holds static methods only
+    }
+
+    /**
+     * Returns a comparator which compares elements by their natural ordering.
+     * Unlike {@link Comparator#naturalOrder()} the type of the elements is not
+     * bound to {@link Comparable}, which allows algorithms to share a single
+     * implementation for both kinds of sorts offered by this library. The
+     * elements still have to implement {@link Comparable} at runtime.
+     *
+     * @param <T> type of the elements to be compared.
+     * @return a comparator using the natural ordering of the elements.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Comparator<T> naturalOrder() {
+        return (Comparator<T>) NATURAL_ORDER;
+    }
+}
@@ -25,14 +25,23 @@ package org.sort_search_lib.java.sort;
 
 import java.util.Comparator;
 import org.sort_search_lib.java.sort.api.InPlaceSort;
+import org.sort_search_lib.java.sort.api.PrimitiveSort;
 
 /**
  * Offers the Quick-Sort algorithm (dual pivot) to sort an array consisting of
- * any type in ascending order or by using a specified Comparator.
+ * any type in ascending order or by using a specified Comparator. Arrays of
+ * primitive values are sorted by dedicated kernels, without boxing them. These
+ * kernels fall back to {@link HeapSort} if the recursion gets too deep.
  *
  * @author Matthias Fussenegger
  */
-public class DualPivotQuicksort implements InPlaceSort {
+public class DualPivotQuicksort implements InPlaceSort, PrimitiveSort {
+
+    /**
+     * Heap sort instance used for arrays of primitive values if the
+     * recursion gets too deep.
+     */
+    private final HeapSort _heapSort = new HeapSort();
 
     @Override
     public <T> void sort(T[] values) {
@@ -52,6 +61,18 @@ public class DualPivotQuicksort implements InPlaceSort {
         }
     }
 
+    @Override
+    public <T> void sortRange(T[] values, int fromIndex, int toIndex) {
+        Ranges.check(values.length, fromIndex, toIndex);
+        dualPivotQuicksortComparable(fromIndex, toIndex - 1, values);
+    }
+
+    @Override
+    public <T> void sortRange(T[] values, int fromIndex, int toIndex, Comparator<? super T> c) {
+        Ranges.check(values.length, fromIndex, toIndex);
+        dualPivotQuicksortUsingComparator(fromIndex, toIndex - 1, c, values);
+    }
+
     /**
      * Performs an insertion sort for tiny arrays ({@code < 27}).
      *
@@ -82,53 +103,19 @@ public class DualPivotQuicksort implements InPlaceSort {
      * @param values the array to be sorted.
      * @param c the comparator used for sorting the array.
      */
-    private <T> void dualPivotQuicksortUsingComparator(int left, int right,
+    <T> void dualPivotQuicksortUsingComparator(int left, int right,
             Comparator<? super T> c, T[] values) {
         if (left < right) {
             if (right - left < SIZE_THRESHOLD) {
                 InsertionSort.sort(values, left, right, c);
                 return;
             }
-            // set and choose outermost elements as pivots
-            if (c.compare(values[left], values[right]) > 0) {
-                swap(values, left, right);
-            }
-            T pivot1 = values[left];
-            T pivot2 = values[right];
-
-            // partition
-            int less = left + 1;
-            int great = right - 1;
-            for (int k = less; k <= great; ++k) {
-                if (c.compare(values[k], pivot1) < 0) {
-                    swap(values, k, less);
-                    ++less;
-                } else if (c.compare(values[k], pivot2) >= 0) {
-                    while (c.compare(values[great], pivot2) > 0) {
-                        if (k >= great) {
-                            break;
-                        }
-                        --great;
-                    }
-                    swap(values, k, great);
-                    --great;
-                    if (c.compare(values[k], pivot1) < 0) {
-                        swap(values, k, less);
-                        ++less;
-                    }
-                }
-            }
-            --less;
-            ++great;
-
-            // position pivots
-            swap(values, left, less);
-            swap(values, right, great);
+            int[] pivots = partitionUsingComparator(left, right, c, values);
 
             // sort partitions
-            dualPivotQuicksortUsingComparator(left, less - 1, c, values);
-            dualPivotQuicksortUsingComparator(less + 1, great - 1, c, values);
-            dualPivotQuicksortUsingComparator(great + 1, right, c, values);
+            dualPivotQuicksortUsingComparator(left, pivots[0] - 1, c, values);
+            dualPivotQuicksortUsingComparator(pivots[0] + 1, pivots[1] - 1, c, values);
+            dualPivotQuicksortUsingComparator(pivots[1] + 1, right, c, values);
         }
     }
 
@@ -141,54 +128,128 @@ public class DualPivotQuicksort implements InPlaceSort {
      * @param values the array to be sorted.
      * @param right the right boundary of the array.
      */
-    @SuppressWarnings("unchecked")
-    private <T> void dualPivotQuicksortComparable(int left, int right, T[] values) {
+    <T> void dualPivotQuicksortComparable(int left, int right, T[] values) {
         if (left < right) {
             if (right - left < SIZE_THRESHOLD) {
                 InsertionSort.sort(values, left, right);
                 return;
             }
-            // set and choose outermost elements as pivots
-            if (((Comparable<? super T>) values[left]).compareTo(values[right]) > 0) {
-                swap(values, left, right);
-            }
-            T pivot1 = values[left];
-            T pivot2 = values[right];
+            int[] pivots = partitionComparable(left, right, values);
 
-            // partition
-            int less = left + 1;
-            int great = right - 1;
-            for (int k = less; k <= great; ++k) {
-                if (((Comparable<? super T>) values[k]).compareTo(pivot1) < 0) {
-                    swap(values, k, less);
-                    ++less;
-                } else if (((Comparable<? super T>) values[k]).compareTo(pivot2) >= 0) {
-                    while (((Comparable<? super T>) values[great]).compareTo(pivot2) > 0) {
-                        if (k >= great) {
-                            break;
-                        }
-                        --great;
+            // sort partitions
+            dualPivotQuicksortComparable(left, pivots[0] - 1, values);
+            dualPivotQuicksortComparable(pivots[0] + 1, pivots[1] - 1, values);
+            dualPivotQuicksortComparable(pivots[1] + 1, right, values);
+        }
+    }
+
+    /**
+     * The partition method used by {@code dualPivotQuicksortUsingComparator}.
+     * The pivots are taken from the tertiles of the specified range, so that
+     * presorted input is still split into three parts of similar size.
+     *
+     * @param <T> type of the array elements.
+     * @param left the left boundary of the array.
+     * @param right the right boundary of the array.
+     * @param c the comparator used for sorting the array.
+     * @param values the array to be sorted.
+     * @return the new positions of both pivot elements.
+     */
+    <T> int[] partitionUsingComparator(int left, int right,
+            Comparator<? super T> c, T[] values) {
+        // set and choose elements at the tertiles as pivots
+        int third = (right - left) / 3;
+        swap(values, left, left + third);
+        swap(values, right, right - third);
+        if (c.compare(values[left], values[right]) > 0) {
+            swap(values, left, right);
+        }
+        T pivot1 = values[left];
+        T pivot2 = values[right];
+
+        // partition
+        int less = left + 1;
+        int great = right - 1;
+        for (int k = less; k <= great; ++k) {
+            if (c.compare(values[k], pivot1) < 0) {
+                swap(values, k, less);
+                ++less;
+            } else if (c.compare(values[k], pivot2) >= 0) {
+                while (c.compare(values[great], pivot2) > 0) {
+                    if (k >= great) {
+                        break;
                     }
-                    swap(values, k, great);
                     --great;
-                    if (((Comparable<? super T>) values[k]).compareTo(pivot1) < 0) {
-                        swap(values, k, less);
-                        ++less;
-                    }
+                }
+                swap(values, k, great);
+                --great;
+                if (c.compare(values[k], pivot1) < 0) {
+                    swap(values, k, less);
+                    ++less;
                 }
             }
-            --less;
-            ++great;
+        }
+        --less;
+        ++great;
 
-            // position pivots
-            swap(values, left, less);
-            swap(values, right, great);
+        // position pivots
+        swap(values, left, less);
+        swap(values, right, great);
+        return new int[]{less, great};
+    }
 
-            // sort partitions
-            dualPivotQuicksortComparable(left, less - 1, values);
-            dualPivotQuicksortComparable(less + 1, great - 1, values);
-            dualPivotQuicksortComparable(great + 1, right, values);
+    /**
+     * The partition method used by {@code dualPivotQuicksortComparable}. The
+     * pivots are taken from the tertiles of the specified range, so that
+     * presorted input is still split into three parts of similar size.
+     *
+     * @param <T> type of the array elements.
+     * @param left the left boundary of the array.
+     * @param right the right boundary of the array.
+     * @param values the array to be sorted.
+     * @return the new positions of both pivot elements.
+     */
+    @SuppressWarnings("unchecked")
+    <T> int[] partitionComparable(int left, int right, T[] values) {
+        // set and choose elements at the tertiles as pivots
+        int third = (right - left) / 3;
+        swap(values, left, left + third);
+        swap(values, right, right - third);
+        if (((Comparable<? super T>) values[left]).compareTo(values[right]) > 0) {
+            swap(values, left, right);
+        }
+        T pivot1 = values[left];
+        T pivot2 = values[right];
+
+        // partition
+        int less = left + 1;
+        int great = right - 1;
+        for (int k = less; k <= great; ++k) {
+            if (((Comparable<? super T>) values[k]).compareTo(pivot1) < 0) {
+                swap(values, k, less);
+                ++less;
+            } else if (((Comparable<? super T>) values[k]).compareTo(pivot2) >= 0) {
+                while (((Comparable<? super T>) values[great]).compareTo(pivot2) > 0) {
+                    if (k >= great) {
+                        break;
+                    }
+                    --great;
+                }
+                swap(values, k, great);
+                --great;
+                if (((Comparable<? super T>) values[k]).compareTo(pivot1) < 0) {
+                    swap(values, k, less);
+                    ++less;
+                }
+            }
         }
+        --less;
+        ++great;
+
+        // position pivots
+        swap(values, left, less);
+        swap(values, right, great);
+        return new int[]{less, great};
     }
 
     /**
@@ -204,4 +265,678 @@ public class DualPivotQuicksort implements InPlaceSort {
         values[j] = values[i];
         values[i] = temp;
     }
+
+    @Override
+    public void sort(int[] values) {
+        if (values != null && values.length > 1) {
+            dualPivotQuicksort(0, values.length - 1,
+                    IntroSort.calculateMaxDepth(values.length), values);
+        }
+    }
+
+    @Override
+    public void sort(long[] values) {
+        if (values != null && values.length > 1) {
+            dualPivotQuicksort(0, values.length - 1,
+                    IntroSort.calculateMaxDepth(values.length), values);
+        }
+    }
+
+    @Override
+    public void sort(short[] values) {
+        if (values != null && values.length > 1) {
+            dualPivotQuicksort(0, values.length - 1,
+                    IntroSort.calculateMaxDepth(values.length), values);
+        }
+    }
+
+    @Override
+    public void sort(char[] values) {
+        if (values != null && values.length > 1) {
+            dualPivotQuicksort(0, values.length - 1,
+                    IntroSort.calculateMaxDepth(values.length), values);
+        }
+    }
+
+    @Override
+    public void sort(byte[] values) {
+        if (values != null && values.length > 1) {
+            dualPivotQuicksort(0, values.length - 1,
+                    IntroSort.calculateMaxDepth(values.length), values);
+        }
+    }
+
+    @Override
+    public void sort(float[] values) {
+        if (values != null && values.length > 1) {
+            int right = FloatingPoints.moveNaNsToEnd(values, 0, values.length - 1);
+            dualPivotQuicksort(0, right, IntroSort.calculateMaxDepth(right + 1), values);
+            FloatingPoints.orderSignedZeros(values, 0, right);
+        }
+    }
+
+    @Override
+    public void sort(double[] values) {
+        if (values != null && values.length > 1) {
+            int right = FloatingPoints.moveNaNsToEnd(values, 0, values.length - 1);
+            dualPivotQuicksort(0, right, IntroSort.calculateMaxDepth(right + 1), values);
+            FloatingPoints.orderSignedZeros(values, 0, right);
+        }
+    }
+
+    /**
+     * DualPivotQuicksort-algorithm for arrays of primitive values.
+     *
+     * @param left the left boundary of the array.
+     * @param right the right boundary of the array.
+     * @param maxDepth the remaining depth before switching to Heap-Sort.
+     * @param values the array to be sorted.
+     */
+    private void dualPivotQuicksort(int left, int right, int maxDepth, int[] values) {
+        if (right - left < SIZE_THRESHOLD) {
+            InsertionSort.sort(values, left, right);
+            return;
+        }
+        if (maxDepth == 0) {
+            _heapSort.sort(values, left, right);
+            return;
+        }
+        // choose pivots from the tertiles, which keeps presorted input balanced
+        int third = (right - left) / 3;
+        swap(values, left, left + third);
+        swap(values, right, right - third);
+        if (values[left] > values[right]) {
+            swap(values, left, right);
+        }
+        int pivot1 = values[left];
+        int pivot2 = values[right];
+
+        // partition
+        int less = left + 1;
+        int great = right - 1;
+        for (int k = less; k <= great; ++k) {
+            if (values[k] < pivot1) {
+                swap(values, k, less);
+                ++less;
+            } else if (values[k] > pivot2) {
+                while (values[great] > pivot2 && k < great) {
+                    --great;
+                }
+                swap(values, k, great);
+                --great;
+                if (values[k] < pivot1) {
+                    swap(values, k, less);
+                    ++less;
+                }
+            }
+        }
+        --less;
+        ++great;
+
+        // position pivots
+        swap(values, left, less);
+        swap(values, right, great);
+
+        // sort partitions, the middle one only holds duplicates if pivots are equal
+        dualPivotQuicksort(left, less - 1, maxDepth - 1, values);
+        if (pivot1 < pivot2) {
+            int first = less + 1;
+            int last = great - 1;
+            // a large middle part probably holds many keys equal to a pivot
+            if (last - first > (right - left) / 2) {
+                for (int k = first; k <= last; ++k) {
+                    if (values[k] == pivot1) {
+                        swap(values, k, first);
+                        ++first;
+                    } else if (values[k] == pivot2) {
+                        while (values[last] == pivot2 && k < last) {
+                            --last;
+                        }
+                        swap(values, k, last);
+                        --last;
+                        if (values[k] == pivot1) {
+                            swap(values, k, first);
+                            ++first;
+                        }
+                    }
+                }
+            }
+            dualPivotQuicksort(first, last, maxDepth - 1, values);
+        }
+        dualPivotQuicksort(great + 1, right, maxDepth - 1, values);
+    }
+
+    private static void swap(int[] values, int i, int j) {
+        int temp = values[j];
+        values[j] = values[i];
+        values[i] = temp;
+    }
+
+    /**
+     * DualPivotQuicksort-algorithm for arrays of primitive values.
+     *
+     * @param left the left boundary of the array.
+     * @param right the right boundary of the array.
+     * @param maxDepth the remaining depth before switching to Heap-Sort.
+     * @param values the array to be sorted.
+     */
+    private void dualPivotQuicksort(int left, int right, int maxDepth, long[] values) {
+        if (right - left < SIZE_THRESHOLD) {
+            InsertionSort.sort(values, left, right);
+            return;
+        }
+        if (maxDepth == 0) {
+            _heapSort.sort(values, left, right);
+            return;
+        }
+        // choose pivots from the tertiles, which keeps presorted input balanced
+        int third = (right - left) / 3;
+        swap(values, left, left + third);
+        swap(values, right, right - third);
+        if (values[left] > values[right]) {
+            swap(values, left, right);
+        }
+        long pivot1 = values[left];
+        long pivot2 = values[right];
+
+        // partition
+        int less = left + 1;
+        int great = right - 1;
+        for (int k = less; k <= great; ++k) {
+            if (values[k] < pivot1) {
+                swap(values, k, less);
+                ++less;
+            } else if (values[k] > pivot2) {
+                while (values[great] > pivot2 && k < great) {
+                    --great;
+                }
+                swap(values, k, great);
+                --great;
+                if (values[k] < pivot1) {
+                    swap(values, k, less);
+                    ++less;
+                }
+            }
+        }
+        --less;
+        ++great;
+
+        // position pivots
+        swap(values, left, less);
+        swap(values, right, great);
+
+        // sort partitions, the middle one only holds duplicates if pivots are equal
+        dualPivotQuicksort(left, less - 1, maxDepth - 1, values);
+        if (pivot1 < pivot2) {
+            int first = less + 1;
+            int last = great - 1;
+            // a large middle part probably holds many keys equal to a pivot
+            if (last - first > (right - left) / 2) {
+                for (int k = first; k <= last; ++k) {
+                    if (values[k] == pivot1) {
+                        swap(values, k, first);
+                        ++first;
+                    } else if (values[k] == pivot2) {
+                        while (values[last] == pivot2 && k < last) {
+                            --last;
+                        }
+                        swap(values, k, last);
+                        --last;
+                        if (values[k] == pivot1) {
+                            swap(values, k, first);
+                            ++first;
+                        }
+                    }
+                }
+            }
+            dualPivotQuicksort(first, last, maxDepth - 1, values);
+        }
+        dualPivotQuicksort(great + 1, right, maxDepth - 1, values);
+    }
+
+    private static void swap(long[] values, int i, int j) {
+        long temp = values[j];
+        values[j] = values[i];
+        values[i] = temp;
+    }
+
+    /**
+     * DualPivotQuicksort-algorithm for arrays of primitive values.
+     *
+     * @param left the left boundary of the array.
+     * @param right the right boundary of the array.
+     * @param maxDepth the remaining depth before switching to Heap-Sort.
+     * @param values the array to be sorted.
+     */
+    private void dualPivotQuicksort(int left, int right, int maxDepth, short[] values) {
+        if (right - left < SIZE_THRESHOLD) {
+            InsertionSort.sort(values, left, right);
+            return;
+        }
+        if (maxDepth == 0) {
+            _heapSort.sort(values, left, right);
+            return;
+        }
+        // choose pivots from the tertiles, which keeps presorted input balanced
+        int third = (right - left) / 3;
+        swap(values, left, left + third);
+        swap(values, right, right - third);
+        if (values[left] > values[right]) {
+            swap(values, left, right);
+        }
+        short pivot1 = values[left];
+        short pivot2 = values[right];
+
+        // partition
+        int less = left + 1;
+        int great = right - 1;
+        for (int k = less; k <= great; ++k) {
+            if (values[k] < pivot1) {
+                swap(values, k, less);
+                ++less;
+            } else if (values[k] > pivot2) {
+                while (values[great] > pivot2 && k < great) {
+                    --great;
+                }
+                swap(values, k, great);
+                --great;
+                if (values[k] < pivot1) {
+                    swap(values, k, less);
+                    ++less;
+                }
+            }
+        }
+        --less;
+        ++great;
+
+        // position pivots
+        swap(values, left, less);
+        swap(values, right, great);
+
+        // sort partitions, the middle one only holds duplicates if pivots are equal
+        dualPivotQuicksort(left, less - 1, maxDepth - 1, values);
+        if (pivot1 < pivot2) {
+            int first = less + 1;
+            int last = great - 1;
+            // a large middle part probably holds many keys equal to a pivot
+            if (last - first > (right - left) / 2) {
+                for (int k = first; k <= last; ++k) {
+                    if (values[k] == pivot1) {
+                        swap(values, k, first);
+                        ++first;
+                    } else if (values[k] == pivot2) {
+                        while (values[last] == pivot2 && k < last) {
+                            --last;
+                        }
+                        swap(values, k, last);
+                        --last;
+                        if (values[k] == pivot1) {
+                            swap(values, k, first);
+                            ++first;
+                        }
+                    }
+                }
+            }
+            dualPivotQuicksort(first, last, maxDepth - 1, values);
+        }
+        dualPivotQuicksort(great + 1, right, maxDepth - 1, values);
+    }
+
+    private static void swap(short[] values, int i, int j) {
+        short temp = values[j];
+        values[j] = values[i];
+        values[i] = temp;
+    }
+
+    /**
+     * DualPivotQuicksort-algorithm for arrays of primitive values.
+     *
+     * @param left the left boundary of the array.
+     * @param right the right boundary of the array.
+     * @param maxDepth the remaining depth before switching to Heap-Sort.
+     * @param values the array to be sorted.
+     */
+    private void dualPivotQuicksort(int left, int right, int maxDepth, char[] values) {
+        if (right - left < SIZE_THRESHOLD) {
+            InsertionSort.sort(values, left, right);
+            return;
+        }
+        if (maxDepth == 0) {
+            _heapSort.sort(values, left, right);
+            return;
+        }
+        // choose pivots from the tertiles, which keeps presorted input balanced
+        int third = (right - left) / 3;
+        swap(values, left, left + third);
+        swap(values, right, right - third);
+        if (values[left] > values[right]) {
+            swap(values, left, right);
+        }
+        char pivot1 = values[left];
+        char pivot2 = values[right];
+
+        // partition
+        int less = left + 1;
+        int great = right - 1;
+        for (int k = less; k <= great; ++k) {
+            if (values[k] < pivot1) {
+                swap(values, k, less);
+                ++less;
+            } else if (values[k] > pivot2) {
+                while (values[great] > pivot2 && k < great) {
+                    --great;
+                }
+                swap(values, k, great);
+                --great;
+                if (values[k] < pivot1) {
+                    swap(values, k, less);
+                    ++less;
+                }
+            }
+        }
+        --less;
+        ++great;
+
+        // position pivots
+        swap(values, left, less);
+        swap(values, right, great);
+
+        // sort partitions, the middle one only holds duplicates if pivots are equal
+        dualPivotQuicksort(left, less - 1, maxDepth - 1, values);
+        if (pivot1 < pivot2) {
+            int first = less + 1;
+            int last = great - 1;
+            // a large middle part probably holds many keys equal to a pivot
+            if (last - first > (right - left) / 2) {
+                for (int k = first; k <= last; ++k) {
+                    if (values[k] == pivot1) {
+                        swap(values, k, first);
+                        ++first;
+                    } else if (values[k] == pivot2) {
+                        while (values[last] == pivot2 && k < last) {
+                            --last;
+                        }
+                        swap(values, k, last);
+                        --last;
+                        if (values[k] == pivot1) {
+                            swap(values, k, first);
+                            ++first;
+                        }
+                    }
+                }
+            }
+            dualPivotQuicksort(first, last, maxDepth - 1, values);
+        }
+        dualPivotQuicksort(great + 1, right, maxDepth - 1, values);
+    }
+
+    private static void swap(char[] values, int i, int j) {
+        char temp = values[j];
+        values[j] = values[i];
+        values[i] = temp;
+    }
+
+    /**
+     * DualPivotQuicksort-algorithm for arrays of primitive values.
+     *
+     * @param left the left boundary of the array.
+     * @param right the right boundary of the array.
+     * @param maxDepth the remaining depth before switching to Heap-Sort.
+     * @param values the array to be sorted.
+     */
+    private void dualPivotQuicksort(int left, int right, int maxDepth, byte[] values) {
+        if (right - left < SIZE_THRESHOLD) {
+            InsertionSort.sort(values, left, right);
+            return;
+        }
+        if (maxDepth == 0) {
+            _heapSort.sort(values, left, right);
+            return;
+        }
+        // choose pivots from the tertiles, which keeps presorted input balanced
+        int third = (right - left) / 3;
+        swap(values, left, left + third);
+        swap(values, right, right - third);
+        if (values[left] > values[right]) {
+            swap(values, left, right);
+        }
+        byte pivot1 = values[left];
+        byte pivot2 = values[right];
+
+        // partition
+        int less = left + 1;
+        int great = right - 1;
+        for (int k = less; k <= great; ++k) {
+            if (values[k] < pivot1) {
+                swap(values, k, less);
+                ++less;
+            } else if (values[k] > pivot2) {
+                while (values[great] > pivot2 && k < great) {
+                    --great;
+                }
+                swap(values, k, great);
+                --great;
+                if (values[k] < pivot1) {
+                    swap(values, k, less);
+                    ++less;
+                }
+            }
+        }
+        --less;
+        ++great;
+
+        // position pivots
+        swap(values, left, less);
+        swap(values, right, great);
+
+        // sort partitions, the middle one only holds duplicates if pivots are equal
+        dualPivotQuicksort(left, less - 1, maxDepth - 1, values);
+        if (pivot1 < pivot2) {
+            int first = less + 1;
+            int last = great - 1;
+            // a large middle part probably holds many keys equal to a pivot
+            if (last - first > (right - left) / 2) {
+                for (int k = first; k <= last; ++k) {
+                    if (values[k] == pivot1) {
+                        swap(values, k, first);
+                        ++first;
+                    } else if (values[k] == pivot2) {
+                        while (values[last] == pivot2 && k < last) {
+                            --last;
+                        }
+                        swap(values, k, last);
+                        --last;
+                        if (values[k] == pivot1) {
+                            swap(values, k, first);
+                            ++first;
+                        }
+                    }
+                }
+            }
+            dualPivotQuicksort(first, last, maxDepth - 1, values);
+        }
+        dualPivotQuicksort(great + 1, right, maxDepth - 1, values);
+    }
+
+    private static void swap(byte[] values, int i, int j) {
+        byte temp = values[j];
+        values[j] = values[i];
+        values[i] = temp;
+    }
+
+    /**
+     * DualPivotQuicksort-algorithm for arrays of primitive values.
+     *
+     * @param left the left boundary of the array.
+     * @param right the right boundary of the array.
+     * @param maxDepth the remaining depth before switching to Heap-Sort.
+     * @param values the array to be sorted.
+     */
+    private void dualPivotQuicksort(int left, int right, int maxDepth, float[] values) {
+        if (right - left < SIZE_THRESHOLD) {
+            InsertionSort.sort(values, left, right);
+            return;
+        }
+        if (maxDepth == 0) {
+            _heapSort.sort(values, left, right);
+            return;
+        }
+        // choose pivots from the tertiles, which keeps presorted input balanced
+        int third = (right - left) / 3;
+        swap(values, left, left + third);
+        swap(values, right, right - third);
+        if (values[left] > values[right]) {
+            swap(values, left, right);
+        }
+        float pivot1 = values[left];
+        float pivot2 = values[right];
+
+        // partition
+        int less = left + 1;
+        int great = right - 1;
+        for (int k = less; k <= great; ++k) {
+            if (values[k] < pivot1) {
+                swap(values, k, less);
+                ++less;
+            } else if (values[k] > pivot2) {
+                while (values[great] > pivot2 && k < great) {
+                    --great;
+                }
+                swap(values, k, great);
+                --great;
+                if (values[k] < pivot1) {
+                    swap(values, k, less);
+                    ++less;
+                }
+            }
+        }
+        --less;
+        ++great;
+
+        // position pivots
+        swap(values, left, less);
+        swap(values, right, great);
+
+        // sort partitions, the middle one only holds duplicates if pivots are equal
+        dualPivotQuicksort(left, less - 1, maxDepth - 1, values);
+        if (pivot1 < pivot2) {
+            int first = less + 1;
+            int last = great - 1;
+            // a large middle part probably holds many keys equal to a pivot
+            if (last - first > (right - left) / 2) {
+                for (int k = first; k <= last; ++k) {
+                    if (values[k] == pivot1) {
+                        swap(values, k, first);
+                        ++first;
+                    } else if (values[k] == pivot2) {
+                        while (values[last] == pivot2 && k < last) {
+                            --last;
+                        }
+                        swap(values, k, last);
+                        --last;
+                        if (values[k] == pivot1) {
+                            swap(values, k, first);
+                            ++first;
+                        }
+                    }
+                }
+            }
+            dualPivotQuicksort(first, last, maxDepth - 1, values);
+        }
+        dualPivotQuicksort(great + 1, right, maxDepth - 1, values);
+    }
+
+    private static void swap(float[] values, int i, int j) {
+        float temp = values[j];
+        values[j] = values[i];
+        values[i] = temp;
+    }
+
+    /**
+     * DualPivotQuicksort-algorithm for arrays of primitive values.
+     *
+     * @param left the left boundary of the array.
+     * @param right the right boundary of the array.
+     * @param maxDepth the remaining depth before switching to Heap-Sort.
+     * @param values the array to be sorted.
+     */
+    private void dualPivotQuicksort(int left, int right, int maxDepth, double[] values) {
+        if (right - left < SIZE_THRESHOLD) {
+            InsertionSort.sort(values, left, right);
+            return;
+        }
+        if (maxDepth == 0) {
+            _heapSort.sort(values, left, right);
+            return;
+        }
+        // choose pivots from the tertiles, which keeps presorted input balanced
+        int third = (right - left) / 3;
+        swap(values, left, left + third);
+        swap(values, right, right - third);
+        if (values[left] > values[right]) {
+            swap(values, left, right);
+        }
+        double pivot1 = values[left];
+        double pivot2 = values[right];
+
+        // partition
+        int less = left + 1;
+        int great = right - 1;
+        for (int k = less; k <= great; ++k) {
+            if (values[k] < pivot1) {
+                swap(values, k, less);
+                ++less;
+            } else if (values[k] > pivot2) {
+                while (values[great] > pivot2 && k < great) {
+                    --great;
+                }
+                swap(values, k, great);
+                --great;
+                if (values[k] < pivot1) {
+                    swap(values, k, less);
+                    ++less;
+                }
+            }
+        }
+        --less;
+        ++great;
+
+        // position pivots
+        swap(values, left, less);
+        swap(values, right, great);
+
+        // sort partitions, the middle one only holds duplicates if pivots are equal
+        dualPivotQuicksort(left, less - 1, maxDepth - 1, values);
+        if (pivot1 < pivot2) {
+            int first = less + 1;
+            int last = great - 1;
+            // a large middle part probably holds many keys equal to a pivot
+            if (last - first > (right - left) / 2) {
+                for (int k = first; k <= last; ++k) {
+                    if (values[k] == pivot1) {
+                        swap(values, k, first);
+                        ++first;
+                    } else if (values[k] == pivot2) {
+                        while (values[last] == pivot2 && k < last) {
+                            --last;
+                        }
+                        swap(values, k, last);
+                        --last;
+                        if (values[k] == pivot1) {
+                            swap(values, k, first);
+                            ++first;
+                        }
+                    }
+                }
+            }
+            dualPivotQuicksort(first, last, maxDepth - 1, values);
+        }
+        dualPivotQuicksort(great + 1, right, maxDepth - 1, values);
+    }
+
+    private static void swap(double[] values, int i, int j) {
+        double temp = values[j];
+        values[j] = values[i];
+        values[i] = temp;
+    }
 }
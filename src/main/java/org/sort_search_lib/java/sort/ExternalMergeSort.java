@@ -0,0 +1,387 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.sort_search_lib.java.sort.api.InPlaceSort;
+import org.sort_search_lib.java.sort.api.RecordSerializer;
+
+/**
+ * Offers an external Merge-Sort algorithm to sort records that do not fit
+ * into memory, in ascending order or by using a specified {@link Comparator}.
+ *
+ * Records are read into memory until their estimated size exceeds the memory
+ * budget. Each of these chunks is sorted by an {@link InPlaceSort} and written
+ * to a temporary file as a sorted run, using a {@link RecordSerializer}. The
+ * runs are then merged by a {@link LoserTreeMerge}, reading at most as many
+ * runs at once as the fan-in allows, until the last merge writes the records
+ * to the output. If all records fit into memory, no temporary files are
+ * written at all.
+ *
+ * If records compare equal, the one read from the earlier run is written
+ * first. Hence, the sort is stable if the sort used for the chunks is.
+ *
+ * @author Matthias Fussenegger
+ * @param <T> type of the records.
+ */
+public final class ExternalMergeSort<T> {
+
+    /**
+     * Default number of bytes the records of a chunk may occupy in memory.
+     */
+    public static final long DEFAULT_MEMORY_BUDGET = 64L << 20;
+
+    /**
+     * Default number of runs which are merged at once.
+     */
+    public static final int DEFAULT_FAN_IN = 64;
+
+    /**
+     * Bounds of the buffer size of each file being read or written.
+     */
+    static final int MIN_BUFFER_SIZE = 1 << 13, MAX_BUFFER_SIZE = 1 << 20;
+
+    /**
+     * The serializer used to write and read records.
+     */
+    private final RecordSerializer<T> _serializer;
+
+    /**
+     * The sort used for each chunk.
+     */
+    private final InPlaceSort _sort;
+
+    /**
+     * Number of bytes the records of a chunk may occupy in memory.
+     */
+    private final long _memoryBudget;
+
+    /**
+     * Number of runs which are merged at once.
+     */
+    private final int _fanIn;
+
+    /**
+     * The directory of the temporary files, or null for the default one.
+     */
+    private final File _tempDirectory;
+
+    /**
+     * Constructs a new instance which uses the specified serializer, the
+     * default memory budget and fan-in, and the default temporary directory.
+     * Chunks are sorted by {@link TimSort}.
+     *
+     * @param serializer the serializer used to write and read records.
+     */
+    public ExternalMergeSort(RecordSerializer<T> serializer) {
+        this(serializer, new TimSort(), DEFAULT_MEMORY_BUDGET, DEFAULT_FAN_IN, null);
+    }
+
+    /**
+     * Constructs a new instance which uses the specified settings.
+     *
+     * @param serializer the serializer used to write and read records.
+     * @param sort the sort used for each chunk.
+     * @param memoryBudget number of bytes the records of a chunk may occupy.
+     * @param fanIn number of runs which are merged at once.
+     * @param tempDirectory the directory of the temporary files, or null to
+     * use the default temporary directory.
+     */
+    public ExternalMergeSort(RecordSerializer<T> serializer, InPlaceSort sort,
+            long memoryBudget, int fanIn, File tempDirectory) {
+        if (serializer == null) {
+            throw new NullPointerException("serializer must not be null");
+        }
+        if (sort == null) {
+            throw new NullPointerException("sort must not be null");
+        }
+        if (memoryBudget < 1) {
+            throw new IllegalArgumentException("memoryBudget must be positive");
+        }
+        if (fanIn < 2) {
+            throw new IllegalArgumentException("fanIn must be at least two");
+        }
+        _serializer = serializer;
+        _sort = sort;
+        _memoryBudget = memoryBudget;
+        _fanIn = fanIn;
+        _tempDirectory = tempDirectory;
+    }
+
+    /**
+     * Sorts the specified records using their natural ordering in ascending
+     * order and writes them to the specified output, which is not closed.
+     *
+     * @param input the records to be sorted.
+     * @param output the stream to which the sorted records are written.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void sort(Iterator<? extends T> input, OutputStream output) throws IOException {
+        sort(input, output, Comparators.<T>naturalOrder());
+    }
+
+    /**
+     * Sorts the specified records using the specified {@link Comparator} and
+     * writes them to the specified output, which is not closed.
+     *
+     * @param input the records to be sorted.
+     * @param output the stream to which the sorted records are written.
+     * @param c the {@link Comparator} used to compare the records.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void sort(Iterator<? extends T> input, OutputStream output,
+            Comparator<? super T> c) throws IOException {
+        List<Run> created = new ArrayList<Run>();
+        try {
+            List<Run> runs = new ArrayList<Run>();
+            List<T> chunk = new ArrayList<T>();
+            long chunkSize = 0;
+            while (input.hasNext()) {
+                T record = input.next();
+                chunk.add(record);
+                chunkSize += _serializer.sizeOf(record);
+                if (chunkSize >= _memoryBudget) {
+                    runs.add(spill(chunk, c, created));
+                    chunk.clear();
+                    chunkSize = 0;
+                }
+            }
+
+            DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(output, bufferSize(1)));
+            if (runs.isEmpty()) {
+                writeSorted(chunk, c, out); // everything fits into memory
+            } else {
+                if (!chunk.isEmpty()) {
+                    runs.add(spill(chunk, c, created));
+                }
+                chunk = null; // release the records of the last chunk
+                while (runs.size() > _fanIn) {
+                    runs = mergePass(runs, c, created);
+                }
+                merge(runs, c, out);
+            }
+            out.flush();
+        } finally {
+            for (Run run : created) {
+                run.delete();
+            }
+        }
+    }
+
+    /**
+     * Sorts the specified chunk and writes it to a new temporary file.
+     *
+     * @return the run which has been written.
+     */
+    private Run spill(List<T> chunk, Comparator<? super T> c,
+            List<Run> created) throws IOException {
+        Run run = createRun(chunk.size(), created);
+        DataOutputStream out = run.openOutput(MAX_BUFFER_SIZE);
+        try {
+            writeSorted(chunk, c, out);
+        } finally {
+            out.close();
+        }
+        return run;
+    }
+
+    /**
+     * Sorts the specified chunk and writes its records to the output.
+     */
+    @SuppressWarnings("unchecked")
+    private void writeSorted(List<T> chunk, Comparator<? super T> c,
+            DataOutput out) throws IOException {
+        T[] values = (T[]) chunk.toArray();
+        _sort.sort(values, c);
+        for (T record : values) {
+            _serializer.write(record, out);
+        }
+    }
+
+    /**
+     * Merges each group of consecutive runs, which is not bigger than the
+     * fan-in, into a single run and deletes the merged runs.
+     *
+     * @return the runs resulting from this pass, in the same order.
+     */
+    private List<Run> mergePass(List<Run> runs, Comparator<? super T> c,
+            List<Run> created) throws IOException {
+        List<Run> mergedRuns = new ArrayList<Run>();
+        for (int i = 0; i < runs.size(); i += _fanIn) {
+            List<Run> group = runs.subList(i, Math.min(i + _fanIn, runs.size()));
+            if (group.size() == 1) {
+                mergedRuns.add(group.get(0));
+                continue;
+            }
+            long count = 0;
+            for (Run run : group) {
+                count += run._count;
+            }
+            Run mergedRun = createRun(count, created);
+            DataOutputStream out = mergedRun.openOutput(MAX_BUFFER_SIZE);
+            try {
+                merge(group, c, out);
+            } finally {
+                out.close();
+            }
+            for (Run run : group) {
+                run.delete();
+            }
+            mergedRuns.add(mergedRun);
+        }
+        return mergedRuns;
+    }
+
+    /**
+     * Merges the specified runs by using a {@link LoserTreeMerge} and writes
+     * the records to the output. Ties are won by the earlier run.
+     */
+    private void merge(List<Run> runs, Comparator<? super T> c,
+            DataOutput out) throws IOException {
+        List<RunReader<T>> readers = new ArrayList<RunReader<T>>(runs.size());
+        try {
+            int bufferSize = bufferSize(runs.size() + 1);
+            for (Run run : runs) {
+                readers.add(new RunReader<T>(run, bufferSize, _serializer));
+            }
+            LoserTreeMerge<T> merge = new LoserTreeMerge<T>(readers, c);
+            while (merge.hasNext()) {
+                _serializer.write(merge.next(), out);
+            }
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause(); // thrown by a reader
+        } finally {
+            for (RunReader<T> reader : readers) {
+                reader.close();
+            }
+        }
+    }
+
+    private Run createRun(long count, List<Run> created) throws IOException {
+        Run run = new Run(File.createTempFile("run", ".tmp", _tempDirectory), count);
+        created.add(run);
+        return run;
+    }
+
+    /**
+     * Returns the buffer size of each file if the specified number of files
+     * share the memory budget.
+     */
+    private int bufferSize(int files) {
+        long size = _memoryBudget / files;
+        return (int) Math.max(MIN_BUFFER_SIZE, Math.min(MAX_BUFFER_SIZE, size));
+    }
+
+    /**
+     * A sorted run, which is stored in a temporary file.
+     */
+    private static final class Run {
+
+        private final File _file;
+
+        /**
+         * Number of records in the file.
+         */
+        private final long _count;
+
+        Run(File file, long count) {
+            _file = file;
+            _count = count;
+        }
+
+        DataOutputStream openOutput(int bufferSize) throws IOException {
+            return new DataOutputStream(new BufferedOutputStream(
+                    new FileOutputStream(_file), bufferSize));
+        }
+
+        void delete() {
+            _file.delete();
+        }
+    }
+
+    /**
+     * Reads the records of a run one after another. As an {@link Iterator}
+     * cannot throw checked exceptions, I/O errors are wrapped into an
+     * {@link UncheckedIOException}.
+     *
+     * @param <T> type of the records.
+     */
+    private static final class RunReader<T> implements Iterator<T> {
+
+        private final DataInputStream _in;
+
+        private final RecordSerializer<T> _serializer;
+
+        /**
+         * Number of records which have not been read yet.
+         */
+        private long _remaining;
+
+        RunReader(Run run, int bufferSize, RecordSerializer<T> serializer)
+                throws IOException {
+            _in = new DataInputStream(new BufferedInputStream(
+                    new FileInputStream(run._file), bufferSize));
+            _serializer = serializer;
+            _remaining = run._count;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return _remaining > 0;
+        }
+
+        @Override
+        public T next() {
+            if (_remaining == 0) {
+                throw new NoSuchElementException();
+            }
+            --_remaining;
+            try {
+                return _serializer.read(_in);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        void close() throws IOException {
+            _in.close();
+        }
+    }
+}
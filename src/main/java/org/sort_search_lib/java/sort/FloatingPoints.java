@@ -0,0 +1,147 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+/**
+ * Helper methods for sorting arrays of floating-point values with the plain
+ * {@code <} and {@code >} operators. Those operators do not define an order
+ * for {@code NaN} and treat {@code -0.0} and {@code 0.0} as equal, so the
+ * values are prepared before and repaired after the actual sort.
+ *
+ * @author Matthias Fussenegger
+ */
+final class FloatingPoints {
+
+    private FloatingPoints() {
+        throw new AssertionError(); // holds static methods only
+    }
+
+    /**
+     * Moves all {@code NaN} values to the end of the specified range.
+     *
+     * @param values the array of which to move the {@code NaN} values.
+     * @param left the left boundary in the array.
+     * @param right the right boundary in the array.
+     * @return the right boundary of the remaining range without {@code NaN}.
+     */
+    static int moveNaNsToEnd(float[] values, int left, int right) {
+        while (right >= left && Float.isNaN(values[right])) {
+            --right;
+        }
+        for (int k = right - 1; k >= left; --k) {
+            float value = values[k];
+            if (value != value) { // NaN
+                values[k] = values[right];
+                values[right] = value;
+                --right;
+            }
+        }
+        return right;
+    }
+
+    /**
+     * Moves all {@code NaN} values to the end of the specified range.
+     *
+     * @param values the array of which to move the {@code NaN} values.
+     * @param left the left boundary in the array.
+     * @param right the right boundary in the array.
+     * @return the right boundary of the remaining range without {@code NaN}.
+     */
+    static int moveNaNsToEnd(double[] values, int left, int right) {
+        while (right >= left && Double.isNaN(values[right])) {
+            --right;
+        }
+        for (int k = right - 1; k >= left; --k) {
+            double value = values[k];
+            if (value != value) { // NaN
+                values[k] = values[right];
+                values[right] = value;
+                --right;
+            }
+        }
+        return right;
+    }
+
+    /**
+     * Places {@code -0.0} before {@code 0.0} within the specified range, which
+     * has to be sorted already.
+     *
+     * @param values the sorted array of which to order the zeros.
+     * @param left the left boundary in the array.
+     * @param right the right boundary in the array.
+     */
+    static void orderSignedZeros(float[] values, int left, int right) {
+        int low = left, high = right + 1;
+        /*binary search for the first value that is not negative*/
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < 0.0f) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int negativeZeros = 0, end = low;
+        while (end <= right && values[end] == 0.0f) {
+            if (Float.floatToRawIntBits(values[end]) < 0) {
+                ++negativeZeros;
+            }
+            ++end;
+        }
+        for (int i = low; i < end; ++i) {
+            values[i] = i < low + negativeZeros ? -0.0f : 0.0f;
+        }
+    }
+
+    /**
+     * Places {@code -0.0} before {@code 0.0} within the specified range, which
+     * has to be sorted already.
+     *
+     * @param values the sorted array of which to order the zeros.
+     * @param left the left boundary in the array.
+     * @param right the right boundary in the array.
+     */
+    static void orderSignedZeros(double[] values, int left, int right) {
+        int low = left, high = right + 1;
+        /*binary search for the first value that is not negative*/
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < 0.0d) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int negativeZeros = 0, end = low;
+        while (end <= right && values[end] == 0.0d) {
+            if (Double.doubleToRawLongBits(values[end]) < 0) {
+                ++negativeZeros;
+            }
+            ++end;
+        }
+        for (int i = low; i < end; ++i) {
+            values[i] = i < low + negativeZeros ? -0.0d : 0.0d;
+        }
+    }
+}
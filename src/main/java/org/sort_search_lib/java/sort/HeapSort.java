@@ -25,14 +25,29 @@ package org.sort_search_lib.java.sort;
 
 import java.util.Comparator;
 import org.sort_search_lib.java.sort.api.InPlaceSort;
+import org.sort_search_lib.java.sort.api.PartialSort;
 
 /**
  * Offers the Heap-Sort algorithm to sort a zero-based array consisting of any
  * type in ascending order or by using a specified {@link Comparator}.
  *
+ * A partial sort only sorts the {@code k} smallest elements. The array is
+ * partitioned by Quick-Select until these elements are at the front, which
+ * takes linear time on average. Elements equal to the pivot are grouped in the
+ * middle of each partition, so duplicates do not slow down this step. If
+ * partitioning keeps producing bad splits, the remaining range is scanned with
+ * a bounded heap of {@code k} elements instead. Either way, the front is
+ * sorted by Heap-Sort afterwards, which results in an expected cost of
+ * {@code O(n + k log k)}.
+ *
  * @author Matthias Fussenegger
  */
-public final class HeapSort implements InPlaceSort {
+public final class HeapSort implements InPlaceSort, PartialSort {
+
+    /**
+     * Quicksort instance used for partitioning.
+     */
+    private final Quicksort _quicksort = new Quicksort();
 
     /**
      * Sort by respecting a specific range within the specified array.
@@ -152,6 +167,84 @@ public final class HeapSort implements InPlaceSort {
         }
     }
 
+    @Override
+    public <T> void sortRange(T[] values, int fromIndex, int toIndex) {
+        Ranges.check(values.length, fromIndex, toIndex);
+        sort(values, fromIndex, toIndex - 1);
+    }
+
+    @Override
+    public <T> void sortRange(T[] values, int fromIndex, int toIndex, Comparator<? super T> c) {
+        Ranges.check(values.length, fromIndex, toIndex);
+        sort(values, fromIndex, toIndex - 1, c);
+    }
+
+    @Override
+    public <T> void partialSort(T[] values, int k) {
+        partialSort(values, k, Comparators.<T>naturalOrder());
+    }
+
+    @Override
+    public <T> void partialSort(T[] values, int k, Comparator<? super T> c) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative: " + k);
+        }
+        if (values == null || values.length < 2 || k == 0) {
+            return;
+        }
+        k = Math.min(k, values.length);
+        int left = 0, right = values.length - 1;
+        int maxDepth = IntroSort.calculateMaxDepth(values.length);
+        /*partition until the k smallest elements are at the front*/
+        while (true) {
+            if (right - left < SIZE_THRESHOLD) {
+                InsertionSort.sort(values, left, right, c);
+                break;
+            }
+            if (maxDepth-- == 0) {
+                selectUsingHeap(values, left, right, k, c);
+                break;
+            }
+            int[] div = _quicksort.divideThreeWayUsingComparator(left, right, c, values);
+            if (k < div[0]) {
+                right = div[0] - 1;
+            } else if (k - 1 > div[1]) {
+                left = div[1] + 1;
+            } else {
+                break; // no element to the right may be smaller
+            }
+        }
+        sort(values, 0, k - 1, c);
+    }
+
+    /**
+     * Moves the smallest elements of the specified range to the positions
+     * {@code [left, k)} by using a bounded heap. The heap holds the smallest
+     * elements found so far, the largest of which is replaced whenever a
+     * smaller one is found.
+     *
+     * @param <T> type of the array elements.
+     * @param values the array of which to select the elements.
+     * @param left the left boundary (inclusive) of the range.
+     * @param right the right boundary (inclusive) of the range.
+     * @param k the right boundary (exclusive) of the selected elements.
+     * @param c the {@link Comparator} used to compare the elements.
+     */
+    private <T> void selectUsingHeap(T[] values, int left, int right, int k,
+            Comparator<? super T> c) {
+        int n = k - left;
+        /*heapify while respecting bounds*/
+        for (int i = n / 2; i >= 0; --i) {
+            siftDownUsingComparator(values, n, i, left, c);
+        }
+        for (int i = k; i <= right; ++i) {
+            if (c.compare(values[i], values[left]) < 0) {
+                swap(values, i, left);
+                siftDownUsingComparator(values, n, 0, left, c);
+            }
+        }
+    }
+
     /**
      * Restores the heap condition by using the specified {@link Comparator}.
      *
@@ -191,8 +284,403 @@ public final class HeapSort implements InPlaceSort {
      * @param j the index of the second element that will be swapped.
      */
     private static <T> void swap(T[] values, int i, int j) {
+        if (SortProbe.ENABLED) {
+            SortProbe.swap();
+        }
         T temp = values[j];
         values[j] = values[i];
         values[i] = temp;
     }
+
+    /**
+     * Internal API that respects a specific range within the specified array
+     * of primitive values. Both boundaries are considered inclusively.
+     *
+     * @param values reference to the array that is to be sorted.
+     * @param left the left boundary in the array.
+     * @param right the right boundary in the array.
+     */
+    void sort(int[] values, int left, int right) {
+        int n = (right + 1) - left;
+        /*heapify while respecting bounds*/
+        for (int i = n / 2; i >= 0; --i) {
+            siftDown(values, n, i, left);
+        }
+        /*sort-down while respecting bounds*/
+        while (n - 1 > 0) {
+            swap(values, left + n - 1, left);
+            siftDown(values, n - 1, 0, left);
+            --n;
+        }
+    }
+
+    /**
+     * Restores the heap condition of an array of primitive values. The parent
+     * is held in a local and only written back once its final slot is known.
+     *
+     * @param values reference to the array that is to be sorted.
+     * @param end the upper bound to be considered.
+     * @param parent the current index of the parent node.
+     * @param low lower bound to be added when accessing indexes.
+     */
+    private static void siftDown(int[] values, int end, int parent, int low) {
+        int value = values[low + parent];
+        int child = parent * 2 + 1;
+        while (child < end) {
+            if (child + 1 < end && values[low + child + 1] > values[low + child]) {
+                ++child; // right child is larger than left one
+            }
+            /*move child up if it is larger than the sifted value*/
+            if (values[low + child] > value) {
+                values[low + parent] = values[low + child];
+                parent = child;
+                child = 2 * parent + 1;
+            } else {
+                break;
+            }
+        }
+        values[low + parent] = value;
+    }
+
+    private static void swap(int[] values, int i, int j) {
+        int temp = values[j];
+        values[j] = values[i];
+        values[i] = temp;
+    }
+
+    /**
+     * Internal API that respects a specific range within the specified array
+     * of primitive values. Both boundaries are considered inclusively.
+     *
+     * @param values reference to the array that is to be sorted.
+     * @param left the left boundary in the array.
+     * @param right the right boundary in the array.
+     */
+    void sort(long[] values, int left, int right) {
+        int n = (right + 1) - left;
+        /*heapify while respecting bounds*/
+        for (int i = n / 2; i >= 0; --i) {
+            siftDown(values, n, i, left);
+        }
+        /*sort-down while respecting bounds*/
+        while (n - 1 > 0) {
+            swap(values, left + n - 1, left);
+            siftDown(values, n - 1, 0, left);
+            --n;
+        }
+    }
+
+    /**
+     * Restores the heap condition of an array of primitive values. The parent
+     * is held in a local and only written back once its final slot is known.
+     *
+     * @param values reference to the array that is to be sorted.
+     * @param end the upper bound to be considered.
+     * @param parent the current index of the parent node.
+     * @param low lower bound to be added when accessing indexes.
+     */
+    private static void siftDown(long[] values, int end, int parent, int low) {
+        long value = values[low + parent];
+        int child = parent * 2 + 1;
+        while (child < end) {
+            if (child + 1 < end && values[low + child + 1] > values[low + child]) {
+                ++child; // right child is larger than left one
+            }
+            /*move child up if it is larger than the sifted value*/
+            if (values[low + child] > value) {
+                values[low + parent] = values[low + child];
+                parent = child;
+                child = 2 * parent + 1;
+            } else {
+                break;
+            }
+        }
+        values[low + parent] = value;
+    }
+
+    private static void swap(long[] values, int i, int j) {
+        long temp = values[j];
+        values[j] = values[i];
+        values[i] = temp;
+    }
+
+    /**
+     * Internal API that respects a specific range within the specified array
+     * of primitive values. Both boundaries are considered inclusively.
+     *
+     * @param values reference to the array that is to be sorted.
+     * @param left the left boundary in the array.
+     * @param right the right boundary in the array.
+     */
+    void sort(short[] values, int left, int right) {
+        int n = (right + 1) - left;
+        /*heapify while respecting bounds*/
+        for (int i = n / 2; i >= 0; --i) {
+            siftDown(values, n, i, left);
+        }
+        /*sort-down while respecting bounds*/
+        while (n - 1 > 0) {
+            swap(values, left + n - 1, left);
+            siftDown(values, n - 1, 0, left);
+            --n;
+        }
+    }
+
+    /**
+     * Restores the heap condition of an array of primitive values. The parent
+     * is held in a local and only written back once its final slot is known.
+     *
+     * @param values reference to the array that is to be sorted.
+     * @param end the upper bound to be considered.
+     * @param parent the current index of the parent node.
+     * @param low lower bound to be added when accessing indexes.
+     */
+    private static void siftDown(short[] values, int end, int parent, int low) {
+        short value = values[low + parent];
+        int child = parent * 2 + 1;
+        while (child < end) {
+            if (child + 1 < end && values[low + child + 1] > values[low + child]) {
+                ++child; // right child is larger than left one
+            }
+            /*move child up if it is larger than the sifted value*/
+            if (values[low + child] > value) {
+                values[low + parent] = values[low + child];
+                parent = child;
+                child = 2 * parent + 1;
+            } else {
+                break;
+            }
+        }
+        values[low + parent] = value;
+    }
+
+    private static void swap(short[] values, int i, int j) {
+        short temp = values[j];
+        values[j] = values[i];
+        values[i] = temp;
+    }
+
+    /**
+     * Internal API that respects a specific range within the specified array
+     * of primitive values. Both boundaries are considered inclusively.
+     *
+     * @param values reference to the array that is to be sorted.
+     * @param left the left boundary in the array.
+     * @param right the right boundary in the array.
+     */
+    void sort(char[] values, int left, int right) {
+        int n = (right + 1) - left;
+        /*heapify while respecting bounds*/
+        for (int i = n / 2; i >= 0; --i) {
+            siftDown(values, n, i, left);
+        }
+        /*sort-down while respecting bounds*/
+        while (n - 1 > 0) {
+            swap(values, left + n - 1, left);
+            siftDown(values, n - 1, 0, left);
+            --n;
+        }
+    }
+
+    /**
+     * Restores the heap condition of an array of primitive values. The parent
+     * is held in a local and only written back once its final slot is known.
+     *
+     * @param values reference to the array that is to be sorted.
+     * @param end the upper bound to be considered.
+     * @param parent the current index of the parent node.
+     * @param low lower bound to be added when accessing indexes.
+     */
+    private static void siftDown(char[] values, int end, int parent, int low) {
+        char value = values[low + parent];
+        int child = parent * 2 + 1;
+        while (child < end) {
+            if (child + 1 < end && values[low + child + 1] > values[low + child]) {
+                ++child; // right child is larger than left one
+            }
+            /*move child up if it is larger than the sifted value*/
+            if (values[low + child] > value) {
+                values[low + parent] = values[low + child];
+                parent = child;
+                child = 2 * parent + 1;
+            } else {
+                break;
+            }
+        }
+        values[low + parent] = value;
+    }
+
+    private static void swap(char[] values, int i, int j) {
+        char temp = values[j];
+        values[j] = values[i];
+        values[i] = temp;
+    }
+
+    /**
+     * Internal API that respects a specific range within the specified array
+     * of primitive values. Both boundaries are considered inclusively.
+     *
+     * @param values reference to the array that is to be sorted.
+     * @param left the left boundary in the array.
+     * @param right the right boundary in the array.
+     */
+    void sort(byte[] values, int left, int right) {
+        int n = (right + 1) - left;
+        /*heapify while respecting bounds*/
+        for (int i = n / 2; i >= 0; --i) {
+            siftDown(values, n, i, left);
+        }
+        /*sort-down while respecting bounds*/
+        while (n - 1 > 0) {
+            swap(values, left + n - 1, left);
+            siftDown(values, n - 1, 0, left);
+            --n;
+        }
+    }
+
+    /**
+     * Restores the heap condition of an array of primitive values. The parent
+     * is held in a local and only written back once its final slot is known.
+     *
+     * @param values reference to the array that is to be sorted.
+     * @param end the upper bound to be considered.
+     * @param parent the current index of the parent node.
+     * @param low lower bound to be added when accessing indexes.
+     */
+    private static void siftDown(byte[] values, int end, int parent, int low) {
+        byte value = values[low + parent];
+        int child = parent * 2 + 1;
+        while (child < end) {
+            if (child + 1 < end && values[low + child + 1] > values[low + child]) {
+                ++child; // right child is larger than left one
+            }
+            /*move child up if it is larger than the sifted value*/
+            if (values[low + child] > value) {
+                values[low + parent] = values[low + child];
+                parent = child;
+                child = 2 * parent + 1;
+            } else {
+                break;
+            }
+        }
+        values[low + parent] = value;
+    }
+
+    private static void swap(byte[] values, int i, int j) {
+        byte temp = values[j];
+        values[j] = values[i];
+        values[i] = temp;
+    }
+
+    /**
+     * Internal API that respects a specific range within the specified array
+     * of primitive values. Both boundaries are considered inclusively.
+     *
+     * @param values reference to the array that is to be sorted.
+     * @param left the left boundary in the array.
+     * @param right the right boundary in the array.
+     */
+    void sort(float[] values, int left, int right) {
+        int n = (right + 1) - left;
+        /*heapify while respecting bounds*/
+        for (int i = n / 2; i >= 0; --i) {
+            siftDown(values, n, i, left);
+        }
+        /*sort-down while respecting bounds*/
+        while (n - 1 > 0) {
+            swap(values, left + n - 1, left);
+            siftDown(values, n - 1, 0, left);
+            --n;
+        }
+    }
+
+    /**
+     * Restores the heap condition of an array of primitive values. The parent
+     * is held in a local and only written back once its final slot is known.
+     *
+     * @param values reference to the array that is to be sorted.
+     * @param end the upper bound to be considered.
+     * @param parent the current index of the parent node.
+     * @param low lower bound to be added when accessing indexes.
+     */
+    private static void siftDown(float[] values, int end, int parent, int low) {
+        float value = values[low + parent];
+        int child = parent * 2 + 1;
+        while (child < end) {
+            if (child + 1 < end && values[low + child + 1] > values[low + child]) {
+                ++child; // right child is larger than left one
+            }
+            /*move child up if it is larger than the sifted value*/
+            if (values[low + child] > value) {
+                values[low + parent] = values[low + child];
+                parent = child;
+                child = 2 * parent + 1;
+            } else {
+                break;
+            }
+        }
+        values[low + parent] = value;
+    }
+
+    private static void swap(float[] values, int i, int j) {
+        float temp = values[j];
+        values[j] = values[i];
+        values[i] = temp;
+    }
+
+    /**
+     * Internal API that respects a specific range within the specified array
+     * of primitive values. Both boundaries are considered inclusively.
+     *
+     * @param values reference to the array that is to be sorted.
+     * @param left the left boundary in the array.
+     * @param right the right boundary in the array.
+     */
+    void sort(double[] values, int left, int right) {
+        int n = (right + 1) - left;
+        /*heapify while respecting bounds*/
+        for (int i = n / 2; i >= 0; --i) {
+            siftDown(values, n, i, left);
+        }
+        /*sort-down while respecting bounds*/
+        while (n - 1 > 0) {
+            swap(values, left + n - 1, left);
+            siftDown(values, n - 1, 0, left);
+            --n;
+        }
+    }
+
+    /**
+     * Restores the heap condition of an array of primitive values. The parent
+     * is held in a local and only written back once its final slot is known.
+     *
+     * @param values reference to the array that is to be sorted.
+     * @param end the upper bound to be considered.
+     * @param parent the current index of the parent node.
+     * @param low lower bound to be added when accessing indexes.
+     */
+    private static void siftDown(double[] values, int end, int parent, int low) {
+        double value = values[low + parent];
+        int child = parent * 2 + 1;
+        while (child < end) {
+            if (child + 1 < end && values[low + child + 1] > values[low + child]) {
+                ++child; // right child is larger than left one
+            }
+            /*move child up if it is larger than the sifted value*/
+            if (values[low + child] > value) {
+                values[low + parent] = values[low + child];
+                parent = child;
+                child = 2 * parent + 1;
+            } else {
+                break;
+            }
+        }
+        values[low + parent] = value;
+    }
+
+    private static void swap(double[] values, int i, int j) {
+        double temp = values[j];
+        values[j] = values[i];
+        values[i] = temp;
+    }
 }
@@ -0,0 +1,176 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.sort_search_lib.java.sort.api.InPlaceSort;
+
+/**
+ * Offers an incremental Quick-Sort algorithm, which returns the elements of an
+ * array in ascending order or by using a specified {@link Comparator}, one at
+ * a time. The array is sorted lazily: only as much of it is partitioned as is
+ * needed to return the next element.
+ *
+ * The positions of former pivots are kept on a stack. To return the next
+ * element, the range between it and the pivot on top of the stack is
+ * partitioned by the three-way partition of {@link Quicksort} again and again,
+ * pushing each pivot, until the next element is in its final position.
+ * Returning the first {@code k} elements of {@code n} takes
+ * {@code O(n + k log k)} time on average, and returning all elements takes
+ * {@code O(n log n)}. If the stack exceeds the maximum depth of
+ * {@link IntroSort}, the range is sorted by {@link HeapSort} instead, so the
+ * worst case is {@code O(n log n)} as well.
+ *
+ * The array is sorted in place, so the elements already returned make up the
+ * sorted beginning of the array. It must not be modified during iteration.
+ *
+ * @author Matthias Fussenegger
+ * @param <T> type of the elements.
+ */
+public final class IncrementalQuicksort<T> implements Iterator<T> {
+
+    /**
+     * The array which is sorted lazily.
+     */
+    private final T[] _values;
+
+    /**
+     * The comparator used to compare the elements.
+     */
+    private final Comparator<? super T> _comparator;
+
+    /**
+     * The first and the last position (exclusive) of the elements equal to
+     * each pivot on the stack. At the bottom is the end of the array.
+     */
+    private final int[] _pivotStarts;
+    private final int[] _pivotEnds;
+
+    /**
+     * The index of the pivot on top of the stack.
+     */
+    private int _top = 0;
+
+    /**
+     * The position of the element which is returned next.
+     */
+    private int _index = 0;
+
+    /**
+     * The end (exclusive) of the elements which are in their final position.
+     */
+    private int _sortedEnd = 0;
+
+    private final Quicksort _quicksort = new Quicksort(true);
+
+    private final HeapSort _heapSort = new HeapSort();
+
+    /**
+     * Constructs a new instance which returns the elements of the specified
+     * array by their natural ordering.
+     *
+     * @param values the array of which to return the elements.
+     */
+    public IncrementalQuicksort(T[] values) {
+        this(values, Comparators.<T>naturalOrder());
+    }
+
+    /**
+     * Constructs a new instance which returns the elements of the specified
+     * array by using the specified {@link Comparator}.
+     *
+     * @param values the array of which to return the elements.
+     * @param c the {@link Comparator} used to compare the elements.
+     */
+    public IncrementalQuicksort(T[] values, Comparator<? super T> c) {
+        if (c == null) {
+            throw new NullPointerException("comparator must not be null");
+        }
+        _values = values;
+        _comparator = c;
+        int maxDepth = values.length > 1 ? IntroSort.calculateMaxDepth(values.length) : 0;
+        _pivotStarts = new int[maxDepth + 1];
+        _pivotEnds = new int[maxDepth + 1];
+        _pivotStarts[0] = values.length;
+        _pivotEnds[0] = values.length;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return _index < _values.length;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        if (_index == _sortedEnd) {
+            partition();
+        }
+        return _values[_index++];
+    }
+
+    /**
+     * Returns the number of elements which have been returned, which is also
+     * the length of the sorted beginning of the array.
+     *
+     * @return the number of elements returned so far.
+     */
+    public int position() {
+        return _index;
+    }
+
+    /**
+     * Partitions the range between the next element and the pivot on top of
+     * the stack until the next element is in its final position.
+     */
+    private void partition() {
+        while (true) {
+            int start = _pivotStarts[_top];
+            if (start == _index) {
+                /*the next element is equal to the pivot on top*/
+                _sortedEnd = _pivotEnds[_top--];
+                return;
+            }
+            if (start - _index < InPlaceSort.SIZE_THRESHOLD) {
+                InsertionSort.sort(_values, _index, start - 1, _comparator);
+                _sortedEnd = start;
+                return;
+            }
+            if (_top == _pivotStarts.length - 1) {
+                _heapSort.sort(_values, _index, start - 1, _comparator);
+                _sortedEnd = start;
+                return;
+            }
+            int[] equal = _quicksort.divideThreeWayUsingComparator(
+                    _index, start - 1, _comparator, _values);
+            ++_top;
+            _pivotStarts[_top] = equal[0];
+            _pivotEnds[_top] = equal[1] + 1;
+        }
+    }
+}
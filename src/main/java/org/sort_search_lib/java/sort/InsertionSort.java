@@ -53,6 +53,9 @@ public final class InsertionSort implements InPlaceSort {
                 --j;
             }
             values[j] = temp;
+            if (SortProbe.ENABLED) {
+                SortProbe.moves(i - j);
+            }
         }
     }
 
@@ -75,6 +78,9 @@ public final class InsertionSort implements InPlaceSort {
                 --j;
             }
             values[j] = temp;
+            if (SortProbe.ENABLED) {
+                SortProbe.moves(i - j);
+            }
         }
     }
 
@@ -108,4 +114,156 @@ public final class InsertionSort implements InPlaceSort {
             }
         }
     }
+
+    @Override
+    public <T> void sortRange(T[] values, int fromIndex, int toIndex) {
+        Ranges.check(values.length, fromIndex, toIndex);
+        sort(values, fromIndex, toIndex - 1);
+    }
+
+    @Override
+    public <T> void sortRange(T[] values, int fromIndex, int toIndex, Comparator<? super T> c) {
+        Ranges.check(values.length, fromIndex, toIndex);
+        sort(values, fromIndex, toIndex - 1, c);
+    }
+
+    /**
+     * Internal API that respects a specific range within the specified array
+     * of primitive values. Both boundaries are considered inclusively.
+     *
+     * @param values reference to the array that is to be sorted.
+     * @param left the left boundary in the array.
+     * @param right the right boundary in the array.
+     */
+    static void sort(int[] values, int left, int right) {
+        for (int i = left + 1; i <= right; ++i) {
+            int temp = values[i];
+            int j = i;
+            while (j > left && values[j - 1] > temp) {
+                values[j] = values[j - 1];
+                --j;
+            }
+            values[j] = temp;
+        }
+    }
+
+    /**
+     * Internal API that respects a specific range within the specified array
+     * of primitive values. Both boundaries are considered inclusively.
+     *
+     * @param values reference to the array that is to be sorted.
+     * @param left the left boundary in the array.
+     * @param right the right boundary in the array.
+     */
+    static void sort(long[] values, int left, int right) {
+        for (int i = left + 1; i <= right; ++i) {
+            long temp = values[i];
+            int j = i;
+            while (j > left && values[j - 1] > temp) {
+                values[j] = values[j - 1];
+                --j;
+            }
+            values[j] = temp;
+        }
+    }
+
+    /**
+     * Internal API that respects a specific range within the specified array
+     * of primitive values. Both boundaries are considered inclusively.
+     *
+     * @param values reference to the array that is to be sorted.
+     * @param left the left boundary in the array.
+     * @param right the right boundary in the array.
+     */
+    static void sort(short[] values, int left, int right) {
+        for (int i = left + 1; i <= right; ++i) {
+            short temp = values[i];
+            int j = i;
+            while (j > left && values[j - 1] > temp) {
+                values[j] = values[j - 1];
+                --j;
+            }
+            values[j] = temp;
+        }
+    }
+
+    /**
+     * Internal API that respects a specific range within the specified array
+     * of primitive values. Both boundaries are considered inclusively.
+     *
+     * @param values reference to the array that is to be sorted.
+     * @param left the left boundary in the array.
+     * @param right the right boundary in the array.
+     */
+    static void sort(char[] values, int left, int right) {
+        for (int i = left + 1; i <= right; ++i) {
+            char temp = values[i];
+            int j = i;
+            while (j > left && values[j - 1] > temp) {
+                values[j] = values[j - 1];
+                --j;
+            }
+            values[j] = temp;
+        }
+    }
+
+    /**
+     * Internal API that respects a specific range within the specified array
+     * of primitive values. Both boundaries are considered inclusively.
+     *
+     * @param values reference to the array that is to be sorted.
+     * @param left the left boundary in the array.
+     * @param right the right boundary in the array.
+     */
+    static void sort(byte[] values, int left, int right) {
+        for (int i = left + 1; i <= right; ++i) {
+            byte temp = values[i];
+            int j = i;
+            while (j > left && values[j - 1] > temp) {
+                values[j] = values[j - 1];
+                --j;
+            }
+            values[j] = temp;
+        }
+    }
+
+    /**
+     * Internal API that respects a specific range within the specified array
+     * of primitive values. Both boundaries are considered inclusively.
+     *
+     * @param values reference to the array that is to be sorted.
+     * @param left the left boundary in the array.
+     * @param right the right boundary in the array.
+     */
+    static void sort(float[] values, int left, int right) {
+        for (int i = left + 1; i <= right; ++i) {
+            float temp = values[i];
+            int j = i;
+            while (j > left && values[j - 1] > temp) {
+                values[j] = values[j - 1];
+                --j;
+            }
+            values[j] = temp;
+        }
+    }
+
+    /**
+     * Internal API that respects a specific range within the specified array
+     * of primitive values. Both boundaries are considered inclusively.
+     *
+     * @param values reference to the array that is to be sorted.
+     * @param left the left boundary in the array.
+     * @param right the right boundary in the array.
+     */
+    static void sort(double[] values, int left, int right) {
+        for (int i = left + 1; i <= right; ++i) {
+            double temp = values[i];
+            int j = i;
+            while (j > left && values[j - 1] > temp) {
+                values[j] = values[j - 1];
+                --j;
+            }
+            values[j] = temp;
+        }
+    }
 }
@@ -0,0 +1,202 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import org.sort_search_lib.java.sort.api.InPlaceSort;
+
+/**
+ * Decorates an {@link InPlaceSort} to record statistics of its sorts, which
+ * helps to find out why some sorts take longer than others, e.g. because of
+ * degenerate pivots or an expensive comparator.
+ *
+ * Comparisons and wall time are always recorded, by wrapping the comparator
+ * and by timing each call. Comparisons are counted on every thread, so they
+ * are exact for parallel algorithms as well. Swaps, moves, the recursion depth and Heap-Sort
+ * fallbacks of Introsort are recorded by hooks in the kernels of this library,
+ * which are only enabled if the JVM is started with the system property
+ * {@code org.sort_search_lib.java.sort.instrumentation=true}. Without it the
+ * hooks are removed by the just-in-time compiler, so neither this class nor
+ * any other sort pays for them.
+ *
+ * The statistics of each sort are passed to the registered
+ * {@link SortListener}s. The statistics of all sorts are accumulated and can
+ * be polled by using {@link #snapshot()}. The kernel counters are exact for
+ * sequential algorithms only, as the hooks count the sorting thread only.
+ *
+ * @author Matthias Fussenegger
+ */
+public final class InstrumentedSort implements InPlaceSort {
+
+    /**
+     * The sort of which to record statistics.
+     */
+    private final InPlaceSort _delegate;
+
+    /**
+     * Listeners notified after each sort.
+     */
+    private final List<SortListener> _listeners = new CopyOnWriteArrayList<SortListener>();
+
+    /**
+     * Statistics accumulated over all sorts.
+     */
+    private volatile SortStatistics _total = SortStatistics.EMPTY;
+
+    /**
+     * Creates a new instance which records statistics of the specified sort.
+     *
+     * @param delegate the sort of which to record statistics.
+     */
+    public InstrumentedSort(InPlaceSort delegate) {
+        if (delegate == null) {
+            throw new NullPointerException("delegate must not be null");
+        }
+        _delegate = delegate;
+    }
+
+    /**
+     * Returns whether the kernel hooks are enabled, which record swaps,
+     * moves, the recursion depth and Heap-Sort fallbacks.
+     *
+     * @return true if the kernel hooks are enabled.
+     */
+    public static boolean isKernelInstrumentationEnabled() {
+        return SortProbe.ENABLED;
+    }
+
+    /**
+     * Registers the specified listener.
+     *
+     * @param listener the listener to be notified after each sort.
+     */
+    public void addListener(SortListener listener) {
+        if (listener == null) {
+            throw new NullPointerException("listener must not be null");
+        }
+        _listeners.add(listener);
+    }
+
+    /**
+     * Removes the specified listener.
+     *
+     * @param listener the listener to be removed.
+     */
+    public void removeListener(SortListener listener) {
+        _listeners.remove(listener);
+    }
+
+    /**
+     * Returns the statistics accumulated over all sorts since this instance
+     * has been created or reset.
+     *
+     * @return a snapshot of the accumulated statistics.
+     */
+    public SortStatistics snapshot() {
+        return _total;
+    }
+
+    /**
+     * Resets the accumulated statistics.
+     */
+    public synchronized void reset() {
+        _total = SortStatistics.EMPTY;
+    }
+
+    @Override
+    public <T> void sort(T[] values) {
+        sort(values, 0, 0, Comparators.<T>naturalOrder(), false);
+    }
+
+    @Override
+    public <T> void sort(T[] values, Comparator<? super T> c) {
+        sort(values, 0, 0, c, false);
+    }
+
+    @Override
+    public <T> void sortRange(T[] values, int fromIndex, int toIndex) {
+        sort(values, fromIndex, toIndex, Comparators.<T>naturalOrder(), true);
+    }
+
+    @Override
+    public <T> void sortRange(T[] values, int fromIndex, int toIndex, Comparator<? super T> c) {
+        sort(values, fromIndex, toIndex, c, true);
+    }
+
+    /**
+     * Sorts the whole array or the specified range by using the delegate and
+     * records the statistics of the sort.
+     */
+    private <T> void sort(T[] values, int fromIndex, int toIndex,
+            Comparator<? super T> c, boolean range) {
+        SortProbe probe = new SortProbe();
+        CountingComparator<T> counting = new CountingComparator<T>(c);
+        SortProbe previous = SortProbe.bind(probe);
+        long startTime = System.nanoTime();
+        try {
+            if (range) {
+                _delegate.sortRange(values, fromIndex, toIndex, counting);
+            } else {
+                _delegate.sort(values, counting);
+            }
+        } finally {
+            SortProbe.bind(previous);
+        }
+        SortStatistics statistics = new SortStatistics(1, counting._comparisons.sum(),
+                probe._swaps, probe._moves, probe._maxDepth,
+                probe._heapSortFallbacks, System.nanoTime() - startTime);
+        record(statistics);
+        for (SortListener listener : _listeners) {
+            listener.sorted(statistics);
+        }
+    }
+
+    private synchronized void record(SortStatistics statistics) {
+        _total = _total.add(statistics);
+    }
+
+    /**
+     * Comparator which counts its calls before delegating them. The counter
+     * may be updated by the worker threads of parallel algorithms.
+     */
+    private static final class CountingComparator<T> implements Comparator<T> {
+
+        private final Comparator<? super T> _comparator;
+
+        private final LongAdder _comparisons = new LongAdder();
+
+        CountingComparator(Comparator<? super T> comparator) {
+            _comparator = comparator;
+        }
+
+        @Override
+        public int compare(T v1, T v2) {
+            _comparisons.increment();
+            return _comparator.compare(v1, v2);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+import java.util.Comparator;
+import org.sort_search_lib.java.sort.api.InPlaceSort;
+import org.sort_search_lib.java.sort.api.Selection;
+
+/**
+ * Offers the Introselect algorithm to find the {@code k}-th smallest element
+ * of an array consisting of any type, by its natural ordering or by using a
+ * specified {@link Comparator}.
+ *
+ * The array is partitioned like in Quick-Sort, but only the partition holding
+ * position {@code k} is looked at again, which takes linear time on average.
+ * Elements equal to the pivot are grouped in the middle of each partition, so
+ * duplicates end the search early. As bad pivots could still cause quadratic
+ * time, the size of the range has to halve at least every fourth partition.
+ * Otherwise, the pivots are chosen as median of medians, which guarantees a
+ * worst case of {@code O(n)}.
+ *
+ * @author Matthias Fussenegger
+ */
+public final class IntroSelect implements Selection {
+
+    /**
+     * Number of partitions after which the size of the range has to be halved.
+     */
+    static final int PARTITIONS_PER_HALVING = 4;
+
+    /**
+     * Quicksort instance used for partitioning.
+     */
+    private final Quicksort _quicksort = new Quicksort();
+
+    @Override
+    public <T> T select(T[] values, int k) {
+        return select(values, k, Comparators.<T>naturalOrder());
+    }
+
+    @Override
+    public <T> T select(T[] values, int k, Comparator<? super T> c) {
+        if (k < 0 || k >= values.length) {
+            throw new IllegalArgumentException("k is not a valid position: " + k);
+        }
+        return select(values, 0, values.length - 1, k, c);
+    }
+
+    @Override
+    public <T> T median(T[] values) {
+        return median(values, Comparators.<T>naturalOrder());
+    }
+
+    @Override
+    public <T> T median(T[] values, Comparator<? super T> c) {
+        if (values.length == 0) {
+            throw new IllegalArgumentException("Array must not be empty");
+        }
+        return select(values, 0, values.length - 1, (values.length - 1) / 2, c);
+    }
+
+    /**
+     * Internal API that selects the {@code k}-th smallest element within the
+     * range {@code [left, right]} of the specified array.
+     *
+     * @param <T> type of the array elements.
+     * @param values the array of which to select the element.
+     * @param left the left boundary (inclusive) of the range.
+     * @param right the right boundary (inclusive) of the range.
+     * @param k the position of the element, which is within the range.
+     * @param c the {@link Comparator} used to compare the elements.
+     * @return the element at position {@code k} after reordering.
+     */
+    <T> T select(T[] values, int left, int right, int k, Comparator<? super T> c) {
+        int limit = right - left + 1;
+        int partitions = 0;
+        while (right - left >= InPlaceSort.SIZE_THRESHOLD) {
+            if (partitions == PARTITIONS_PER_HALVING) {
+                if (right - left + 1 > limit / 2) {
+                    return selectUsingMedianOfMedians(values, left, right, k, c);
+                }
+                limit = right - left + 1;
+                partitions = 0;
+            }
+            ++partitions;
+            int[] div = _quicksort.divideThreeWayUsingComparator(left, right, c, values);
+            if (k < div[0]) {
+                right = div[0] - 1;
+            } else if (k > div[1]) {
+                left = div[1] + 1;
+            } else {
+                return values[k]; // equal to the pivot
+            }
+        }
+        InsertionSort.sort(values, left, right, c);
+        return values[k];
+    }
+
+    /**
+     * Selects the {@code k}-th smallest element within the range
+     * {@code [left, right]} by using the median of medians as pivot, which
+     * guarantees that each partition shrinks the range by a constant factor.
+     *
+     * @param <T> type of the array elements.
+     * @param values the array of which to select the element.
+     * @param left the left boundary (inclusive) of the range.
+     * @param right the right boundary (inclusive) of the range.
+     * @param k the position of the element, which is within the range.
+     * @param c the {@link Comparator} used to compare the elements.
+     * @return the element at position {@code k} after reordering.
+     */
+    private static <T> T selectUsingMedianOfMedians(T[] values, int left, int right,
+            int k, Comparator<? super T> c) {
+        while (right - left >= InPlaceSort.SIZE_THRESHOLD) {
+            int pivot = medianOfMedians(values, left, right, c);
+            int[] div = partition(values, left, right, pivot, c);
+            if (k < div[0]) {
+                right = div[0] - 1;
+            } else if (k > div[1]) {
+                left = div[1] + 1;
+            } else {
+                return values[k]; // equal to the pivot
+            }
+        }
+        InsertionSort.sort(values, left, right, c);
+        return values[k];
+    }
+
+    /**
+     * Moves the medians of all groups of five elements to the front of the
+     * specified range and selects the median of these medians.
+     *
+     * @return the position of the median of medians.
+     */
+    private static <T> int medianOfMedians(T[] values, int left, int right,
+            Comparator<? super T> c) {
+        int medians = 0;
+        for (int i = left; i <= right; i += 5) {
+            int end = Math.min(i + 4, right);
+            InsertionSort.sort(values, i, end, c);
+            swap(values, left + medians++, (i + end) / 2);
+        }
+        int mid = left + (medians - 1) / 2;
+        selectUsingMedianOfMedians(values, left, left + medians - 1, mid, c);
+        return mid;
+    }
+
+    /**
+     * Partitions the specified range into elements smaller than, equal to and
+     * bigger than the element at the specified position.
+     *
+     * @return the first and the last position (both inclusive) of the
+     * elements which are equal to the pivot.
+     */
+    private static <T> int[] partition(T[] values, int left, int right, int pivot,
+            Comparator<? super T> c) {
+        T pivotValue = values[pivot];
+        int lower = left, i = left, upper = right;
+        while (i <= upper) {
+            int cmp = c.compare(values[i], pivotValue);
+            if (cmp < 0) {
+                swap(values, lower++, i++);
+            } else if (cmp > 0) {
+                swap(values, i, upper--);
+            } else {
+                ++i;
+            }
+        }
+        return new int[]{lower, upper};
+    }
+
+    private static <T> void swap(T[] values, int i, int j) {
+        T temp = values[j];
+        values[j] = values[i];
+        values[i] = temp;
+    }
+}
@@ -25,14 +25,16 @@ package org.sort_search_lib.java.sort;
 
 import java.util.Comparator;
 import org.sort_search_lib.java.sort.api.InPlaceSort;
+import org.sort_search_lib.java.sort.api.PrimitiveSort;
 
 /**
  * Offers the Introsort algorithm to sort an array consisting of any type in
- * ascending order or by using a specified {@link Comparator}.
+ * ascending order or by using a specified {@link Comparator}. Arrays of
+ * primitive values are sorted by dedicated kernels, without boxing them.
  *
  * @author Matthias Fussenegger
  */
-public final class IntroSort implements InPlaceSort {
+public final class IntroSort implements InPlaceSort, PrimitiveSort {
 
     /**
      * Heap sort instance used to sort if depth is zero.
@@ -60,9 +62,43 @@ public final class IntroSort implements InPlaceSort {
         }
     }
 
-    private <T> void introsortComparable(T[] values, int left, int right, int maxDepth) {
+    @Override
+    public <T> void sortRange(T[] values, int fromIndex, int toIndex) {
+        Ranges.check(values.length, fromIndex, toIndex);
+        if (toIndex - fromIndex > 1) {
+            int maxDepth = calculateMaxDepth(toIndex - fromIndex);
+            introsortComparable(values, fromIndex, toIndex - 1, maxDepth);
+        }
+    }
+
+    @Override
+    public <T> void sortRange(T[] values, int fromIndex, int toIndex, Comparator<? super T> c) {
+        Ranges.check(values.length, fromIndex, toIndex);
+        if (toIndex - fromIndex > 1) {
+            int maxDepth = calculateMaxDepth(toIndex - fromIndex);
+            introsortUsingComparator(values, fromIndex, toIndex - 1, maxDepth, c);
+        }
+    }
+
+    /**
+     * Main method for recursive call of Introsort-algorithm using the natural
+     * ordering of the array elements for sorting.
+     *
+     * @param <T> type of the array elements.
+     * @param values the array to be sorted.
+     * @param left the left boundary of the array.
+     * @param right the right boundary of the array.
+     * @param maxDepth the remaining depth before switching to Heap-Sort.
+     */
+    <T> void introsortComparable(T[] values, int left, int right, int maxDepth) {
+        if (SortProbe.ENABLED) {
+            SortProbe.enter();
+        }
         if (left < right) {
             if (maxDepth == 0) {
+                if (SortProbe.ENABLED) {
+                    SortProbe.heapSortFallback();
+                }
                 _heapSort.sort(values, left, right);
             } else if (right - left < SIZE_THRESHOLD) {
                 InsertionSort.sort(values, left, right);
@@ -72,12 +108,32 @@ public final class IntroSort implements InPlaceSort {
                 introsortComparable(values, pivot + 1, right, maxDepth - 1);
             }
         }
+        if (SortProbe.ENABLED) {
+            SortProbe.exit();
+        }
     }
 
-    private <T> void introsortUsingComparator(T[] values, int left, int right,
+    /**
+     * Main method for recursive call of Introsort-algorithm using the specified
+     * comparator for sorting the elements in the array.
+     *
+     * @param <T> type of the array elements.
+     * @param values the array to be sorted.
+     * @param left the left boundary of the array.
+     * @param right the right boundary of the array.
+     * @param maxDepth the remaining depth before switching to Heap-Sort.
+     * @param c the comparator used for sorting the array.
+     */
+    <T> void introsortUsingComparator(T[] values, int left, int right,
             int maxDepth, Comparator<? super T> c) {
+        if (SortProbe.ENABLED) {
+            SortProbe.enter();
+        }
         if (left < right) {
             if (maxDepth == 0) {
+                if (SortProbe.ENABLED) {
+                    SortProbe.heapSortFallback();
+                }
                 _heapSort.sort(values, left, right, c);
             } else if (right - left < SIZE_THRESHOLD) {
                 InsertionSort.sort(values, left, right, c);
@@ -87,9 +143,170 @@ public final class IntroSort implements InPlaceSort {
                 introsortUsingComparator(values, pivot + 1, right, maxDepth - 1, c);
             }
         }
+        if (SortProbe.ENABLED) {
+            SortProbe.exit();
+        }
     }
 
-    private int calculateMaxDepth(int length) {
+    static int calculateMaxDepth(int length) {
         return (int) Math.floor(Math.log(length)) * 2;
     }
+
+    @Override
+    public void sort(int[] values) {
+        if (values != null && values.length > 1) {
+            int maxDepth = calculateMaxDepth(values.length);
+            introsort(values, 0, values.length - 1, maxDepth);
+        }
+    }
+
+    @Override
+    public void sort(long[] values) {
+        if (values != null && values.length > 1) {
+            int maxDepth = calculateMaxDepth(values.length);
+            introsort(values, 0, values.length - 1, maxDepth);
+        }
+    }
+
+    @Override
+    public void sort(short[] values) {
+        if (values != null && values.length > 1) {
+            int maxDepth = calculateMaxDepth(values.length);
+            introsort(values, 0, values.length - 1, maxDepth);
+        }
+    }
+
+    @Override
+    public void sort(char[] values) {
+        if (values != null && values.length > 1) {
+            int maxDepth = calculateMaxDepth(values.length);
+            introsort(values, 0, values.length - 1, maxDepth);
+        }
+    }
+
+    @Override
+    public void sort(byte[] values) {
+        if (values != null && values.length > 1) {
+            int maxDepth = calculateMaxDepth(values.length);
+            introsort(values, 0, values.length - 1, maxDepth);
+        }
+    }
+
+    @Override
+    public void sort(float[] values) {
+        if (values != null && values.length > 1) {
+            int right = FloatingPoints.moveNaNsToEnd(values, 0, values.length - 1);
+            int maxDepth = calculateMaxDepth(right + 1);
+            introsort(values, 0, right, maxDepth);
+            FloatingPoints.orderSignedZeros(values, 0, right);
+        }
+    }
+
+    @Override
+    public void sort(double[] values) {
+        if (values != null && values.length > 1) {
+            int right = FloatingPoints.moveNaNsToEnd(values, 0, values.length - 1);
+            int maxDepth = calculateMaxDepth(right + 1);
+            introsort(values, 0, right, maxDepth);
+            FloatingPoints.orderSignedZeros(values, 0, right);
+        }
+    }
+
+    private void introsort(int[] values, int left, int right, int maxDepth) {
+        if (left < right) {
+            if (maxDepth == 0) {
+                _heapSort.sort(values, left, right);
+            } else if (right - left < SIZE_THRESHOLD) {
+                InsertionSort.sort(values, left, right);
+            } else {
+                int pivot = _quicksort.divide(left, right, values);
+                introsort(values, left, pivot - 1, maxDepth - 1);
+                introsort(values, pivot + 1, right, maxDepth - 1);
+            }
+        }
+    }
+
+    private void introsort(long[] values, int left, int right, int maxDepth) {
+        if (left < right) {
+            if (maxDepth == 0) {
+                _heapSort.sort(values, left, right);
+            } else if (right - left < SIZE_THRESHOLD) {
+                InsertionSort.sort(values, left, right);
+            } else {
+                int pivot = _quicksort.divide(left, right, values);
+                introsort(values, left, pivot - 1, maxDepth - 1);
+                introsort(values, pivot + 1, right, maxDepth - 1);
+            }
+        }
+    }
+
+    private void introsort(short[] values, int left, int right, int maxDepth) {
+        if (left < right) {
+            if (maxDepth == 0) {
+                _heapSort.sort(values, left, right);
+            } else if (right - left < SIZE_THRESHOLD) {
+                InsertionSort.sort(values, left, right);
+            } else {
+                int pivot = _quicksort.divide(left, right, values);
+                introsort(values, left, pivot - 1, maxDepth - 1);
+                introsort(values, pivot + 1, right, maxDepth - 1);
+            }
+        }
+    }
+
+    private void introsort(char[] values, int left, int right, int maxDepth) {
+        if (left < right) {
+            if (maxDepth == 0) {
+                _heapSort.sort(values, left, right);
+            } else if (right - left < SIZE_THRESHOLD) {
+                InsertionSort.sort(values, left, right);
+            } else {
+                int pivot = _quicksort.divide(left, right, values);
+                introsort(values, left, pivot - 1, maxDepth - 1);
+                introsort(values, pivot + 1, right, maxDepth - 1);
+            }
+        }
+    }
+
+    private void introsort(byte[] values, int left, int right, int maxDepth) {
+        if (left < right) {
+            if (maxDepth == 0) {
+                _heapSort.sort(values, left, right);
+            } else if (right - left < SIZE_THRESHOLD) {
+                InsertionSort.sort(values, left, right);
+            } else {
+                int pivot = _quicksort.divide(left, right, values);
+                introsort(values, left, pivot - 1, maxDepth - 1);
+                introsort(values, pivot + 1, right, maxDepth - 1);
+            }
+        }
+    }
+
+    private void introsort(float[] values, int left, int right, int maxDepth) {
+        if (left < right) {
+            if (maxDepth == 0) {
+                _heapSort.sort(values, left, right);
+            } else if (right - left < SIZE_THRESHOLD) {
+                InsertionSort.sort(values, left, right);
+            } else {
+                int pivot = _quicksort.divide(left, right, values);
+                introsort(values, left, pivot - 1, maxDepth - 1);
+                introsort(values, pivot + 1, right, maxDepth - 1);
+            }
+        }
+    }
+
+    private void introsort(double[] values, int left, int right, int maxDepth) {
+        if (left < right) {
+            if (maxDepth == 0) {
+                _heapSort.sort(values, left, right);
+            } else if (right - left < SIZE_THRESHOLD) {
+                InsertionSort.sort(values, left, right);
+            } else {
+                int pivot = _quicksort.divide(left, right, values);
+                introsort(values, left, pivot - 1, maxDepth - 1);
+                introsort(values, pivot + 1, right, maxDepth - 1);
+            }
+        }
+    }
 }
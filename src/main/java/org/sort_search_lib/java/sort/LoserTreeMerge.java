@@ -0,0 +1,268 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Offers a k-way merge of sorted sequences by using a tournament tree of
+ * losers. The sequences have to be sorted in ascending order or by the
+ * specified {@link Comparator}, and the merged elements are returned in the
+ * same order. If elements compare equal, the one of the earlier sequence is
+ * returned first, so the merge is stable.
+ *
+ * Each inner node of the tree holds the sequence which lost the match at this
+ * node, while the overall winner is kept at the root. After the winner has
+ * been returned, only the matches on the path from its leaf to the root are
+ * replayed, which takes {@code log2(k)} comparisons per element.
+ *
+ * An instance merges iterators lazily and is itself an {@link Iterator}. The
+ * static methods merge arrays or lists at once.
+ *
+ * @author Matthias Fussenegger
+ * @param <T> type of the elements.
+ */
+public final class LoserTreeMerge<T> implements Iterator<T> {
+
+    /**
+     * The sequences which are merged.
+     */
+    private final Iterator<? extends T>[] _sources;
+
+    /**
+     * The comparator used to compare the elements.
+     */
+    private final Comparator<? super T> _comparator;
+
+    /**
+     * The current element of each sequence.
+     */
+    private final Object[] _heads;
+
+    /**
+     * True for each sequence without any elements left.
+     */
+    private final boolean[] _exhausted;
+
+    /**
+     * The winner at index zero, the loser of each match at the other indexes.
+     * The leaf of sequence {@code i} is at index {@code i + k}.
+     */
+    private final int[] _tree;
+
+    /**
+     * Constructs a new instance which merges the specified iterators by
+     * the natural ordering of their elements.
+     *
+     * @param sources the sorted iterators to be merged.
+     */
+    public LoserTreeMerge(List<? extends Iterator<? extends T>> sources) {
+        this(sources, Comparators.<T>naturalOrder());
+    }
+
+    /**
+     * Constructs a new instance which merges the specified iterators by
+     * using the specified {@link Comparator}.
+     *
+     * @param sources the sorted iterators to be merged.
+     * @param c the {@link Comparator} used to compare the elements.
+     */
+    public LoserTreeMerge(List<? extends Iterator<? extends T>> sources,
+            Comparator<? super T> c) {
+        if (c == null) {
+            throw new NullPointerException("comparator must not be null");
+        }
+        int k = sources.size();
+        @SuppressWarnings("unchecked")
+        Iterator<? extends T>[] its = (Iterator<? extends T>[]) new Iterator<?>[k];
+        _sources = sources.toArray(its);
+        _comparator = c;
+        _heads = new Object[k];
+        _exhausted = new boolean[k];
+        _tree = new int[Math.max(k, 1)];
+        for (int i = 0; i < k; ++i) {
+            advance(i);
+        }
+        if (k > 0) {
+            _tree[0] = initialize(1);
+        }
+    }
+
+    /**
+     * Merges the specified sorted arrays by the natural ordering of their
+     * elements.
+     *
+     * @param <T> type of the array elements.
+     * @param arrays the sorted arrays to be merged.
+     * @return a new array with the elements of all arrays.
+     */
+    public static <T> T[] merge(T[][] arrays) {
+        return merge(arrays, Comparators.<T>naturalOrder());
+    }
+
+    /**
+     * Merges the specified sorted arrays by using the specified
+     * {@link Comparator}.
+     *
+     * @param <T> type of the array elements.
+     * @param arrays the sorted arrays to be merged.
+     * @param c the {@link Comparator} used to compare the elements.
+     * @return a new array with the elements of all arrays.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T[] merge(T[][] arrays, Comparator<? super T> c) {
+        int length = 0;
+        List<Iterator<T>> sources = new ArrayList<Iterator<T>>(arrays.length);
+        for (T[] array : arrays) {
+            length += array.length;
+            sources.add(Arrays.asList(array).iterator());
+        }
+        T[] result = (T[]) Array.newInstance(
+                arrays.getClass().getComponentType().getComponentType(), length);
+        LoserTreeMerge<T> merge = new LoserTreeMerge<T>(sources, c);
+        for (int i = 0; i < length; ++i) {
+            result[i] = merge.next();
+        }
+        return result;
+    }
+
+    /**
+     * Merges the specified sorted lists by the natural ordering of their
+     * elements.
+     *
+     * @param <T> type of the list elements.
+     * @param lists the sorted lists to be merged.
+     * @return a new list with the elements of all lists.
+     */
+    public static <T> List<T> merge(List<? extends List<? extends T>> lists) {
+        return merge(lists, Comparators.<T>naturalOrder());
+    }
+
+    /**
+     * Merges the specified sorted lists by using the specified
+     * {@link Comparator}.
+     *
+     * @param <T> type of the list elements.
+     * @param lists the sorted lists to be merged.
+     * @param c the {@link Comparator} used to compare the elements.
+     * @return a new list with the elements of all lists.
+     */
+    public static <T> List<T> merge(List<? extends List<? extends T>> lists,
+            Comparator<? super T> c) {
+        int size = 0;
+        List<Iterator<? extends T>> sources = new ArrayList<Iterator<? extends T>>(lists.size());
+        for (List<? extends T> list : lists) {
+            size += list.size();
+            sources.add(list.iterator());
+        }
+        List<T> result = new ArrayList<T>(size);
+        LoserTreeMerge<T> merge = new LoserTreeMerge<T>(sources, c);
+        while (merge.hasNext()) {
+            result.add(merge.next());
+        }
+        return result;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return _sources.length > 0 && !_exhausted[_tree[0]];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        int winner = _tree[0];
+        T element = (T) _heads[winner];
+        advance(winner);
+        /*replay the matches on the path to the root*/
+        for (int node = (winner + _sources.length) / 2; node > 0; node /= 2) {
+            if (beats(_tree[node], winner)) {
+                int temp = _tree[node];
+                _tree[node] = winner;
+                winner = temp;
+            }
+        }
+        _tree[0] = winner;
+        return element;
+    }
+
+    /**
+     * Plays the matches of the subtree below the specified node.
+     *
+     * @param node the index of the root of the subtree.
+     * @return the winner of the subtree.
+     */
+    private int initialize(int node) {
+        int k = _sources.length;
+        if (node >= k) {
+            return node - k; // leaf
+        }
+        int left = initialize(2 * node);
+        int right = initialize(2 * node + 1);
+        if (beats(left, right)) {
+            _tree[node] = right;
+            return left;
+        }
+        _tree[node] = left;
+        return right;
+    }
+
+    /**
+     * Returns true if the first sequence wins the match against the second
+     * one. Exhausted sequences lose every match and ties are won by the
+     * earlier sequence.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean beats(int first, int second) {
+        if (_exhausted[first]) {
+            return false;
+        }
+        if (_exhausted[second]) {
+            return true;
+        }
+        int cmp = _comparator.compare((T) _heads[first], (T) _heads[second]);
+        return cmp < 0 || (cmp == 0 && first < second);
+    }
+
+    /**
+     * Moves the specified sequence to its next element.
+     */
+    private void advance(int source) {
+        if (_sources[source].hasNext()) {
+            _heads[source] = _sources[source].next();
+        } else {
+            _heads[source] = null;
+            _exhausted[source] = true;
+        }
+    }
+}
@@ -26,113 +26,188 @@ package org.sort_search_lib.java.sort;
 import org.sort_search_lib.java.sort.api.OutPlaceSort;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
  * Offers the traditional Merge-Sort algorithm to sort a {@link List} consisting
  * of any type in ascending order or by using a specified {@link Comparator}.
+ * The sort is stable.
+ *
+ * The elements are copied into an array once and then merged back and forth
+ * between this array and a second one of the same size, so no lists are
+ * created during the recursion. The sorted array is returned as a new
+ * {@link ArrayList}, which can be modified by the caller.
  *
  * @author Matthias Fussenegger
  */
 public final class MergeSort implements OutPlaceSort {
 
+    /**
+     * Size below which a range is sorted using Insertion-Sort.
+     */
+    static final int INSERTION_SORT_THRESHOLD = 16;
+
     @Override
+    @SuppressWarnings("unchecked")
     public <T> List<T> sort(List<T> list) {
         if (list == null || list.size() < 2) {
             return list;
         }
+        T[] buffer = (T[]) list.toArray();
+        T[] result = buffer.clone();
+        mergeSortComparable(buffer, result, 0, result.length);
+        return toList(result);
+    }
 
-        /*sublists consisting of the even and odd-indexed elements*/
-        List<T> left = new LinkedList<T>();
-        List<T> right = new LinkedList<T>();
-
-        /*divide list into equal-sized sublists*/
-        for (int i = 0; i < list.size(); ++i) {
-            if (i % 2 != 0) { // odd
-                left.add(list.get(i));
-            } else { // even
-                right.add(list.get(i));
-            }
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> List<T> sort(List<T> list, Comparator<? super T> c) {
+        if (list == null || list.size() < 2) {
+            return list;
         }
+        T[] buffer = (T[]) list.toArray();
+        T[] result = buffer.clone();
+        mergeSortUsingComparator(buffer, result, 0, result.length, c);
+        return toList(result);
+    }
 
-        /*recursively sort both sublists*/
-        left = sort(left);
-        right = sort(right);
-
-        /*at the end merge the sorted sublists*/
-        return mergeComparable(left, right);
+    /**
+     * Returns a new {@link ArrayList} holding the elements of the specified
+     * array. The list is filled directly from the array, without the
+     * intermediate copy made by
+     * {@link ArrayList#ArrayList(java.util.Collection)}.
+     *
+     * @param <T> type of the array elements.
+     * @param values the array holding the elements of the list.
+     * @return a modifiable list holding the elements in the same order.
+     */
+    static <T> List<T> toList(T[] values) {
+        List<T> list = new ArrayList<T>(values.length);
+        for (T value : values) {
+            list.add(value);
+        }
+        return list;
     }
 
+    /**
+     * Sorts the specified range of {@code dest} by using the natural ordering
+     * of its elements. Both arrays have to hold the same elements within the
+     * range when calling this method, as they swap roles on each level of the
+     * recursion: the sorted halves are written to {@code src} and then merged
+     * back into {@code dest}.
+     *
+     * @param <T> type of the array elements.
+     * @param src the array that is used as buffer.
+     * @param dest the array that holds the sorted range afterwards.
+     * @param low the left boundary (inclusive) of the range.
+     * @param high the right boundary (exclusive) of the range.
+     */
     @SuppressWarnings("unchecked")
-    private <T> List<T> mergeComparable(List<T> left, List<T> right) {
-        
-        List<T> result = new ArrayList<T>(left.size() + right.size());
-
-        while (!left.isEmpty() && !right.isEmpty()) {
-            if (((Comparable<? super T>) left.get(0)).compareTo(right.get(0)) > 0) {
-                result.add(right.remove(0));
-            } else {
-                result.add(left.remove(0));
-            }
+    static <T> void mergeSortComparable(T[] src, T[] dest, int low, int high) {
+        if (high - low < INSERTION_SORT_THRESHOLD) {
+            InsertionSort.sort(dest, low, high - 1);
+            return;
         }
 
-        while (!left.isEmpty()) {
-            result.add(left.remove(0));
-        }
+        /*recursively sort both halves into the buffer*/
+        int mid = (low + high) >>> 1;
+        mergeSortComparable(dest, src, low, mid);
+        mergeSortComparable(dest, src, mid, high);
 
-        while (!right.isEmpty()) {
-            result.add(right.remove(0));
+        /*skip merging if both halves are already in order*/
+        if (((Comparable<? super T>) src[mid - 1]).compareTo(src[mid]) <= 0) {
+            System.arraycopy(src, low, dest, low, high - low);
+            return;
         }
-        return result;
+        mergeComparable(src, low, mid, mid, high, dest, low);
     }
 
-    @Override
-    public <T> List<T> sort(List<T> list, Comparator<? super T> c) {
-        if (list.size() <= 1) {
-            return list;
+    /**
+     * Sorts the specified range of {@code dest} by using the specified
+     * {@link Comparator}. See {@link #mergeSortComparable} for details.
+     *
+     * @param <T> type of the array elements.
+     * @param src the array that is used as buffer.
+     * @param dest the array that holds the sorted range afterwards.
+     * @param low the left boundary (inclusive) of the range.
+     * @param high the right boundary (exclusive) of the range.
+     * @param c the {@link Comparator} used to compare the elements.
+     */
+    static <T> void mergeSortUsingComparator(T[] src, T[] dest, int low, int high,
+            Comparator<? super T> c) {
+        if (high - low < INSERTION_SORT_THRESHOLD) {
+            InsertionSort.sort(dest, low, high - 1, c);
+            return;
         }
 
-        /*sublists consisting of the even and odd-indexed elements*/
-        List<T> left = new LinkedList<T>();
-        List<T> right = new LinkedList<T>();
+        /*recursively sort both halves into the buffer*/
+        int mid = (low + high) >>> 1;
+        mergeSortUsingComparator(dest, src, low, mid, c);
+        mergeSortUsingComparator(dest, src, mid, high, c);
 
-        /*divide list into equal-sized sublists*/
-        for (int i = 0; i < list.size(); ++i) {
-            if (i % 2 != 0) { // odd
-                left.add(list.get(i));
-            } else { // even
-                right.add(list.get(i));
-            }
+        /*skip merging if both halves are already in order*/
+        if (c.compare(src[mid - 1], src[mid]) <= 0) {
+            System.arraycopy(src, low, dest, low, high - low);
+            return;
         }
-
-        /*recursively sort both sublists*/
-        left = sort(left, c);
-        right = sort(right, c);
-
-        /*at the end merge the sorted sublists*/
-        return mergeUsingComparator(left, right, c);
+        mergeUsingComparator(src, low, mid, mid, high, dest, low, c);
     }
 
-    private <T> List<T> mergeUsingComparator(List<T> left, List<T> right, Comparator<? super T> c) {
-        
-        List<T> result = new ArrayList<T>(left.size() + right.size());
-
-        while (!left.isEmpty() && !right.isEmpty()) {
-            if (c.compare(left.get(0), right.get(0)) > 0) {
-                result.add(right.remove(0));
+    /**
+     * Merges the sorted ranges {@code [low1, high1)} and {@code [low2, high2)}
+     * of {@code src} into {@code dest}, starting at the specified offset. On
+     * equal elements the one of the first range is taken first.
+     *
+     * @param <T> type of the array elements.
+     * @param src the array holding both sorted ranges.
+     * @param low1 the left boundary (inclusive) of the first range.
+     * @param high1 the right boundary (exclusive) of the first range.
+     * @param low2 the left boundary (inclusive) of the second range.
+     * @param high2 the right boundary (exclusive) of the second range.
+     * @param dest the array to which the merged elements are written.
+     * @param offset the position in {@code dest} of the first merged element.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> void mergeComparable(T[] src, int low1, int high1, int low2,
+            int high2, T[] dest, int offset) {
+        int i = low1, j = low2, k = offset;
+        while (i < high1 && j < high2) {
+            if (((Comparable<? super T>) src[i]).compareTo(src[j]) > 0) {
+                dest[k++] = src[j++];
             } else {
-                result.add(left.remove(0));
+                dest[k++] = src[i++];
             }
         }
+        System.arraycopy(src, i, dest, k, high1 - i);
+        System.arraycopy(src, j, dest, k + high1 - i, high2 - j);
+    }
 
-        while (!left.isEmpty()) {
-            result.add(left.remove(0));
-        }
-
-        while (!right.isEmpty()) {
-            result.add(right.remove(0));
+    /**
+     * Merges the sorted ranges {@code [low1, high1)} and {@code [low2, high2)}
+     * of {@code src} into {@code dest} by using the specified
+     * {@link Comparator}. See {@link #mergeComparable} for details.
+     *
+     * @param <T> type of the array elements.
+     * @param src the array holding both sorted ranges.
+     * @param low1 the left boundary (inclusive) of the first range.
+     * @param high1 the right boundary (exclusive) of the first range.
+     * @param low2 the left boundary (inclusive) of the second range.
+     * @param high2 the right boundary (exclusive) of the second range.
+     * @param dest the array to which the merged elements are written.
+     * @param offset the position in {@code dest} of the first merged element.
+     * @param c the {@link Comparator} used to compare the elements.
+     */
+    static <T> void mergeUsingComparator(T[] src, int low1, int high1, int low2,
+            int high2, T[] dest, int offset, Comparator<? super T> c) {
+        int i = low1, j = low2, k = offset;
+        while (i < high1 && j < high2) {
+            if (c.compare(src[i], src[j]) > 0) {
+                dest[k++] = src[j++];
+            } else {
+                dest[k++] = src[i++];
+            }
         }
-        return result;
+        System.arraycopy(src, i, dest, k, high1 - i);
+        System.arraycopy(src, j, dest, k + high1 - i, high2 - j);
     }
 }
@@ -0,0 +1,159 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+import java.util.Arrays;
+
+/**
+ * Offers the MSD (most significant digit) Radix-Sort algorithm to sort an
+ * array of {@link String} or any other {@link CharSequence} in ascending
+ * lexicographical order of their {@code char} values, which is the order
+ * defined by {@link String#compareTo(String)}.
+ *
+ * The elements are distributed into buckets by one {@code char} at a time.
+ * A histogram only covers the range between the smallest and the largest
+ * {@code char} of a bucket and is allocated once per depth, so it is reused by
+ * all buckets of the same depth. A prefix that is shared by all elements of a
+ * bucket is skipped in a single pass, and small buckets are sorted using
+ * Insertion-Sort, which compares the elements starting at the first
+ * {@code char} that is not known to be equal.
+ *
+ * @author Matthias Fussenegger
+ */
+public final class MsdRadixSort {
+
+    /**
+     * Size below which a bucket is sorted using Insertion-Sort.
+     */
+    static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /**
+     * Sorts the specified array in ascending lexicographical order.
+     *
+     * @param <T> type of the array elements.
+     * @param values an array consisting of character sequences.
+     */
+    public <T extends CharSequence> void sort(T[] values) {
+        if (values != null && values.length > 1) {
+            new BucketSorter<T>(values).sort(0, values.length - 1, 0);
+        }
+    }
+
+    /**
+     * Holds the state of a single sort: the buffers for distributing the
+     * elements and the histograms of each depth.
+     *
+     * @param <T> type of the array elements.
+     */
+    private static final class BucketSorter<T extends CharSequence> {
+
+        private final T[] _values;
+        private final T[] _buffer;
+        private final int[] _keys;
+        private final SuffixComparator _suffixComparator = new SuffixComparator();
+        private int[][] _counts = new int[16][];
+
+        @SuppressWarnings("unchecked")
+        BucketSorter(T[] values) {
+            _values = values;
+            _buffer = (T[]) new CharSequence[values.length]; // never leaves this class
+            _keys = new int[values.length];
+        }
+
+        /**
+         * Sorts the specified range, of which all elements share the chars
+         * before position {@code d}.
+         *
+         * @param left the left boundary (inclusive) of the range.
+         * @param right the right boundary (inclusive) of the range.
+         * @param d the position of the char by which to distribute.
+         */
+        void sort(int left, int right, int d) {
+            final int n = right - left + 1;
+            if (n < INSERTION_SORT_THRESHOLD) {
+                /*all chars before the current one are known to be equal*/
+                _suffixComparator.setOffset(d);
+                InsertionSort.sort(_values, left, right, _suffixComparator);
+                return;
+            }
+            d = SuffixComparator.commonPrefixEnd(_values, left, right, d);
+
+            /*cache the chars at the current position, -1 marks the end*/
+            int min = Character.MAX_VALUE, max = -1;
+            for (int i = left; i <= right; ++i) {
+                T value = _values[i];
+                int key = d < value.length() ? value.charAt(d) : -1;
+                _keys[i - left] = key;
+                if (key >= 0) {
+                    min = Math.min(min, key);
+                    max = Math.max(max, key);
+                }
+            }
+            if (max < 0) {
+                return; // all elements are equal
+            }
+
+            /*histogram of the chars between min and max, plus the end marker*/
+            final int range = max - min + 1;
+            int[] count = countsOf(d, range + 2);
+            Arrays.fill(count, 0, range + 2, 0);
+            for (int i = 0; i < n; ++i) {
+                int key = _keys[i];
+                ++count[(key < 0 ? -1 : key - min) + 2];
+            }
+            for (int r = 0; r < range + 1; ++r) {
+                count[r + 1] += count[r];
+            }
+
+            /*distribute elements into buckets*/
+            for (int i = 0; i < n; ++i) {
+                int key = _keys[i];
+                _buffer[count[(key < 0 ? -1 : key - min) + 1]++] = _values[left + i];
+            }
+            System.arraycopy(_buffer, 0, _values, left, n);
+
+            /*sort each bucket, except the one of exhausted sequences*/
+            for (int r = 0; r < range; ++r) {
+                if (count[r + 1] - count[r] > 1) {
+                    sort(left + count[r], left + count[r + 1] - 1, d + 1);
+                }
+            }
+        }
+
+        /**
+         * Returns the histogram of the specified depth, which is shared by all
+         * buckets of that depth and holds at least the specified number of
+         * entries.
+         */
+        private int[] countsOf(int d, int size) {
+            if (d >= _counts.length) {
+                _counts = Arrays.copyOf(_counts, Math.max(d + 1, _counts.length * 2));
+            }
+            if (_counts[d] == null || _counts[d].length < size) {
+                _counts[d] = new int[size];
+            }
+            return _counts[d];
+        }
+    }
+}
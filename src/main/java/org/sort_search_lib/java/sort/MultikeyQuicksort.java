@@ -0,0 +1,128 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+/**
+ * Offers the Multikey Quicksort algorithm (three-way radix quicksort) by
+ * Bentley and Sedgewick to sort an array of {@link String} or any other
+ * {@link CharSequence} in ascending lexicographical order of their
+ * {@code char} values, which is the order defined by
+ * {@link String#compareTo(String)}.
+ *
+ * Each partition step only looks at the {@code char} at the current position
+ * and divides the elements into those with a smaller, an equal and a larger
+ * {@code char} than the pivot. Only the partition of equal elements advances
+ * to the next position, so shared prefixes are never compared twice, and the
+ * sort works in place without any buffers. A prefix that is shared by all
+ * elements of a partition is skipped in a single pass.
+ *
+ * @author Matthias Fussenegger
+ */
+public final class MultikeyQuicksort {
+
+    /**
+     * Size below which a partition is sorted using Insertion-Sort.
+     */
+    static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /**
+     * Sorts the specified array in ascending lexicographical order.
+     *
+     * @param <T> type of the array elements.
+     * @param values an array consisting of character sequences.
+     */
+    public <T extends CharSequence> void sort(T[] values) {
+        if (values != null && values.length > 1) {
+            multikeyQuicksort(values, 0, values.length - 1, 0, new SuffixComparator());
+        }
+    }
+
+    /**
+     * Main method for recursive call of Multikey Quicksort-algorithm. All
+     * elements of the specified range share the chars before position
+     * {@code d}.
+     *
+     * @param <T> type of the array elements.
+     * @param values the array to be sorted.
+     * @param left the left boundary of the array.
+     * @param right the right boundary of the array.
+     * @param d the position of the char by which to partition.
+     * @param c comparator used for choosing pivots and for Insertion-Sort.
+     */
+    <T extends CharSequence> void multikeyQuicksort(T[] values,
+            int left, int right, int d, SuffixComparator c) {
+        while (right - left >= INSERTION_SORT_THRESHOLD) {
+            /*skip a prefix that is shared by all elements at once*/
+            d = SuffixComparator.commonPrefixEnd(values, left, right, d);
+            c.setOffset(d);
+            int median = Quicksort.medianOfThreeUsingComparator(values, left, right, c);
+            int pivot = charAt(values[median], d);
+
+            /*three-way partition by the char at position d*/
+            int less = left, great = right, i = left;
+            while (i <= great) {
+                int key = charAt(values[i], d);
+                if (key < pivot) {
+                    swap(values, less++, i++);
+                } else if (key > pivot) {
+                    swap(values, i, great--);
+                } else {
+                    ++i;
+                }
+            }
+
+            /*sort smaller and larger chars at the same position*/
+            multikeyQuicksort(values, left, less - 1, d, c);
+            multikeyQuicksort(values, great + 1, right, d, c);
+            if (pivot < 0) {
+                return; // equal elements are exhausted
+            }
+
+            /*continue with the next char of the equal elements*/
+            left = less;
+            right = great;
+            ++d;
+        }
+        /*all chars before the current one are known to be equal*/
+        c.setOffset(d);
+        InsertionSort.sort(values, left, right, c);
+    }
+
+    /**
+     * Returns the char at the specified position of a character sequence.
+     *
+     * @param value the character sequence of which to return the char.
+     * @param d the position of the char.
+     * @return the char or {@code -1} if the sequence is too short.
+     */
+    private static int charAt(CharSequence value, int d) {
+        return d < value.length() ? value.charAt(d) : -1;
+    }
+
+    private static <T> void swap(T[] values, int i, int j) {
+        T temp = values[j];
+        values[j] = values[i];
+        values[i] = temp;
+    }
+}
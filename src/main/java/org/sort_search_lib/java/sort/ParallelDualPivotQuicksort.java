@@ -0,0 +1,203 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import org.sort_search_lib.java.sort.api.InPlaceSort;
+
+/**
+ * Offers a parallel version of the Quick-Sort algorithm (dual pivot) to sort an
+ * array consisting of any type in ascending order or by using a specified
+ * {@link Comparator}. The three partitions that result from a division are
+ * sorted as independent tasks of a {@link ForkJoinPool}, until a partition is
+ * smaller than the granularity and gets sorted sequentially by
+ * {@link DualPivotQuicksort}.
+ *
+ * An instance that is constructed with a parallelism owns the pool it creates
+ * and has to be closed to shut the pool down. Pools passed by the caller are
+ * never shut down by the instance.
+ *
+ * @author Matthias Fussenegger
+ */
+public final class ParallelDualPivotQuicksort implements InPlaceSort, AutoCloseable {
+
+    /**
+     * Default size below which a partition is sorted sequentially.
+     */
+    public static final int DEFAULT_GRANULARITY = 1 << 13;
+
+    /**
+     * The pool which executes the sorting tasks.
+     */
+    private final ForkJoinPool _pool;
+
+    /**
+     * True if the pool has been created by this instance.
+     */
+    private final boolean _ownsPool;
+
+    /**
+     * Size below which a partition is sorted sequentially.
+     */
+    private final int _granularity;
+
+    /**
+     * Dual-Pivot Quicksort instance used for partitioning and to sort
+     * partitions sequentially.
+     */
+    private final DualPivotQuicksort _dualPivotQuicksort = new DualPivotQuicksort();
+
+    /**
+     * Constructs a new instance which uses the common pool and the default
+     * granularity.
+     */
+    public ParallelDualPivotQuicksort() {
+        this(ForkJoinPool.commonPool(), DEFAULT_GRANULARITY);
+    }
+
+    /**
+     * Constructs a new instance which uses a new pool with the specified
+     * parallelism and the default granularity. The pool is shut down when
+     * this instance is closed.
+     *
+     * @param parallelism the number of worker threads of the pool.
+     */
+    public ParallelDualPivotQuicksort(int parallelism) {
+        this(new ForkJoinPool(parallelism), DEFAULT_GRANULARITY, true);
+    }
+
+    /**
+     * Constructs a new instance which uses the specified pool and granularity.
+     *
+     * @param pool the pool which executes the sorting tasks.
+     * @param granularity size below which a partition is sorted sequentially.
+     */
+    public ParallelDualPivotQuicksort(ForkJoinPool pool, int granularity) {
+        this(pool, granularity, false);
+    }
+
+    /**
+     * Constructs a new instance which uses the specified pool and granularity.
+     *
+     * @param pool the pool which executes the sorting tasks.
+     * @param granularity size below which a partition is sorted sequentially.
+     * @param ownsPool true if the pool is shut down when this instance is
+     * closed.
+     */
+    private ParallelDualPivotQuicksort(ForkJoinPool pool, int granularity, boolean ownsPool) {
+        if (pool == null) {
+            throw new NullPointerException("pool must not be null");
+        }
+        if (granularity < 1) {
+            throw new IllegalArgumentException("granularity must be positive");
+        }
+        _pool = pool;
+        _ownsPool = ownsPool;
+        _granularity = granularity;
+    }
+
+    /**
+     * Shuts down the pool if it has been created by this instance. Sorts
+     * which are still running are completed, but no new sorts are accepted.
+     */
+    @Override
+    public void close() {
+        if (_ownsPool) {
+            _pool.shutdown();
+        }
+    }
+
+    @Override
+    public <T> void sort(T[] values) {
+        if (values != null && values.length > 1) {
+            _pool.invoke(new DualPivotQuicksortTask<T>(values, 0, values.length - 1, null));
+        }
+    }
+
+    @Override
+    public <T> void sort(T[] values, Comparator<? super T> c) {
+        if (values != null && values.length > 1) {
+            _pool.invoke(new DualPivotQuicksortTask<T>(values, 0, values.length - 1, c));
+        }
+    }
+
+    @Override
+    public <T> void sortRange(T[] values, int fromIndex, int toIndex) {
+        Ranges.check(values.length, fromIndex, toIndex);
+        if (toIndex - fromIndex > 1) {
+            _pool.invoke(new DualPivotQuicksortTask<T>(values, fromIndex, toIndex - 1, null));
+        }
+    }
+
+    @Override
+    public <T> void sortRange(T[] values, int fromIndex, int toIndex, Comparator<? super T> c) {
+        Ranges.check(values.length, fromIndex, toIndex);
+        if (toIndex - fromIndex > 1) {
+            _pool.invoke(new DualPivotQuicksortTask<T>(values, fromIndex, toIndex - 1, c));
+        }
+    }
+
+    /**
+     * Task which sorts a range of the array. The natural ordering of the
+     * elements is used if no comparator has been specified.
+     *
+     * @param <T> type of the array elements.
+     */
+    private final class DualPivotQuicksortTask<T> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final T[] _values;
+        private final int _left;
+        private final int _right;
+        private final Comparator<? super T> _c;
+
+        DualPivotQuicksortTask(T[] values, int left, int right, Comparator<? super T> c) {
+            _values = values;
+            _left = left;
+            _right = right;
+            _c = c;
+        }
+
+        @Override
+        protected void compute() {
+            if (_right - _left < _granularity) {
+                if (_c != null) {
+                    _dualPivotQuicksort.dualPivotQuicksortUsingComparator(_left, _right, _c, _values);
+                } else {
+                    _dualPivotQuicksort.dualPivotQuicksortComparable(_left, _right, _values);
+                }
+            } else {
+                int[] pivots = _c != null
+                        ? _dualPivotQuicksort.partitionUsingComparator(_left, _right, _c, _values)
+                        : _dualPivotQuicksort.partitionComparable(_left, _right, _values);
+                invokeAll(new DualPivotQuicksortTask<T>(_values, _left, pivots[0] - 1, _c),
+                        new DualPivotQuicksortTask<T>(_values, pivots[0] + 1, pivots[1] - 1, _c),
+                        new DualPivotQuicksortTask<T>(_values, pivots[1] + 1, _right, _c));
+            }
+        }
+    }
+}
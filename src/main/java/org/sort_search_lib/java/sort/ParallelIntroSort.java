@@ -0,0 +1,211 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import org.sort_search_lib.java.sort.api.InPlaceSort;
+
+/**
+ * Offers a parallel version of the Introsort algorithm to sort an array
+ * consisting of any type in ascending order or by using a specified
+ * {@link Comparator}. Both partitions that result from a division are sorted
+ * as independent tasks of a {@link ForkJoinPool}, until a partition is smaller
+ * than the granularity and gets sorted sequentially by {@link IntroSort}.
+ *
+ * An instance that is constructed with a parallelism owns the pool it creates
+ * and has to be closed to shut the pool down. Pools passed by the caller are
+ * never shut down by the instance.
+ *
+ * @author Matthias Fussenegger
+ */
+public final class ParallelIntroSort implements InPlaceSort, AutoCloseable {
+
+    /**
+     * Default size below which a partition is sorted sequentially.
+     */
+    public static final int DEFAULT_GRANULARITY = 1 << 13;
+
+    /**
+     * The pool which executes the sorting tasks.
+     */
+    private final ForkJoinPool _pool;
+
+    /**
+     * True if the pool has been created by this instance.
+     */
+    private final boolean _ownsPool;
+
+    /**
+     * Size below which a partition is sorted sequentially.
+     */
+    private final int _granularity;
+
+    /**
+     * Introsort instance used to sort partitions sequentially.
+     */
+    private final IntroSort _introSort = new IntroSort();
+
+    /**
+     * Quicksort instance used for partitioning.
+     */
+    private final Quicksort _quicksort = new Quicksort();
+
+    /**
+     * Constructs a new instance which uses the common pool and the default
+     * granularity.
+     */
+    public ParallelIntroSort() {
+        this(ForkJoinPool.commonPool(), DEFAULT_GRANULARITY);
+    }
+
+    /**
+     * Constructs a new instance which uses a new pool with the specified
+     * parallelism and the default granularity. The pool is shut down when
+     * this instance is closed.
+     *
+     * @param parallelism the number of worker threads of the pool.
+     */
+    public ParallelIntroSort(int parallelism) {
+        this(new ForkJoinPool(parallelism), DEFAULT_GRANULARITY, true);
+    }
+
+    /**
+     * Constructs a new instance which uses the specified pool and granularity.
+     *
+     * @param pool the pool which executes the sorting tasks.
+     * @param granularity size below which a partition is sorted sequentially.
+     */
+    public ParallelIntroSort(ForkJoinPool pool, int granularity) {
+        this(pool, granularity, false);
+    }
+
+    /**
+     * Constructs a new instance which uses the specified pool and granularity.
+     *
+     * @param pool the pool which executes the sorting tasks.
+     * @param granularity size below which a partition is sorted sequentially.
+     * @param ownsPool true if the pool is shut down when this instance is
+     * closed.
+     */
+    private ParallelIntroSort(ForkJoinPool pool, int granularity, boolean ownsPool) {
+        if (pool == null) {
+            throw new NullPointerException("pool must not be null");
+        }
+        if (granularity < 1) {
+            throw new IllegalArgumentException("granularity must be positive");
+        }
+        _pool = pool;
+        _ownsPool = ownsPool;
+        _granularity = granularity;
+    }
+
+    /**
+     * Shuts down the pool if it has been created by this instance. Sorts
+     * which are still running are completed, but no new sorts are accepted.
+     */
+    @Override
+    public void close() {
+        if (_ownsPool) {
+            _pool.shutdown();
+        }
+    }
+
+    @Override
+    public <T> void sort(T[] values) {
+        if (values != null && values.length > 1) {
+            int maxDepth = IntroSort.calculateMaxDepth(values.length);
+            _pool.invoke(new IntroSortTask<T>(values, 0, values.length - 1, maxDepth, null));
+        }
+    }
+
+    @Override
+    public <T> void sort(T[] values, Comparator<? super T> c) {
+        if (values != null && values.length > 1) {
+            int maxDepth = IntroSort.calculateMaxDepth(values.length);
+            _pool.invoke(new IntroSortTask<T>(values, 0, values.length - 1, maxDepth, c));
+        }
+    }
+
+    @Override
+    public <T> void sortRange(T[] values, int fromIndex, int toIndex) {
+        Ranges.check(values.length, fromIndex, toIndex);
+        if (toIndex - fromIndex > 1) {
+            int maxDepth = IntroSort.calculateMaxDepth(toIndex - fromIndex);
+            _pool.invoke(new IntroSortTask<T>(values, fromIndex, toIndex - 1, maxDepth, null));
+        }
+    }
+
+    @Override
+    public <T> void sortRange(T[] values, int fromIndex, int toIndex, Comparator<? super T> c) {
+        Ranges.check(values.length, fromIndex, toIndex);
+        if (toIndex - fromIndex > 1) {
+            int maxDepth = IntroSort.calculateMaxDepth(toIndex - fromIndex);
+            _pool.invoke(new IntroSortTask<T>(values, fromIndex, toIndex - 1, maxDepth, c));
+        }
+    }
+
+    /**
+     * Task which sorts a range of the array. The natural ordering of the
+     * elements is used if no comparator has been specified.
+     *
+     * @param <T> type of the array elements.
+     */
+    private final class IntroSortTask<T> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final T[] _values;
+        private final int _left;
+        private final int _right;
+        private final int _maxDepth;
+        private final Comparator<? super T> _c;
+
+        IntroSortTask(T[] values, int left, int right, int maxDepth, Comparator<? super T> c) {
+            _values = values;
+            _left = left;
+            _right = right;
+            _maxDepth = maxDepth;
+            _c = c;
+        }
+
+        @Override
+        protected void compute() {
+            if (_right - _left < _granularity || _maxDepth == 0) {
+                if (_c != null) {
+                    _introSort.introsortUsingComparator(_values, _left, _right, _maxDepth, _c);
+                } else {
+                    _introSort.introsortComparable(_values, _left, _right, _maxDepth);
+                }
+            } else {
+                int pivot = _c != null
+                        ? _quicksort.divideUsingComparator(_left, _right, _c, _values)
+                        : _quicksort.divideComparable(_left, _right, _values);
+                invokeAll(new IntroSortTask<T>(_values, _left, pivot - 1, _maxDepth - 1, _c),
+                        new IntroSortTask<T>(_values, pivot + 1, _right, _maxDepth - 1, _c));
+            }
+        }
+    }
+}
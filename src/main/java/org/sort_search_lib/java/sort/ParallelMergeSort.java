@@ -0,0 +1,299 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import org.sort_search_lib.java.sort.api.OutPlaceSort;
+
+/**
+ * Offers a parallel version of the Merge-Sort algorithm to sort a {@link List}
+ * consisting of any type in ascending order or by using a specified
+ * {@link Comparator}. The sort is stable.
+ *
+ * Both halves of a range are sorted as independent tasks of a
+ * {@link ForkJoinPool}, until a range is smaller than the granularity and gets
+ * sorted sequentially by {@link MergeSort}. The sorted halves are merged in
+ * parallel as well: the output is split in the middle, the co-ranks of the
+ * split point in both halves are determined by a binary search, and the two
+ * resulting merges are again processed as independent tasks.
+ *
+ * Like {@link MergeSort}, the sorted array is returned as a new
+ * {@link ArrayList}, which can be modified by the caller.
+ *
+ * An instance that is constructed with a parallelism owns the pool it creates
+ * and has to be closed to shut the pool down. Pools passed by the caller are
+ * never shut down by the instance.
+ *
+ * @author Matthias Fussenegger
+ */
+public final class ParallelMergeSort implements OutPlaceSort, AutoCloseable {
+
+    /**
+     * Default size below which a range is sorted or merged sequentially.
+     */
+    public static final int DEFAULT_GRANULARITY = 1 << 13;
+
+    /**
+     * The pool which executes the sorting tasks.
+     */
+    private final ForkJoinPool _pool;
+
+    /**
+     * True if the pool has been created by this instance.
+     */
+    private final boolean _ownsPool;
+
+    /**
+     * Size below which a range is sorted or merged sequentially.
+     */
+    private final int _granularity;
+
+    /**
+     * Constructs a new instance which uses the common pool and the default
+     * granularity.
+     */
+    public ParallelMergeSort() {
+        this(ForkJoinPool.commonPool(), DEFAULT_GRANULARITY);
+    }
+
+    /**
+     * Constructs a new instance which uses a new pool with the specified
+     * parallelism and the default granularity. The pool is shut down when
+     * this instance is closed.
+     *
+     * @param parallelism the number of worker threads of the pool.
+     */
+    public ParallelMergeSort(int parallelism) {
+        this(new ForkJoinPool(parallelism), DEFAULT_GRANULARITY, true);
+    }
+
+    /**
+     * Constructs a new instance which uses the specified pool and granularity.
+     *
+     * @param pool the pool which executes the sorting tasks.
+     * @param granularity size below which a range is sorted or merged
+     * sequentially.
+     */
+    public ParallelMergeSort(ForkJoinPool pool, int granularity) {
+        this(pool, granularity, false);
+    }
+
+    /**
+     * Constructs a new instance which uses the specified pool and granularity.
+     *
+     * @param pool the pool which executes the sorting tasks.
+     * @param granularity size below which a range is sorted or merged
+     * sequentially.
+     * @param ownsPool true if the pool is shut down when this instance is
+     * closed.
+     */
+    private ParallelMergeSort(ForkJoinPool pool, int granularity, boolean ownsPool) {
+        if (pool == null) {
+            throw new NullPointerException("pool must not be null");
+        }
+        if (granularity < 1) {
+            throw new IllegalArgumentException("granularity must be positive");
+        }
+        _pool = pool;
+        _ownsPool = ownsPool;
+        _granularity = granularity;
+    }
+
+    /**
+     * Shuts down the pool if it has been created by this instance. Sorts
+     * which are still running are completed, but no new sorts are accepted.
+     */
+    @Override
+    public void close() {
+        if (_ownsPool) {
+            _pool.shutdown();
+        }
+    }
+
+    @Override
+    public <T> List<T> sort(List<T> list) {
+        return sort(list, null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> List<T> sort(List<T> list, Comparator<? super T> c) {
+        if (list == null || list.size() < 2) {
+            return list;
+        }
+        T[] buffer = (T[]) list.toArray();
+        T[] result = buffer.clone();
+        _pool.invoke(new SortTask<T>(buffer, result, 0, result.length, c));
+        return MergeSort.toList(result);
+    }
+
+    /**
+     * Compares two elements by using the specified {@link Comparator} or by
+     * their natural ordering if the comparator is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> int compare(T v1, T v2, Comparator<? super T> c) {
+        return c != null ? c.compare(v1, v2) : ((Comparable<? super T>) v1).compareTo(v2);
+    }
+
+    /**
+     * Determines how many elements of the first range belong to the first
+     * {@code k} elements of the stable merge of both ranges. The remaining
+     * {@code k - i} elements are taken from the second range.
+     *
+     * @param <T> type of the array elements.
+     * @param k the number of merged elements.
+     * @param src the array holding both sorted ranges.
+     * @param low1 the left boundary (inclusive) of the first range.
+     * @param high1 the right boundary (exclusive) of the first range.
+     * @param low2 the left boundary (inclusive) of the second range.
+     * @param high2 the right boundary (exclusive) of the second range.
+     * @param c the {@link Comparator} used to compare the elements, may be
+     * {@code null} to use their natural ordering.
+     * @return the co-rank of {@code k} in the first range.
+     */
+    static <T> int coRank(int k, T[] src, int low1, int high1, int low2,
+            int high2, Comparator<? super T> c) {
+        int low = Math.max(0, k - (high2 - low2));
+        int high = Math.min(k, high1 - low1);
+        while (low < high) {
+            int i = (low + high) >>> 1;
+            /*on equal elements the one of the first range comes first*/
+            if (compare(src[low1 + i], src[low2 + k - i - 1], c) <= 0) {
+                low = i + 1;
+            } else {
+                high = i;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Task which sorts a range of {@code dest}, using {@code src} as buffer.
+     * Both arrays have to hold the same elements within the range.
+     *
+     * @param <T> type of the array elements.
+     */
+    private final class SortTask<T> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final T[] _src;
+        private final T[] _dest;
+        private final int _low;
+        private final int _high;
+        private final Comparator<? super T> _c;
+
+        SortTask(T[] src, T[] dest, int low, int high, Comparator<? super T> c) {
+            _src = src;
+            _dest = dest;
+            _low = low;
+            _high = high;
+            _c = c;
+        }
+
+        @Override
+        protected void compute() {
+            if (_high - _low < _granularity) {
+                if (_c != null) {
+                    MergeSort.mergeSortUsingComparator(_src, _dest, _low, _high, _c);
+                } else {
+                    MergeSort.mergeSortComparable(_src, _dest, _low, _high);
+                }
+                return;
+            }
+
+            /*sort both halves into the buffer*/
+            int mid = (_low + _high) >>> 1;
+            invokeAll(new SortTask<T>(_dest, _src, _low, mid, _c),
+                    new SortTask<T>(_dest, _src, mid, _high, _c));
+
+            /*skip merging if both halves are already in order*/
+            if (compare(_src[mid - 1], _src[mid], _c) <= 0) {
+                System.arraycopy(_src, _low, _dest, _low, _high - _low);
+            } else {
+                new MergeTask<T>(_src, _low, mid, mid, _high, _dest, _low, _c).compute();
+            }
+        }
+    }
+
+    /**
+     * Task which merges two sorted ranges of {@code src} into {@code dest}.
+     *
+     * @param <T> type of the array elements.
+     */
+    private final class MergeTask<T> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final T[] _src;
+        private final int _low1;
+        private final int _high1;
+        private final int _low2;
+        private final int _high2;
+        private final T[] _dest;
+        private final int _offset;
+        private final Comparator<? super T> _c;
+
+        MergeTask(T[] src, int low1, int high1, int low2, int high2,
+                T[] dest, int offset, Comparator<? super T> c) {
+            _src = src;
+            _low1 = low1;
+            _high1 = high1;
+            _low2 = low2;
+            _high2 = high2;
+            _dest = dest;
+            _offset = offset;
+            _c = c;
+        }
+
+        @Override
+        protected void compute() {
+            int length = (_high1 - _low1) + (_high2 - _low2);
+            if (length < _granularity) {
+                if (_c != null) {
+                    MergeSort.mergeUsingComparator(_src, _low1, _high1,
+                            _low2, _high2, _dest, _offset, _c);
+                } else {
+                    MergeSort.mergeComparable(_src, _low1, _high1,
+                            _low2, _high2, _dest, _offset);
+                }
+                return;
+            }
+
+            /*split the output in the middle and merge both parts in parallel*/
+            int k = length >>> 1;
+            int i = coRank(k, _src, _low1, _high1, _low2, _high2, _c);
+            int j = k - i;
+            invokeAll(new MergeTask<T>(_src, _low1, _low1 + i, _low2, _low2 + j,
+                    _dest, _offset, _c),
+                    new MergeTask<T>(_src, _low1 + i, _high1, _low2 + j, _high2,
+                            _dest, _offset + k, _c));
+        }
+    }
+}
@@ -0,0 +1,448 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadLocalRandom;
+import org.sort_search_lib.java.sort.api.InPlaceSort;
+
+/**
+ * Offers a parallel Sample-Sort algorithm to sort an array consisting of any
+ * type in ascending order or by using a specified {@link Comparator}.
+ *
+ * Splitters are chosen from a sorted random sample and stored as an implicit
+ * binary search tree, which is descended without branching on the result of
+ * the comparisons. The array is divided into stripes, and the elements of all
+ * stripes are classified into buckets in parallel. Each stripe then scatters
+ * its elements into a buffer at the offsets of its buckets, and the buckets
+ * are sorted by {@link IntroSort} and copied back as independent tasks of a
+ * {@link ForkJoinPool}. Unlike a parallel quicksort, which partitions the whole
+ * array in a single task first, all workers are busy from the start.
+ *
+ * If a splitter occurs more than once in the sample, the elements equal to it
+ * are put into a bucket of their own, which does not need to be sorted. Hence,
+ * many duplicates do not lead to a single large bucket.
+ *
+ * An instance that is constructed with a parallelism owns the pool it creates
+ * and has to be closed to shut the pool down. Pools passed by the caller are
+ * never shut down by the instance.
+ *
+ * @author Matthias Fussenegger
+ */
+public final class ParallelSampleSort implements InPlaceSort, AutoCloseable {
+
+    /**
+     * Default size below which an array is sorted sequentially. It is also
+     * the size that a bucket should have at least.
+     */
+    public static final int DEFAULT_GRANULARITY = 1 << 13;
+
+    /**
+     * Maximum number of buckets between splitters, a power of two.
+     */
+    static final int MAX_BUCKETS = 1 << 8;
+
+    /**
+     * Number of sampled elements per bucket.
+     */
+    static final int OVERSAMPLING = 16;
+
+    /**
+     * Number of stripes per worker thread.
+     */
+    private static final int STRIPES_PER_THREAD = 4;
+
+    /**
+     * The pool which executes the sorting tasks.
+     */
+    private final ForkJoinPool _pool;
+
+    /**
+     * True if the pool has been created by this instance.
+     */
+    private final boolean _ownsPool;
+
+    /**
+     * Size below which an array is sorted sequentially.
+     */
+    private final int _granularity;
+
+    /**
+     * Introsort instance used to sort the sample and the buckets.
+     */
+    private final IntroSort _introSort = new IntroSort();
+
+    /**
+     * Constructs a new instance which uses the common pool and the default
+     * granularity.
+     */
+    public ParallelSampleSort() {
+        this(ForkJoinPool.commonPool(), DEFAULT_GRANULARITY);
+    }
+
+    /**
+     * Constructs a new instance which uses a new pool with the specified
+     * parallelism and the default granularity. The pool is shut down when
+     * this instance is closed.
+     *
+     * @param parallelism the number of worker threads of the pool.
+     */
+    public ParallelSampleSort(int parallelism) {
+        this(new ForkJoinPool(parallelism), DEFAULT_GRANULARITY, true);
+    }
+
+    /**
+     * Constructs a new instance which uses the specified pool and granularity.
+     *
+     * @param pool the pool which executes the sorting tasks.
+     * @param granularity size below which an array is sorted sequentially.
+     */
+    public ParallelSampleSort(ForkJoinPool pool, int granularity) {
+        this(pool, granularity, false);
+    }
+
+    /**
+     * Constructs a new instance which uses the specified pool and granularity.
+     *
+     * @param pool the pool which executes the sorting tasks.
+     * @param granularity size below which an array is sorted sequentially.
+     * @param ownsPool true if the pool is shut down when this instance is
+     * closed.
+     */
+    private ParallelSampleSort(ForkJoinPool pool, int granularity, boolean ownsPool) {
+        if (pool == null) {
+            throw new NullPointerException("pool must not be null");
+        }
+        if (granularity < 1) {
+            throw new IllegalArgumentException("granularity must be positive");
+        }
+        _pool = pool;
+        _ownsPool = ownsPool;
+        _granularity = granularity;
+    }
+
+    /**
+     * Shuts down the pool if it has been created by this instance. Sorts
+     * which are still running are completed, but no new sorts are accepted.
+     */
+    @Override
+    public void close() {
+        if (_ownsPool) {
+            _pool.shutdown();
+        }
+    }
+
+    @Override
+    public <T> void sort(T[] values) {
+        if (values != null && values.length > 1) {
+            sort(values, 0, values.length, Comparators.<T>naturalOrder());
+        }
+    }
+
+    @Override
+    public <T> void sort(T[] values, Comparator<? super T> c) {
+        if (values != null && values.length > 1) {
+            sort(values, 0, values.length, c);
+        }
+    }
+
+    @Override
+    public <T> void sortRange(T[] values, int fromIndex, int toIndex) {
+        Ranges.check(values.length, fromIndex, toIndex);
+        sort(values, fromIndex, toIndex, Comparators.<T>naturalOrder());
+    }
+
+    @Override
+    public <T> void sortRange(T[] values, int fromIndex, int toIndex, Comparator<? super T> c) {
+        Ranges.check(values.length, fromIndex, toIndex);
+        sort(values, fromIndex, toIndex, c);
+    }
+
+    /**
+     * Internal API that sorts the range {@code [low, high)} of the specified
+     * array by using the specified {@link Comparator}.
+     *
+     * @param <T> type of the array elements.
+     * @param values reference to the array that is to be sorted.
+     * @param low the left boundary (inclusive) of the range.
+     * @param high the right boundary (exclusive) of the range.
+     * @param c the {@link Comparator} used to compare the elements.
+     */
+    <T> void sort(T[] values, int low, int high, Comparator<? super T> c) {
+        final int size = high - low;
+        if (size < 2) {
+            return;
+        }
+        int buckets = Math.min(MAX_BUCKETS, Integer.highestOneBit(size / _granularity));
+        if (buckets < 2 || _pool.getParallelism() == 1) {
+            int maxDepth = IntroSort.calculateMaxDepth(size);
+            _introSort.introsortUsingComparator(values, low, high - 1, maxDepth, c);
+        } else {
+            _pool.invoke(new SampleSortTask<T>(values, low, high, buckets, c));
+        }
+    }
+
+    /**
+     * Task which sorts a range of the array by distributing its elements into
+     * the specified number of buckets. Each phase is executed by subtasks.
+     *
+     * @param <T> type of the array elements.
+     */
+    private final class SampleSortTask<T> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final T[] _values;
+        private final int _low;
+        private final int _high;
+        private final int _buckets;
+        private final Comparator<? super T> _c;
+
+        /**
+         * The splitters as an implicit binary search tree, where the children
+         * of the node at index {@code j} are at {@code 2 * j} and
+         * {@code 2 * j + 1}. The root is at index one.
+         */
+        private T[] _tree;
+
+        /**
+         * The sorted splitters and whether each of them has an equality bucket.
+         */
+        private T[] _splitters;
+        private boolean[] _hasEqualityBucket;
+
+        /**
+         * The bucket of each element. Bucket {@code 2 * b} holds the elements
+         * between splitters {@code b - 1} and {@code b}, and bucket
+         * {@code 2 * b + 1} the elements equal to splitter {@code b}.
+         */
+        private short[] _bucketOf;
+
+        /**
+         * The number of elements of each stripe in each bucket, which are
+         * turned into the positions at which the stripes write to the buffer.
+         */
+        private int[][] _counts;
+
+        private int _stripeLength;
+        private T[] _buffer;
+
+        SampleSortTask(T[] values, int low, int high, int buckets, Comparator<? super T> c) {
+            _values = values;
+            _low = low;
+            _high = high;
+            _buckets = buckets;
+            _c = c;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected void compute() {
+            final int size = _high - _low;
+            chooseSplitters();
+
+            /*classify the elements of all stripes*/
+            int stripes = Math.min(size / _granularity,
+                    getPool().getParallelism() * STRIPES_PER_THREAD);
+            _stripeLength = (size + stripes - 1) / stripes;
+            stripes = (size + _stripeLength - 1) / _stripeLength;
+            _bucketOf = new short[size];
+            _counts = new int[stripes][2 * _buckets - 1];
+            List<RecursiveAction> tasks = new ArrayList<RecursiveAction>();
+            for (int s = 0; s < stripes; ++s) {
+                tasks.add(new ClassifyTask(s));
+            }
+            invokeAll(tasks);
+
+            /*compute where each stripe writes the elements of each bucket*/
+            int[] bucketStart = new int[2 * _buckets];
+            int position = 0;
+            for (int b = 0; b < 2 * _buckets - 1; ++b) {
+                bucketStart[b] = position;
+                for (int s = 0; s < stripes; ++s) {
+                    int count = _counts[s][b];
+                    _counts[s][b] = position;
+                    position += count;
+                }
+            }
+            bucketStart[2 * _buckets - 1] = position;
+
+            _buffer = (T[]) new Object[size]; // never leaves this class
+            tasks.clear();
+            for (int s = 0; s < stripes; ++s) {
+                tasks.add(new ScatterTask(s));
+            }
+            invokeAll(tasks);
+
+            tasks.clear();
+            for (int b = 0; b < 2 * _buckets - 1; ++b) {
+                if (bucketStart[b + 1] > bucketStart[b]) {
+                    tasks.add(new BucketTask(bucketStart[b], bucketStart[b + 1], b % 2 == 0));
+                }
+            }
+            invokeAll(tasks);
+        }
+
+        /**
+         * Chooses the splitters from a sorted random sample.
+         */
+        @SuppressWarnings("unchecked")
+        private void chooseSplitters() {
+            final int size = _high - _low;
+            T[] sample = (T[]) new Object[_buckets * OVERSAMPLING - 1];
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < sample.length; ++i) {
+                sample[i] = _values[_low + random.nextInt(size)];
+            }
+            _introSort.introsortUsingComparator(sample, 0, sample.length - 1,
+                    IntroSort.calculateMaxDepth(sample.length), _c);
+
+            _splitters = (T[]) new Object[_buckets - 1];
+            for (int i = 0; i < _splitters.length; ++i) {
+                _splitters[i] = sample[(i + 1) * OVERSAMPLING - 1];
+            }
+            _hasEqualityBucket = new boolean[_splitters.length];
+            for (int i = 1; i < _splitters.length; ++i) {
+                if (_c.compare(_splitters[i - 1], _splitters[i]) == 0) {
+                    _hasEqualityBucket[i - 1] = true;
+                    _hasEqualityBucket[i] = true;
+                }
+            }
+            _tree = (T[]) new Object[_buckets];
+            buildTree(1, 0, _splitters.length);
+        }
+
+        /**
+         * Stores the splitters of {@code [from, to)} in the subtree rooted at
+         * the specified node.
+         */
+        private void buildTree(int node, int from, int to) {
+            if (from < to) {
+                int mid = (from + to) >>> 1;
+                _tree[node] = _splitters[mid];
+                buildTree(2 * node, from, mid);
+                buildTree(2 * node + 1, mid + 1, to);
+            }
+        }
+
+        /**
+         * Returns the bucket of the specified element.
+         */
+        private int classify(T value) {
+            int j = 1;
+            while (j < _buckets) {
+                /*go right if the splitter is smaller, without a branch*/
+                j = 2 * j + (_c.compare(_tree[j], value) < 0 ? 1 : 0);
+            }
+            int b = j - _buckets; // the number of smaller splitters
+            if (b < _splitters.length && _hasEqualityBucket[b]
+                    && _c.compare(_splitters[b], value) == 0) {
+                return 2 * b + 1;
+            }
+            return 2 * b;
+        }
+
+        /**
+         * Task which classifies the elements of a stripe and counts them.
+         */
+        private final class ClassifyTask extends RecursiveAction {
+
+            private static final long serialVersionUID = 1L;
+
+            private final int _stripe;
+
+            ClassifyTask(int stripe) {
+                _stripe = stripe;
+            }
+
+            @Override
+            protected void compute() {
+                int[] count = _counts[_stripe];
+                int from = _stripe * _stripeLength;
+                int to = Math.min(from + _stripeLength, _high - _low);
+                for (int i = from; i < to; ++i) {
+                    int bucket = classify(_values[_low + i]);
+                    _bucketOf[i] = (short) bucket;
+                    ++count[bucket];
+                }
+            }
+        }
+
+        /**
+         * Task which moves the elements of a stripe into their buckets.
+         */
+        private final class ScatterTask extends RecursiveAction {
+
+            private static final long serialVersionUID = 1L;
+
+            private final int _stripe;
+
+            ScatterTask(int stripe) {
+                _stripe = stripe;
+            }
+
+            @Override
+            protected void compute() {
+                int[] position = _counts[_stripe];
+                int from = _stripe * _stripeLength;
+                int to = Math.min(from + _stripeLength, _high - _low);
+                for (int i = from; i < to; ++i) {
+                    _buffer[position[_bucketOf[i]]++] = _values[_low + i];
+                }
+            }
+        }
+
+        /**
+         * Task which sorts a bucket, unless it holds equal elements only, and
+         * copies it back to the array.
+         */
+        private final class BucketTask extends RecursiveAction {
+
+            private static final long serialVersionUID = 1L;
+
+            private final int _from;
+            private final int _to;
+            private final boolean _sort;
+
+            BucketTask(int from, int to, boolean sort) {
+                _from = from;
+                _to = to;
+                _sort = sort;
+            }
+
+            @Override
+            protected void compute() {
+                if (_sort && _to - _from > 1) {
+                    int maxDepth = IntroSort.calculateMaxDepth(_to - _from);
+                    _introSort.introsortUsingComparator(_buffer, _from, _to - 1, maxDepth, _c);
+                }
+                System.arraycopy(_buffer, _from, _values, _low + _from, _to - _from);
+            }
+        }
+    }
+}
@@ -0,0 +1,513 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+import java.util.Comparator;
+import org.sort_search_lib.java.sort.api.InPlaceSort;
+
+/**
+ * Offers the Pattern-Defeating Quick-Sort algorithm (pdqsort) to sort an array
+ * consisting of any type in ascending order or by using a specified
+ * {@link Comparator}.
+ *
+ * The pivot is the median of three elements, or of three medians for larger
+ * ranges. Elements are partitioned in blocks: the positions of misplaced
+ * elements are first recorded for a whole block on each side without
+ * branching on the comparison result, and then swapped in one go. If a
+ * partition turns out to be already in order, an insertion sort with a small
+ * budget of moves is attempted, which sorts presorted input in linear time.
+ * Ranges whose left neighbour equals the pivot are split into equal and
+ * greater elements instead, so duplicates are never partitioned twice. Bad
+ * splits are answered by swapping some elements to break up patterns, and
+ * after too many of them the range is sorted by {@link HeapSort}, which
+ * guarantees a worst case of {@code O(n log n)}.
+ *
+ * @author Matthias Fussenegger
+ */
+public final class PdqSort implements InPlaceSort {
+
+    /**
+     * Ranges shorter than this are sorted by insertion sort.
+     */
+    static final int INSERTION_SORT_THRESHOLD = 24;
+
+    /**
+     * Ranges longer than this use the median of three medians as pivot.
+     */
+    static final int NINTHER_THRESHOLD = 128;
+
+    /**
+     * Maximum number of element moves of an insertion sort that is attempted
+     * on a range which seems to be sorted already.
+     */
+    static final int PARTIAL_INSERTION_SORT_LIMIT = 8;
+
+    /**
+     * Number of elements of which the positions are recorded at once.
+     */
+    static final int BLOCK_SIZE = 64;
+
+    /**
+     * Heap sort instance used to sort if there were too many bad splits.
+     */
+    private final HeapSort _heapSort = new HeapSort();
+
+    @Override
+    public <T> void sort(T[] values) {
+        if (values != null && values.length > 1) {
+            sort(values, 0, values.length, Comparators.<T>naturalOrder());
+        }
+    }
+
+    @Override
+    public <T> void sort(T[] values, Comparator<? super T> c) {
+        if (values != null && values.length > 1) {
+            sort(values, 0, values.length, c);
+        }
+    }
+
+    @Override
+    public <T> void sortRange(T[] values, int fromIndex, int toIndex) {
+        Ranges.check(values.length, fromIndex, toIndex);
+        sort(values, fromIndex, toIndex, Comparators.<T>naturalOrder());
+    }
+
+    @Override
+    public <T> void sortRange(T[] values, int fromIndex, int toIndex, Comparator<? super T> c) {
+        Ranges.check(values.length, fromIndex, toIndex);
+        sort(values, fromIndex, toIndex, c);
+    }
+
+    /**
+     * Internal API that sorts the range {@code [low, high)} of the specified
+     * array by using the specified {@link Comparator}.
+     *
+     * @param <T> type of the array elements.
+     * @param values reference to the array that is to be sorted.
+     * @param low the left boundary (inclusive) of the range.
+     * @param high the right boundary (exclusive) of the range.
+     * @param c the {@link Comparator} used to compare the elements.
+     */
+    <T> void sort(T[] values, int low, int high, Comparator<? super T> c) {
+        if (high - low > 1) {
+            int badAllowed = 31 - Integer.numberOfLeadingZeros(high - low);
+            /*the blocks are reused by every partitioning of this sort*/
+            int[] offsetsLeft = new int[BLOCK_SIZE];
+            int[] offsetsRight = new int[BLOCK_SIZE];
+            pdqsort(values, low, high, badAllowed, true,
+                    offsetsLeft, offsetsRight, c);
+        }
+    }
+
+    /**
+     * Main method of the Pattern-Defeating Quick-Sort algorithm, which
+     * recurses into the left partition and loops over the right one.
+     *
+     * @param <T> type of the array elements.
+     * @param values the array to be sorted.
+     * @param low the left boundary (inclusive) of the range.
+     * @param high the right boundary (exclusive) of the range.
+     * @param badAllowed the number of bad splits before switching to
+     * Heap-Sort.
+     * @param leftmost true if the range starts at the beginning of the sorted
+     * area, false if it has a left neighbour not bigger than any element.
+     * @param offsetsLeft buffer for the offsets of the left block.
+     * @param offsetsRight buffer for the offsets of the right block.
+     * @param c the comparator used for sorting the array.
+     */
+    private <T> void pdqsort(T[] values, int low, int high, int badAllowed,
+            boolean leftmost, int[] offsetsLeft, int[] offsetsRight,
+            Comparator<? super T> c) {
+        while (true) {
+            int size = high - low;
+            if (size < INSERTION_SORT_THRESHOLD) {
+                if (leftmost) {
+                    insertionSort(values, low, high, c);
+                } else {
+                    unguardedInsertionSort(values, low, high, c);
+                }
+                return;
+            }
+
+            /*move the pivot to the leftmost position*/
+            int half = size / 2;
+            if (size > NINTHER_THRESHOLD) {
+                sort3(values, low, low + half, high - 1, c);
+                sort3(values, low + 1, low + half - 1, high - 2, c);
+                sort3(values, low + 2, low + half + 1, high - 3, c);
+                sort3(values, low + half - 1, low + half, low + half + 1, c);
+                swap(values, low, low + half);
+            } else {
+                sort3(values, low + half, low, high - 1, c);
+            }
+
+            /*the left neighbour is equal to the pivot, so are all elements
+            which are not bigger, as the neighbour has been a former pivot*/
+            if (!leftmost && c.compare(values[low - 1], values[low]) >= 0) {
+                low = partitionLeft(values, low, high, c) + 1;
+                continue;
+            }
+
+            int pivot = partitionRight(values, low, high,
+                    offsetsLeft, offsetsRight, c);
+            boolean alreadyPartitioned = pivot < 0;
+            if (alreadyPartitioned) {
+                pivot = ~pivot;
+            }
+            int leftSize = pivot - low;
+            int rightSize = high - (pivot + 1);
+
+            if (leftSize < size / 8 || rightSize < size / 8) {
+                if (--badAllowed == 0) {
+                    _heapSort.sort(values, low, high - 1, c);
+                    return;
+                }
+                breakPatterns(values, low, pivot, leftSize, rightSize, high);
+            } else if (alreadyPartitioned
+                    && partialInsertionSort(values, low, pivot, c)
+                    && partialInsertionSort(values, pivot + 1, high, c)) {
+                return;
+            }
+
+            pdqsort(values, low, pivot, badAllowed, leftmost,
+                    offsetsLeft, offsetsRight, c);
+            low = pivot + 1;
+            leftmost = false;
+        }
+    }
+
+    /**
+     * Swaps some elements of both partitions after a bad split, so that the
+     * next pivots are chosen from other elements.
+     */
+    private static <T> void breakPatterns(T[] values, int low, int pivot,
+            int leftSize, int rightSize, int high) {
+        if (leftSize >= INSERTION_SORT_THRESHOLD) {
+            int quarter = leftSize / 4;
+            swap(values, low, low + quarter);
+            swap(values, pivot - 1, pivot - quarter);
+            if (leftSize > NINTHER_THRESHOLD) {
+                swap(values, low + 1, low + quarter + 1);
+                swap(values, low + 2, low + quarter + 2);
+                swap(values, pivot - 2, pivot - quarter - 1);
+                swap(values, pivot - 3, pivot - quarter - 2);
+            }
+        }
+        if (rightSize >= INSERTION_SORT_THRESHOLD) {
+            int quarter = rightSize / 4;
+            swap(values, pivot + 1, pivot + quarter + 1);
+            swap(values, high - 1, high - quarter);
+            if (rightSize > NINTHER_THRESHOLD) {
+                swap(values, pivot + 2, pivot + quarter + 2);
+                swap(values, pivot + 3, pivot + quarter + 3);
+                swap(values, high - 2, high - quarter - 1);
+                swap(values, high - 3, high - quarter - 2);
+            }
+        }
+    }
+
+    /**
+     * Partitions the specified range around the pivot at its leftmost position
+     * into elements smaller than the pivot and elements not smaller than the
+     * pivot. The elements are scanned in blocks from both ends.
+     *
+     * @param <T> type of the array elements.
+     * @param values the array to be partitioned.
+     * @param low the left boundary (inclusive) of the range.
+     * @param high the right boundary (exclusive) of the range.
+     * @param offsetsLeft buffer of {@link #BLOCK_SIZE} offsets for the left
+     * block.
+     * @param offsetsRight buffer of {@link #BLOCK_SIZE} offsets for the right
+     * block.
+     * @param c the comparator used for sorting the array.
+     * @return the final position of the pivot, which is bitwise negated if
+     * no elements had to be swapped.
+     */
+    static <T> int partitionRight(T[] values, int low, int high,
+            int[] offsetsLeft, int[] offsetsRight, Comparator<? super T> c) {
+        T pivot = values[low];
+        int first = low, last = high;
+
+        /*the median of three guarantees an element not smaller than the
+        pivot on the right, but not an element smaller than it on the left*/
+        while (c.compare(values[++first], pivot) < 0) {
+        }
+        if (first - 1 == low) {
+            while (first < last && c.compare(values[--last], pivot) >= 0) {
+            }
+        } else {
+            while (c.compare(values[--last], pivot) >= 0) {
+            }
+        }
+
+        boolean alreadyPartitioned = first >= last;
+        if (!alreadyPartitioned) {
+            swap(values, first, last);
+            ++first;
+
+            int numLeft = 0, numRight = 0, startLeft = 0, startRight = 0;
+
+            /*the range [first, last) is left to be partitioned*/
+            while (last - first > 2 * BLOCK_SIZE) {
+                if (numLeft == 0) {
+                    startLeft = 0;
+                    for (int i = 0; i < BLOCK_SIZE; ++i) {
+                        offsetsLeft[numLeft] = i;
+                        numLeft += c.compare(values[first + i], pivot) >= 0 ? 1 : 0;
+                    }
+                }
+                if (numRight == 0) {
+                    startRight = 0;
+                    for (int i = 1; i <= BLOCK_SIZE; ++i) {
+                        offsetsRight[numRight] = i;
+                        numRight += c.compare(values[last - i], pivot) < 0 ? 1 : 0;
+                    }
+                }
+
+                int num = Math.min(numLeft, numRight);
+                swapOffsets(values, first, last, offsetsLeft, startLeft,
+                        offsetsRight, startRight, num, numLeft == numRight);
+                numLeft -= num;
+                numRight -= num;
+                startLeft += num;
+                startRight += num;
+                if (numLeft == 0) {
+                    first += BLOCK_SIZE;
+                }
+                if (numRight == 0) {
+                    last -= BLOCK_SIZE;
+                }
+            }
+
+            /*the remaining elements do not fill two blocks*/
+            int leftSize, rightSize;
+            int unknown = (last - first) - (numLeft != 0 || numRight != 0 ? BLOCK_SIZE : 0);
+            if (numRight != 0) {
+                leftSize = unknown;
+                rightSize = BLOCK_SIZE;
+            } else if (numLeft != 0) {
+                leftSize = BLOCK_SIZE;
+                rightSize = unknown;
+            } else {
+                leftSize = unknown / 2;
+                rightSize = unknown - leftSize;
+            }
+            if (unknown != 0 && numLeft == 0) {
+                startLeft = 0;
+                for (int i = 0; i < leftSize; ++i) {
+                    offsetsLeft[numLeft] = i;
+                    numLeft += c.compare(values[first + i], pivot) >= 0 ? 1 : 0;
+                }
+            }
+            if (unknown != 0 && numRight == 0) {
+                startRight = 0;
+                for (int i = 1; i <= rightSize; ++i) {
+                    offsetsRight[numRight] = i;
+                    numRight += c.compare(values[last - i], pivot) < 0 ? 1 : 0;
+                }
+            }
+
+            int num = Math.min(numLeft, numRight);
+            swapOffsets(values, first, last, offsetsLeft, startLeft,
+                    offsetsRight, startRight, num, numLeft == numRight);
+            numLeft -= num;
+            numRight -= num;
+            startLeft += num;
+            startRight += num;
+            if (numLeft == 0) {
+                first += leftSize;
+            }
+            if (numRight == 0) {
+                last -= rightSize;
+            }
+
+            /*move the misplaced elements of the last block to the other side*/
+            if (numLeft != 0) {
+                while (numLeft-- > 0) {
+                    swap(values, first + offsetsLeft[startLeft + numLeft], --last);
+                }
+                first = last;
+            }
+            if (numRight != 0) {
+                while (numRight-- > 0) {
+                    swap(values, last - offsetsRight[startRight + numRight], first++);
+                }
+                last = first;
+            }
+        }
+
+        /*put the pivot at its final position*/
+        int position = first - 1;
+        values[low] = values[position];
+        values[position] = pivot;
+        return alreadyPartitioned ? ~position : position;
+    }
+
+    /**
+     * Swaps the recorded elements of the left block with those of the right
+     * block. Unless both blocks hold the same number of misplaced elements,
+     * the elements are rotated in a cycle, which requires fewer moves.
+     */
+    private static <T> void swapOffsets(T[] values, int first, int last,
+            int[] offsetsLeft, int startLeft, int[] offsetsRight, int startRight,
+            int num, boolean useSwaps) {
+        if (useSwaps) {
+            for (int i = 0; i < num; ++i) {
+                swap(values, first + offsetsLeft[startLeft + i],
+                        last - offsetsRight[startRight + i]);
+            }
+        } else if (num > 0) {
+            int l = first + offsetsLeft[startLeft];
+            int r = last - offsetsRight[startRight];
+            T temp = values[l];
+            values[l] = values[r];
+            for (int i = 1; i < num; ++i) {
+                l = first + offsetsLeft[startLeft + i];
+                values[r] = values[l];
+                r = last - offsetsRight[startRight + i];
+                values[l] = values[r];
+            }
+            values[r] = temp;
+        }
+    }
+
+    /**
+     * Partitions the specified range around the pivot at its leftmost position
+     * into elements equal to the pivot and elements bigger than the pivot. No
+     * element of the range may be smaller than the pivot.
+     *
+     * @param <T> type of the array elements.
+     * @param values the array to be partitioned.
+     * @param low the left boundary (inclusive) of the range.
+     * @param high the right boundary (exclusive) of the range.
+     * @param c the comparator used for sorting the array.
+     * @return the final position of the pivot.
+     */
+    static <T> int partitionLeft(T[] values, int low, int high, Comparator<? super T> c) {
+        T pivot = values[low];
+        int first = low, last = high;
+
+        while (c.compare(pivot, values[--last]) < 0) {
+        }
+        if (last + 1 == high) {
+            while (first < last && c.compare(pivot, values[++first]) >= 0) {
+            }
+        } else {
+            while (c.compare(pivot, values[++first]) >= 0) {
+            }
+        }
+
+        while (first < last) {
+            swap(values, first, last);
+            while (c.compare(pivot, values[--last]) < 0) {
+            }
+            while (c.compare(pivot, values[++first]) >= 0) {
+            }
+        }
+
+        /*put the pivot at its final position*/
+        values[low] = values[last];
+        values[last] = pivot;
+        return last;
+    }
+
+    /**
+     * Sorts the specified range by insertion sort, but gives up as soon as
+     * more than {@link #PARTIAL_INSERTION_SORT_LIMIT} elements were moved. The
+     * range must have a left neighbour not bigger than any of its elements.
+     *
+     * @return true if the range is sorted, false otherwise.
+     */
+    private static <T> boolean partialInsertionSort(T[] values, int low, int high,
+            Comparator<? super T> c) {
+        int moves = 0;
+        for (int i = low + 1; i < high; ++i) {
+            if (c.compare(values[i], values[i - 1]) < 0) {
+                T temp = values[i];
+                int j = i - 1;
+                do {
+                    values[j + 1] = values[j];
+                    --j;
+                } while (j >= low && c.compare(temp, values[j]) < 0);
+                values[j + 1] = temp;
+                moves += i - (j + 1);
+                if (moves > PARTIAL_INSERTION_SORT_LIMIT) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static <T> void insertionSort(T[] values, int low, int high,
+            Comparator<? super T> c) {
+        for (int i = low + 1; i < high; ++i) {
+            T temp = values[i];
+            int j = i - 1;
+            while (j >= low && c.compare(temp, values[j]) < 0) {
+                values[j + 1] = values[j];
+                --j;
+            }
+            values[j + 1] = temp;
+        }
+    }
+
+    /**
+     * Insertion sort which relies on the left neighbour of the range not being
+     * bigger than any of its elements, instead of checking the boundary.
+     */
+    private static <T> void unguardedInsertionSort(T[] values, int low, int high,
+            Comparator<? super T> c) {
+        for (int i = low + 1; i < high; ++i) {
+            T temp = values[i];
+            int j = i - 1;
+            while (c.compare(temp, values[j]) < 0) {
+                values[j + 1] = values[j];
+                --j;
+            }
+            values[j + 1] = temp;
+        }
+    }
+
+    /**
+     * Sorts the elements at the three specified positions.
+     */
+    private static <T> void sort3(T[] values, int a, int b, int d, Comparator<? super T> c) {
+        if (c.compare(values[b], values[a]) < 0) {
+            swap(values, a, b);
+        }
+        if (c.compare(values[d], values[b]) < 0) {
+            swap(values, b, d);
+        }
+        if (c.compare(values[b], values[a]) < 0) {
+            swap(values, a, b);
+        }
+    }
+
+    private static <T> void swap(T[] values, int i, int j) {
+        T temp = values[j];
+        values[j] = values[i];
+        values[i] = temp;
+    }
+}
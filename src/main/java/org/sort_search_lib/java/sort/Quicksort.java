@@ -30,15 +30,47 @@ import org.sort_search_lib.java.sort.api.InPlaceSort;
  * Offers the Quick-Sort algorithm (single pivot) to sort an array consisting of
  * any type in ascending order or by using a specified {@link Comparator}.
  *
+ * Optionally, the array can be partitioned into three parts instead of two,
+ * which is done in the style of Bentley and McIlroy. All elements equal to the
+ * pivot are then gathered in the middle and are never looked at again, so
+ * arrays with only a few distinct elements are sorted in close to linear time.
+ *
  * @author Matthias Fussenegger
  */
 public final class Quicksort implements InPlaceSort {
 
+    /**
+     * True if three-way partitioning is used, false otherwise.
+     */
+    private final boolean _threeWay;
+
+    /**
+     * Creates a new instance which uses two-way partitioning.
+     */
+    public Quicksort() {
+        this(false);
+    }
+
+    /**
+     * Creates a new instance which uses the specified partitioning.
+     *
+     * @param threeWay true to gather the elements equal to the pivot in the
+     * middle of each partition, which pays off if the array contains many
+     * duplicates, false to use two-way partitioning.
+     */
+    public Quicksort(boolean threeWay) {
+        _threeWay = threeWay;
+    }
+
     @Override
     public <T> void sort(T[] values) {
         if (values != null && values.length > 1) {
             if (!insertionSortTinyArray(values, null)) {
-                quicksortComparable(0, values.length - 1, values);
+                if (_threeWay) {
+                    quicksortThreeWayComparable(0, values.length - 1, values);
+                } else {
+                    quicksortComparable(0, values.length - 1, values);
+                }
             }
         }
     }
@@ -47,11 +79,35 @@ public final class Quicksort implements InPlaceSort {
     public <T> void sort(T[] values, Comparator<? super T> c) {
         if (values != null && values.length > 1) {
             if (!insertionSortTinyArray(values, c)) {
-                quicksortUsingComparator(0, values.length - 1, c, values);
+                if (_threeWay) {
+                    quicksortThreeWayUsingComparator(0, values.length - 1, c, values);
+                } else {
+                    quicksortUsingComparator(0, values.length - 1, c, values);
+                }
             }
         }
     }
 
+    @Override
+    public <T> void sortRange(T[] values, int fromIndex, int toIndex) {
+        Ranges.check(values.length, fromIndex, toIndex);
+        if (_threeWay) {
+            quicksortThreeWayComparable(fromIndex, toIndex - 1, values);
+        } else {
+            quicksortComparable(fromIndex, toIndex - 1, values);
+        }
+    }
+
+    @Override
+    public <T> void sortRange(T[] values, int fromIndex, int toIndex, Comparator<? super T> c) {
+        Ranges.check(values.length, fromIndex, toIndex);
+        if (_threeWay) {
+            quicksortThreeWayUsingComparator(fromIndex, toIndex - 1, c, values);
+        } else {
+            quicksortUsingComparator(fromIndex, toIndex - 1, c, values);
+        }
+    }
+
     /**
      * Performs an insertion sort for tiny arrays ({@code < 27}).
      *
@@ -199,6 +255,181 @@ public final class Quicksort implements InPlaceSort {
         return i; // return position of pivot
     }
 
+    /**
+     * Main method for recursive call of three-way Quicksort-algorithm using
+     * the specified comparator for sorting the elements in the array.
+     *
+     * @param <T> type of the array elements.
+     * @param left the left boundary of the array.
+     * @param right the right boundary of the array.
+     * @param c the comparator used for sorting the array.
+     * @param values the array to be sorted.
+     */
+    private <T> void quicksortThreeWayUsingComparator(int left, int right,
+            Comparator<? super T> c, T[] values) {
+        if (left < right) {
+            if (right - left < SIZE_THRESHOLD) {
+                InsertionSort.sort(values, left, right, c);
+            } else {
+                int[] div = divideThreeWayUsingComparator(left, right, c, values);
+                quicksortThreeWayUsingComparator(left, div[0] - 1, c, values);
+                quicksortThreeWayUsingComparator(div[1] + 1, right, c, values);
+            }
+        }
+    }
+
+    /**
+     * Main method for recursive call of three-way Quicksort-algorithm using
+     * the natural ordering of the array elements for sorting.
+     *
+     * @param <T> type of the array elements.
+     * @param left the left boundary of the array.
+     * @param right the right boundary of the array.
+     * @param values the array to be sorted.
+     */
+    private <T> void quicksortThreeWayComparable(int left, int right, T[] values) {
+        if (left < right) {
+            if (right - left < SIZE_THRESHOLD) {
+                InsertionSort.sort(values, left, right);
+            } else {
+                int[] div = divideThreeWayComparable(left, right, values);
+                quicksortThreeWayComparable(left, div[0] - 1, values);
+                quicksortThreeWayComparable(div[1] + 1, right, values);
+            }
+        }
+    }
+
+    /**
+     * The three-way division/partition method used by
+     * {@code quicksortThreeWayUsingComparator}. Elements equal to the pivot
+     * are first swapped to both ends of the range and then moved to the
+     * middle once the remaining elements have been partitioned.
+     *
+     * @param <T> type of the array elements.
+     * @param left the left boundary of the array.
+     * @param right the right boundary of the array.
+     * @param c the comparator used for sorting the array.
+     * @param values the array to be sorted.
+     * @return the first and the last position (both inclusive) of the
+     * elements which are equal to the pivot.
+     */
+    <T> int[] divideThreeWayUsingComparator(int left, int right,
+            Comparator<? super T> c, T[] values) {
+        int median = medianOfThreeUsingComparator(values, left, right, c);
+        swap(values, median, left); // swap median element to leftmost position
+        T pivot = values[left];
+        int i = left, j = right + 1; // next elements to be compared
+        int p = left, q = right + 1; // bounds of the equal elements at both ends
+
+        while (true) {
+            /*search element from the left, which is not smaller than pivot*/
+            int cmpI;
+            do {
+                cmpI = c.compare(values[++i], pivot);
+            } while (cmpI < 0 && i < right);
+
+            /*search element from the right, which is not bigger than pivot*/
+            int cmpJ;
+            do {
+                cmpJ = c.compare(values[--j], pivot);
+            } while (cmpJ > 0 && j > left);
+
+            if (i >= j) {
+                if (i == j && cmpI == 0) {
+                    swap(values, ++p, i);
+                }
+                break;
+            }
+            swap(values, i, j);
+            if (cmpJ == 0) { // element now at i
+                swap(values, ++p, i);
+            }
+            if (cmpI == 0) { // element now at j
+                swap(values, --q, j);
+            }
+        }
+        return gatherEqualElements(values, left, right, i, j, p, q);
+    }
+
+    /**
+     * The three-way division/partition method used by
+     * {@code quicksortThreeWayComparable}. Elements equal to the pivot are
+     * first swapped to both ends of the range and then moved to the middle
+     * once the remaining elements have been partitioned.
+     *
+     * @param <T> type of the array elements.
+     * @param left the left boundary of the array.
+     * @param right the right boundary of the array.
+     * @param values the array to be sorted.
+     * @return the first and the last position (both inclusive) of the
+     * elements which are equal to the pivot.
+     */
+    @SuppressWarnings("unchecked")
+    <T> int[] divideThreeWayComparable(int left, int right, T[] values) {
+        int median = medianOfThreeComparable(values, left, right);
+        swap(values, median, left); // swap median element to leftmost position
+        T pivot = values[left];
+        int i = left, j = right + 1; // next elements to be compared
+        int p = left, q = right + 1; // bounds of the equal elements at both ends
+
+        while (true) {
+            /*search element from the left, which is not smaller than pivot*/
+            int cmpI;
+            do {
+                cmpI = ((Comparable<? super T>) values[++i]).compareTo(pivot);
+            } while (cmpI < 0 && i < right);
+
+            /*search element from the right, which is not bigger than pivot*/
+            int cmpJ;
+            do {
+                cmpJ = ((Comparable<? super T>) values[--j]).compareTo(pivot);
+            } while (cmpJ > 0 && j > left);
+
+            if (i >= j) {
+                if (i == j && cmpI == 0) {
+                    swap(values, ++p, i);
+                }
+                break;
+            }
+            swap(values, i, j);
+            if (cmpJ == 0) { // element now at i
+                swap(values, ++p, i);
+            }
+            if (cmpI == 0) { // element now at j
+                swap(values, --q, j);
+            }
+        }
+        return gatherEqualElements(values, left, right, i, j, p, q);
+    }
+
+    /**
+     * Moves the elements equal to the pivot from both ends of the range to
+     * the middle, which is the final step of three-way partitioning.
+     *
+     * @param <T> type of the array elements.
+     * @param values the partitioned array.
+     * @param left the left boundary of the array.
+     * @param right the right boundary of the array.
+     * @param i the position at which the scan from the left stopped.
+     * @param j the position at which the scan from the right stopped.
+     * @param p the last position of the equal elements at the left end.
+     * @param q the first position of the equal elements at the right end.
+     * @return the first and the last position (both inclusive) of the
+     * elements which are equal to the pivot.
+     */
+    private static <T> int[] gatherEqualElements(T[] values, int left, int right,
+            int i, int j, int p, int q) {
+        /*everything up to j is not bigger, everything after is not smaller*/
+        i = j + 1;
+        for (int k = left; k <= p; ++k) {
+            swap(values, k, j--);
+        }
+        for (int k = right; k >= q; --k) {
+            swap(values, k, i++);
+        }
+        return new int[]{j + 1, i - 1};
+    }
+
     @SuppressWarnings("unchecked")
     private static <T> int medianOfThreeComparable(T[] values, int left, int right) {
 
@@ -216,7 +447,18 @@ public final class Quicksort implements InPlaceSort {
         return mid;
     }
 
-    private static <T> int medianOfThreeUsingComparator(
+    /**
+     * Sorts the first, the middle and the last element of the specified range
+     * by using the specified comparator.
+     *
+     * @param <T> type of the array elements.
+     * @param values the array of which to sort the three elements.
+     * @param left the left boundary of the array.
+     * @param right the right boundary of the array.
+     * @param c the comparator used to compare the elements.
+     * @return the position of the median, which is the middle element.
+     */
+    static <T> int medianOfThreeUsingComparator(
             T[] values, int left, int right, Comparator<? super T> c) {
 
         int mid = (left + right) / 2;
@@ -234,8 +476,445 @@ public final class Quicksort implements InPlaceSort {
     }
 
     private static <T> void swap(T[] values, int i, int j) {
+        if (SortProbe.ENABLED) {
+            SortProbe.swap();
+        }
         T temp = values[j];
         values[j] = values[i];
         values[i] = temp;
     }
+
+    /**
+     * The division/partition method for arrays of primitive values. Unlike
+     * {@link #divideComparable(int, int, Object[])} both scans stop at keys
+     * equal to the pivot, so that duplicates are spread across both sides.
+     *
+     * @param left the left boundary of the array.
+     * @param right the right boundary of the array.
+     * @param values the array to be sorted.
+     * @return the new position of the pivot element.
+     */
+    int divide(int left, int right, int[] values) {
+        int median = medianOfThree(values, left, right);
+        int i = left, j = right - 1; // j is element to the left of pivot
+        swap(values, median, right); // swap median element to rightmost position
+        int pivot = values[right]; // pivot is element at rightmost position
+
+        while (true) {
+            /*search element from the left, which is not smaller than pivot*/
+            while (values[i] < pivot) {
+                ++i;
+            }
+
+            /*search element from the right, which is not bigger than pivot*/
+            while (values[j] > pivot && j > left) {
+                --j;
+            }
+
+            if (i >= j) {
+                break;
+            }
+            swap(values, i, j);
+            ++i;
+            --j;
+        }
+
+        /*swap pivot with new final position*/
+        swap(values, i, right);
+        return i; // return position of pivot
+    }
+
+    private static int medianOfThree(int[] values, int left, int right) {
+
+        int mid = (left + right) >>> 1;
+
+        if (values[right] < values[left]) {
+            swap(values, right, left);
+        }
+        if (values[right] < values[mid]) {
+            swap(values, right, mid);
+        }
+        if (values[mid] < values[left]) {
+            swap(values, mid, left);
+        }
+        return mid;
+    }
+
+    private static void swap(int[] values, int i, int j) {
+        int temp = values[j];
+        values[j] = values[i];
+        values[i] = temp;
+    }
+
+    /**
+     * The division/partition method for arrays of primitive values. Unlike
+     * {@link #divideComparable(int, int, Object[])} both scans stop at keys
+     * equal to the pivot, so that duplicates are spread across both sides.
+     *
+     * @param left the left boundary of the array.
+     * @param right the right boundary of the array.
+     * @param values the array to be sorted.
+     * @return the new position of the pivot element.
+     */
+    int divide(int left, int right, long[] values) {
+        int median = medianOfThree(values, left, right);
+        int i = left, j = right - 1; // j is element to the left of pivot
+        swap(values, median, right); // swap median element to rightmost position
+        long pivot = values[right]; // pivot is element at rightmost position
+
+        while (true) {
+            /*search element from the left, which is not smaller than pivot*/
+            while (values[i] < pivot) {
+                ++i;
+            }
+
+            /*search element from the right, which is not bigger than pivot*/
+            while (values[j] > pivot && j > left) {
+                --j;
+            }
+
+            if (i >= j) {
+                break;
+            }
+            swap(values, i, j);
+            ++i;
+            --j;
+        }
+
+        /*swap pivot with new final position*/
+        swap(values, i, right);
+        return i; // return position of pivot
+    }
+
+    private static int medianOfThree(long[] values, int left, int right) {
+
+        int mid = (left + right) >>> 1;
+
+        if (values[right] < values[left]) {
+            swap(values, right, left);
+        }
+        if (values[right] < values[mid]) {
+            swap(values, right, mid);
+        }
+        if (values[mid] < values[left]) {
+            swap(values, mid, left);
+        }
+        return mid;
+    }
+
+    private static void swap(long[] values, int i, int j) {
+        long temp = values[j];
+        values[j] = values[i];
+        values[i] = temp;
+    }
+
+    /**
+     * The division/partition method for arrays of primitive values. Unlike
+     * {@link #divideComparable(int, int, Object[])} both scans stop at keys
+     * equal to the pivot, so that duplicates are spread across both sides.
+     *
+     * @param left the left boundary of the array.
+     * @param right the right boundary of the array.
+     * @param values the array to be sorted.
+     * @return the new position of the pivot element.
+     */
+    int divide(int left, int right, short[] values) {
+        int median = medianOfThree(values, left, right);
+        int i = left, j = right - 1; // j is element to the left of pivot
+        swap(values, median, right); // swap median element to rightmost position
+        short pivot = values[right]; // pivot is element at rightmost position
+
+        while (true) {
+            /*search element from the left, which is not smaller than pivot*/
+            while (values[i] < pivot) {
+                ++i;
+            }
+
+            /*search element from the right, which is not bigger than pivot*/
+            while (values[j] > pivot && j > left) {
+                --j;
+            }
+
+            if (i >= j) {
+                break;
+            }
+            swap(values, i, j);
+            ++i;
+            --j;
+        }
+
+        /*swap pivot with new final position*/
+        swap(values, i, right);
+        return i; // return position of pivot
+    }
+
+    private static int medianOfThree(short[] values, int left, int right) {
+
+        int mid = (left + right) >>> 1;
+
+        if (values[right] < values[left]) {
+            swap(values, right, left);
+        }
+        if (values[right] < values[mid]) {
+            swap(values, right, mid);
+        }
+        if (values[mid] < values[left]) {
+            swap(values, mid, left);
+        }
+        return mid;
+    }
+
+    private static void swap(short[] values, int i, int j) {
+        short temp = values[j];
+        values[j] = values[i];
+        values[i] = temp;
+    }
+
+    /**
+     * The division/partition method for arrays of primitive values. Unlike
+     * {@link #divideComparable(int, int, Object[])} both scans stop at keys
+     * equal to the pivot, so that duplicates are spread across both sides.
+     *
+     * @param left the left boundary of the array.
+     * @param right the right boundary of the array.
+     * @param values the array to be sorted.
+     * @return the new position of the pivot element.
+     */
+    int divide(int left, int right, char[] values) {
+        int median = medianOfThree(values, left, right);
+        int i = left, j = right - 1; // j is element to the left of pivot
+        swap(values, median, right); // swap median element to rightmost position
+        char pivot = values[right]; // pivot is element at rightmost position
+
+        while (true) {
+            /*search element from the left, which is not smaller than pivot*/
+            while (values[i] < pivot) {
+                ++i;
+            }
+
+            /*search element from the right, which is not bigger than pivot*/
+            while (values[j] > pivot && j > left) {
+                --j;
+            }
+
+            if (i >= j) {
+                break;
+            }
+            swap(values, i, j);
+            ++i;
+            --j;
+        }
+
+        /*swap pivot with new final position*/
+        swap(values, i, right);
+        return i; // return position of pivot
+    }
+
+    private static int medianOfThree(char[] values, int left, int right) {
+
+        int mid = (left + right) >>> 1;
+
+        if (values[right] < values[left]) {
+            swap(values, right, left);
+        }
+        if (values[right] < values[mid]) {
+            swap(values, right, mid);
+        }
+        if (values[mid] < values[left]) {
+            swap(values, mid, left);
+        }
+        return mid;
+    }
+
+    private static void swap(char[] values, int i, int j) {
+        char temp = values[j];
+        values[j] = values[i];
+        values[i] = temp;
+    }
+
+    /**
+     * The division/partition method for arrays of primitive values. Unlike
+     * {@link #divideComparable(int, int, Object[])} both scans stop at keys
+     * equal to the pivot, so that duplicates are spread across both sides.
+     *
+     * @param left the left boundary of the array.
+     * @param right the right boundary of the array.
+     * @param values the array to be sorted.
+     * @return the new position of the pivot element.
+     */
+    int divide(int left, int right, byte[] values) {
+        int median = medianOfThree(values, left, right);
+        int i = left, j = right - 1; // j is element to the left of pivot
+        swap(values, median, right); // swap median element to rightmost position
+        byte pivot = values[right]; // pivot is element at rightmost position
+
+        while (true) {
+            /*search element from the left, which is not smaller than pivot*/
+            while (values[i] < pivot) {
+                ++i;
+            }
+
+            /*search element from the right, which is not bigger than pivot*/
+            while (values[j] > pivot && j > left) {
+                --j;
+            }
+
+            if (i >= j) {
+                break;
+            }
+            swap(values, i, j);
+            ++i;
+            --j;
+        }
+
+        /*swap pivot with new final position*/
+        swap(values, i, right);
+        return i; // return position of pivot
+    }
+
+    private static int medianOfThree(byte[] values, int left, int right) {
+
+        int mid = (left + right) >>> 1;
+
+        if (values[right] < values[left]) {
+            swap(values, right, left);
+        }
+        if (values[right] < values[mid]) {
+            swap(values, right, mid);
+        }
+        if (values[mid] < values[left]) {
+            swap(values, mid, left);
+        }
+        return mid;
+    }
+
+    private static void swap(byte[] values, int i, int j) {
+        byte temp = values[j];
+        values[j] = values[i];
+        values[i] = temp;
+    }
+
+    /**
+     * The division/partition method for arrays of primitive values. Unlike
+     * {@link #divideComparable(int, int, Object[])} both scans stop at keys
+     * equal to the pivot, so that duplicates are spread across both sides.
+     *
+     * @param left the left boundary of the array.
+     * @param right the right boundary of the array.
+     * @param values the array to be sorted.
+     * @return the new position of the pivot element.
+     */
+    int divide(int left, int right, float[] values) {
+        int median = medianOfThree(values, left, right);
+        int i = left, j = right - 1; // j is element to the left of pivot
+        swap(values, median, right); // swap median element to rightmost position
+        float pivot = values[right]; // pivot is element at rightmost position
+
+        while (true) {
+            /*search element from the left, which is not smaller than pivot*/
+            while (values[i] < pivot) {
+                ++i;
+            }
+
+            /*search element from the right, which is not bigger than pivot*/
+            while (values[j] > pivot && j > left) {
+                --j;
+            }
+
+            if (i >= j) {
+                break;
+            }
+            swap(values, i, j);
+            ++i;
+            --j;
+        }
+
+        /*swap pivot with new final position*/
+        swap(values, i, right);
+        return i; // return position of pivot
+    }
+
+    private static int medianOfThree(float[] values, int left, int right) {
+
+        int mid = (left + right) >>> 1;
+
+        if (values[right] < values[left]) {
+            swap(values, right, left);
+        }
+        if (values[right] < values[mid]) {
+            swap(values, right, mid);
+        }
+        if (values[mid] < values[left]) {
+            swap(values, mid, left);
+        }
+        return mid;
+    }
+
+    private static void swap(float[] values, int i, int j) {
+        float temp = values[j];
+        values[j] = values[i];
+        values[i] = temp;
+    }
+
+    /**
+     * The division/partition method for arrays of primitive values. Unlike
+     * {@link #divideComparable(int, int, Object[])} both scans stop at keys
+     * equal to the pivot, so that duplicates are spread across both sides.
+     *
+     * @param left the left boundary of the array.
+     * @param right the right boundary of the array.
+     * @param values the array to be sorted.
+     * @return the new position of the pivot element.
+     */
+    int divide(int left, int right, double[] values) {
+        int median = medianOfThree(values, left, right);
+        int i = left, j = right - 1; // j is element to the left of pivot
+        swap(values, median, right); // swap median element to rightmost position
+        double pivot = values[right]; // pivot is element at rightmost position
+
+        while (true) {
+            /*search element from the left, which is not smaller than pivot*/
+            while (values[i] < pivot) {
+                ++i;
+            }
+
+            /*search element from the right, which is not bigger than pivot*/
+            while (values[j] > pivot && j > left) {
+                --j;
+            }
+
+            if (i >= j) {
+                break;
+            }
+            swap(values, i, j);
+            ++i;
+            --j;
+        }
+
+        /*swap pivot with new final position*/
+        swap(values, i, right);
+        return i; // return position of pivot
+    }
+
+    private static int medianOfThree(double[] values, int left, int right) {
+
+        int mid = (left + right) >>> 1;
+
+        if (values[right] < values[left]) {
+            swap(values, right, left);
+        }
+        if (values[right] < values[mid]) {
+            swap(values, right, mid);
+        }
+        if (values[mid] < values[left]) {
+            swap(values, mid, left);
+        }
+        return mid;
+    }
+
+    private static void swap(double[] values, int i, int j) {
+        double temp = values[j];
+        values[j] = values[i];
+        values[i] = temp;
+    }
 }
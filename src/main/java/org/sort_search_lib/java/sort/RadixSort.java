@@ -0,0 +1,438 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+import java.util.Arrays;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Offers the LSD (least significant digit) Radix-Sort algorithm to sort an
+ * array of {@code int} or {@code long} values in ascending order. Each key is
+ * processed one byte at a time, starting with the least significant one, and
+ * the sign bit is flipped for the most significant byte so that negative keys
+ * are placed before positive ones.
+ *
+ * The histograms of all bytes are gathered in a single pass over the input.
+ * A pass is skipped if all keys share the same byte at its position, and the
+ * keys are moved back and forth between the array and one scratch buffer of
+ * the same length, so a sort takes {@code O(n)} time and memory.
+ *
+ * Arrays of any type can be sorted by a primitive key as well. Each key is
+ * extracted exactly once into a primitive array, the keys are sorted together
+ * with the original positions of their elements, and the elements are then
+ * moved to their final positions. No comparator is called, and as the sort
+ * is stable, elements with equal keys keep their relative order.
+ *
+ * @author Matthias Fussenegger
+ */
+public final class RadixSort {
+
+    /**
+     * Number of bits that are processed per pass.
+     */
+    private static final int BITS_PER_DIGIT = 8;
+
+    /**
+     * Number of distinct values of a single digit.
+     */
+    private static final int RADIX = 1 << BITS_PER_DIGIT;
+
+    /**
+     * Size below which a range is sorted using Insertion-Sort, as the cost of
+     * clearing and scanning the histograms does not pay off for tiny ranges.
+     */
+    static final int INSERTION_SORT_THRESHOLD = 64;
+
+    /**
+     * Sorts the specified array in ascending numerical order.
+     *
+     * @param values the array to be sorted.
+     */
+    public void sort(int[] values) {
+        if (values != null && values.length > 1) {
+            if (values.length < INSERTION_SORT_THRESHOLD) {
+                InsertionSort.sort(values, 0, values.length - 1);
+            } else {
+                sort(values, 0, values.length, new int[values.length]);
+            }
+        }
+    }
+
+    /**
+     * Sorts the specified array in ascending numerical order.
+     *
+     * @param values the array to be sorted.
+     */
+    public void sort(long[] values) {
+        if (values != null && values.length > 1) {
+            if (values.length < INSERTION_SORT_THRESHOLD) {
+                InsertionSort.sort(values, 0, values.length - 1);
+            } else {
+                sort(values, 0, values.length, new long[values.length]);
+            }
+        }
+    }
+
+    /**
+     * Sorts the specified array in ascending order of the {@code int} keys
+     * extracted by the specified function.
+     *
+     * @param <T> type of the array elements.
+     * @param values an array consisting of elements of any type.
+     * @param key the function which extracts the key of an element.
+     */
+    public <T> void sortByInt(T[] values, ToIntFunction<? super T> key) {
+        if (values != null && values.length > 1) {
+            sortByInt(values, 0, values.length, key);
+        }
+    }
+
+    /**
+     * Internal API that sorts the range {@code [low, high)} of the specified
+     * array in ascending order of the {@code int} keys extracted by the
+     * specified function.
+     *
+     * @param <T> type of the array elements.
+     * @param values reference to the array that is to be sorted.
+     * @param low the left boundary (inclusive) of the range.
+     * @param high the right boundary (exclusive) of the range.
+     * @param key the function which extracts the key of an element.
+     */
+    <T> void sortByInt(T[] values, int low, int high, ToIntFunction<? super T> key) {
+        final int n = high - low;
+        /*the key takes the upper half and the position the lower half*/
+        long[] packed = new long[n];
+        for (int i = 0; i < n; ++i) {
+            packed[i] = ((long) key.applyAsInt(values[low + i]) << Integer.SIZE) | i;
+        }
+        sort(packed);
+        int[] positions = new int[n];
+        for (int i = 0; i < n; ++i) {
+            positions[i] = (int) packed[i];
+        }
+        permute(values, low, positions);
+    }
+
+    /**
+     * Sorts the specified array in ascending order of the {@code long} keys
+     * extracted by the specified function.
+     *
+     * @param <T> type of the array elements.
+     * @param values an array consisting of elements of any type.
+     * @param key the function which extracts the key of an element.
+     */
+    public <T> void sortByLong(T[] values, ToLongFunction<? super T> key) {
+        if (values != null && values.length > 1) {
+            sortByLong(values, 0, values.length, key);
+        }
+    }
+
+    /**
+     * Internal API that sorts the range {@code [low, high)} of the specified
+     * array in ascending order of the {@code long} keys extracted by the
+     * specified function.
+     *
+     * @param <T> type of the array elements.
+     * @param values reference to the array that is to be sorted.
+     * @param low the left boundary (inclusive) of the range.
+     * @param high the right boundary (exclusive) of the range.
+     * @param key the function which extracts the key of an element.
+     */
+    <T> void sortByLong(T[] values, int low, int high, ToLongFunction<? super T> key) {
+        long[] keys = new long[high - low];
+        for (int i = 0; i < keys.length; ++i) {
+            keys[i] = key.applyAsLong(values[low + i]);
+        }
+        sortByKeys(values, low, keys);
+    }
+
+    /**
+     * Sorts the specified array in ascending order of the {@code double} keys
+     * extracted by the specified function. The keys are ordered the same way
+     * as {@link Double#compare(double, double)} does, so {@code -0.0} is
+     * placed before {@code 0.0} and {@code NaN} keys are placed at the end.
+     *
+     * @param <T> type of the array elements.
+     * @param values an array consisting of elements of any type.
+     * @param key the function which extracts the key of an element.
+     */
+    public <T> void sortByDouble(T[] values, ToDoubleFunction<? super T> key) {
+        if (values != null && values.length > 1) {
+            long[] keys = new long[values.length];
+            for (int i = 0; i < values.length; ++i) {
+                keys[i] = toSortableBits(key.applyAsDouble(values[i]));
+            }
+            sortByKeys(values, 0, keys);
+        }
+    }
+
+    /**
+     * Returns a key of the specified value, which orders the values the same
+     * way as {@link Double#compare(double, double)} when sorted as a signed
+     * {@code long}.
+     *
+     * @param value the value of which to return the key.
+     * @return the key of the value.
+     */
+    static long toSortableBits(double value) {
+        /*flip all bits but the sign of negative values*/
+        long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> (Long.SIZE - 1)) & Long.MAX_VALUE);
+    }
+
+    /**
+     * Sorts the elements starting at position {@code low} by the specified
+     * keys, where each key belongs to the element at the same offset.
+     */
+    private static <T> void sortByKeys(T[] values, int low, long[] keys) {
+        int[] positions = new int[keys.length];
+        for (int i = 0; i < positions.length; ++i) {
+            positions[i] = i;
+        }
+        sort(keys, positions, 0, keys.length, new long[keys.length], new int[keys.length]);
+        permute(values, low, positions);
+    }
+
+    /**
+     * Moves each element starting at position {@code low} to the offset at
+     * which its original offset appears in the specified permutation.
+     */
+    private static <T> void permute(T[] values, int low, int[] positions) {
+        T[] copy = Arrays.copyOfRange(values, low, low + positions.length);
+        for (int i = 0; i < positions.length; ++i) {
+            values[low + i] = copy[positions[i]];
+        }
+    }
+
+    /**
+     * Internal API that sorts the range {@code [low, high)} of the specified
+     * array by using the specified scratch buffer.
+     *
+     * @param values reference to the array that is to be sorted.
+     * @param low the left boundary (inclusive) of the range.
+     * @param high the right boundary (exclusive) of the range.
+     * @param buffer scratch buffer holding at least {@code high - low} values.
+     */
+    static void sort(int[] values, int low, int high, int[] buffer) {
+        final int digits = Integer.SIZE / BITS_PER_DIGIT;
+        final int n = high - low;
+        int[][] counts = new int[digits][RADIX];
+
+        /*gather the histograms of all digits at once*/
+        for (int i = low; i < high; ++i) {
+            int value = values[i];
+            for (int d = 0; d < digits; ++d) {
+                ++counts[d][digit(value, d)];
+            }
+        }
+
+        int[] src = values, dest = buffer;
+        int srcOffset = low, destOffset = 0;
+        for (int d = 0; d < digits; ++d) {
+            int[] count = counts[d];
+            if (count[digit(src[srcOffset], d)] == n) {
+                continue; // all keys share this digit
+            }
+            toStartPositions(count);
+            for (int i = srcOffset, end = srcOffset + n; i < end; ++i) {
+                int value = src[i];
+                dest[destOffset + count[digit(value, d)]++] = value;
+            }
+            /*the destination becomes the source of the next pass*/
+            int[] temp = src;
+            src = dest;
+            dest = temp;
+            int tempOffset = srcOffset;
+            srcOffset = destOffset;
+            destOffset = tempOffset;
+        }
+        if (src != values) {
+            System.arraycopy(src, srcOffset, values, low, n);
+        }
+    }
+
+    /**
+     * Internal API that sorts the range {@code [low, high)} of the specified
+     * array by using the specified scratch buffer.
+     *
+     * @param values reference to the array that is to be sorted.
+     * @param low the left boundary (inclusive) of the range.
+     * @param high the right boundary (exclusive) of the range.
+     * @param buffer scratch buffer holding at least {@code high - low} values.
+     */
+    static void sort(long[] values, int low, int high, long[] buffer) {
+        final int digits = Long.SIZE / BITS_PER_DIGIT;
+        final int n = high - low;
+        int[][] counts = new int[digits][RADIX];
+
+        /*gather the histograms of all digits at once*/
+        for (int i = low; i < high; ++i) {
+            long value = values[i];
+            for (int d = 0; d < digits; ++d) {
+                ++counts[d][digit(value, d)];
+            }
+        }
+
+        long[] src = values, dest = buffer;
+        int srcOffset = low, destOffset = 0;
+        for (int d = 0; d < digits; ++d) {
+            int[] count = counts[d];
+            if (count[digit(src[srcOffset], d)] == n) {
+                continue; // all keys share this digit
+            }
+            toStartPositions(count);
+            for (int i = srcOffset, end = srcOffset + n; i < end; ++i) {
+                long value = src[i];
+                dest[destOffset + count[digit(value, d)]++] = value;
+            }
+            /*the destination becomes the source of the next pass*/
+            long[] temp = src;
+            src = dest;
+            dest = temp;
+            int tempOffset = srcOffset;
+            srcOffset = destOffset;
+            destOffset = tempOffset;
+        }
+        if (src != values) {
+            System.arraycopy(src, srcOffset, values, low, n);
+        }
+    }
+
+    /**
+     * Internal API that sorts the range {@code [low, high)} of the specified
+     * keys and moves the value at the same position of {@code indices} along
+     * with each key. The sort is stable.
+     *
+     * @param keys reference to the keys that are to be sorted.
+     * @param indices the values which are moved along with the keys.
+     * @param low the left boundary (inclusive) of the range.
+     * @param high the right boundary (exclusive) of the range.
+     * @param keyBuffer scratch buffer holding at least {@code high - low} keys.
+     * @param indexBuffer scratch buffer holding at least {@code high - low}
+     * indices.
+     */
+    static void sort(long[] keys, int[] indices, int low, int high,
+            long[] keyBuffer, int[] indexBuffer) {
+        final int digits = Long.SIZE / BITS_PER_DIGIT;
+        final int n = high - low;
+        if (n < INSERTION_SORT_THRESHOLD) {
+            /*insertion sort, which only moves past strictly greater keys*/
+            for (int i = low + 1; i < high; ++i) {
+                long key = keys[i];
+                int index = indices[i];
+                int j = i - 1;
+                for (; j >= low && keys[j] > key; --j) {
+                    keys[j + 1] = keys[j];
+                    indices[j + 1] = indices[j];
+                }
+                keys[j + 1] = key;
+                indices[j + 1] = index;
+            }
+            return;
+        }
+        int[][] counts = new int[digits][RADIX];
+
+        /*gather the histograms of all digits at once*/
+        for (int i = low; i < high; ++i) {
+            long key = keys[i];
+            for (int d = 0; d < digits; ++d) {
+                ++counts[d][digit(key, d)];
+            }
+        }
+
+        long[] srcKeys = keys, destKeys = keyBuffer;
+        int[] srcIndices = indices, destIndices = indexBuffer;
+        int srcOffset = low, destOffset = 0;
+        for (int d = 0; d < digits; ++d) {
+            int[] count = counts[d];
+            if (count[digit(srcKeys[srcOffset], d)] == n) {
+                continue; // all keys share this digit
+            }
+            toStartPositions(count);
+            for (int i = srcOffset, end = srcOffset + n; i < end; ++i) {
+                long key = srcKeys[i];
+                int position = destOffset + count[digit(key, d)]++;
+                destKeys[position] = key;
+                destIndices[position] = srcIndices[i];
+            }
+            /*the destination becomes the source of the next pass*/
+            long[] tempKeys = srcKeys;
+            srcKeys = destKeys;
+            destKeys = tempKeys;
+            int[] tempIndices = srcIndices;
+            srcIndices = destIndices;
+            destIndices = tempIndices;
+            int tempOffset = srcOffset;
+            srcOffset = destOffset;
+            destOffset = tempOffset;
+        }
+        if (srcKeys != keys) {
+            System.arraycopy(srcKeys, srcOffset, keys, low, n);
+            System.arraycopy(srcIndices, srcOffset, indices, low, n);
+        }
+    }
+
+    /**
+     * Returns the digit of the specified key at the specified position, with
+     * the sign bit being flipped for the most significant digit.
+     *
+     * @param value the key of which to return the digit.
+     * @param d the position of the digit, zero being the least significant.
+     * @return the digit in the range {@code [0, RADIX)}.
+     */
+    private static int digit(int value, int d) {
+        int digit = (value >>> (d * BITS_PER_DIGIT)) & (RADIX - 1);
+        return d == Integer.SIZE / BITS_PER_DIGIT - 1 ? digit ^ (RADIX >>> 1) : digit;
+    }
+
+    /**
+     * Returns the digit of the specified key at the specified position, with
+     * the sign bit being flipped for the most significant digit.
+     *
+     * @param value the key of which to return the digit.
+     * @param d the position of the digit, zero being the least significant.
+     * @return the digit in the range {@code [0, RADIX)}.
+     */
+    private static int digit(long value, int d) {
+        int digit = (int) (value >>> (d * BITS_PER_DIGIT)) & (RADIX - 1);
+        return d == Long.SIZE / BITS_PER_DIGIT - 1 ? digit ^ (RADIX >>> 1) : digit;
+    }
+
+    /**
+     * Converts the specified histogram into the start position of each digit
+     * by computing the exclusive prefix sums.
+     *
+     * @param count the histogram of a single digit.
+     */
+    private static void toStartPositions(int[] count) {
+        int sum = 0;
+        for (int i = 0; i < count.length; ++i) {
+            int temp = count[i];
+            count[i] = sum;
+            sum += temp;
+        }
+    }
+}
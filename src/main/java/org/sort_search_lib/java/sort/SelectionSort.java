@@ -35,37 +35,77 @@ import java.util.Comparator;
 public final class SelectionSort implements InPlaceSort {
 
     @Override
-    @SuppressWarnings("unchecked")
     public <T> void sort(T[] values) {
         if (values != null && values.length > 1) {
-            for (int i = values.length - 1; i > 0; --i) {
-                int max = 0;
-                for (int j = 0; j < i + 1; ++j) {
-                    if (((Comparable<? super T>) values[j]).compareTo(values[max]) > 0) {
-                        max = j;
-                    }
-                }
-                T temp = values[max];
-                values[max] = values[i];
-                values[i] = temp;
-            }
+            selectionSortComparable(values, 0, values.length - 1);
         }
     }
 
     @Override
     public <T> void sort(T[] values, Comparator<? super T> c) {
         if (values != null && values.length > 1) {
-            for (int i = values.length - 1; i > 0; --i) {
-                int max = 0;
-                for (int j = 0; j < i + 1; ++j) {
-                    if (c.compare(values[j], values[max]) > 0) {
-                        max = j;
-                    }
+            selectionSortUsingComparator(values, 0, values.length - 1, c);
+        }
+    }
+
+    @Override
+    public <T> void sortRange(T[] values, int fromIndex, int toIndex) {
+        Ranges.check(values.length, fromIndex, toIndex);
+        selectionSortComparable(values, fromIndex, toIndex - 1);
+    }
+
+    @Override
+    public <T> void sortRange(T[] values, int fromIndex, int toIndex, Comparator<? super T> c) {
+        Ranges.check(values.length, fromIndex, toIndex);
+        selectionSortUsingComparator(values, fromIndex, toIndex - 1, c);
+    }
+
+    /**
+     * Main method of Selection-Sort using the natural ordering of the array
+     * elements for sorting. Both boundaries are considered inclusively.
+     *
+     * @param <T> type of the array elements.
+     * @param values the array to be sorted.
+     * @param left the left boundary of the array.
+     * @param right the right boundary of the array.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> void selectionSortComparable(T[] values, int left, int right) {
+        for (int i = right; i > left; --i) {
+            int max = left;
+            for (int j = left; j < i + 1; ++j) {
+                if (((Comparable<? super T>) values[j]).compareTo(values[max]) > 0) {
+                    max = j;
+                }
+            }
+            T temp = values[max];
+            values[max] = values[i];
+            values[i] = temp;
+        }
+    }
+
+    /**
+     * Main method of Selection-Sort using the specified comparator for sorting
+     * the elements in the array. Both boundaries are considered inclusively.
+     *
+     * @param <T> type of the array elements.
+     * @param values the array to be sorted.
+     * @param left the left boundary of the array.
+     * @param right the right boundary of the array.
+     * @param c the comparator used for sorting the array.
+     */
+    private <T> void selectionSortUsingComparator(T[] values, int left, int right,
+            Comparator<? super T> c) {
+        for (int i = right; i > left; --i) {
+            int max = left;
+            for (int j = left; j < i + 1; ++j) {
+                if (c.compare(values[j], values[max]) > 0) {
+                    max = j;
                 }
-                T temp = values[max];
-                values[max] = values[i];
-                values[i] = temp;
             }
+            T temp = values[max];
+            values[max] = values[i];
+            values[i] = temp;
         }
     }
 }
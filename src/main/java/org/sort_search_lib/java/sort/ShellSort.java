@@ -35,53 +35,95 @@ import java.util.Comparator;
 public final class ShellSort implements InPlaceSort {
 
     @Override
-    @SuppressWarnings("unchecked")
     public <T> void sort(T[] values) {
         if (values != null && values.length > 1) {
-            /*calculate gap using Knuth-sequence*/
-            int gap = 1;
-            while (gap <= Math.ceil(values.length / 3)) {
-                gap *= 3 + 1;
-            }
-
-            while (gap > 0) {
-                /*do insertion sort*/
-                for (int i = gap; i < values.length; ++i) {
-                    T temp = values[i];
-                    int j = i;
-                    while (j >= gap && ((Comparable<? super T>) values[j - gap]).compareTo(temp) > 0) {
-                        values[j] = values[j - gap];
-                        j -= gap;
-                    }
-                    values[j] = temp;
-                }
-                gap /= 3;
-            }
+            shellSortComparable(values, 0, values.length - 1);
         }
     }
 
     @Override
     public <T> void sort(T[] values, Comparator<? super T> c) {
         if (values != null && values.length > 1) {
-            /*calculate gap using Knuth-sequence*/
-            int gap = 1;
-            while (gap <= Math.ceil(values.length / 3)) {
-                gap *= 3 + 1;
+            shellSortUsingComparator(values, 0, values.length - 1, c);
+        }
+    }
+
+    @Override
+    public <T> void sortRange(T[] values, int fromIndex, int toIndex) {
+        Ranges.check(values.length, fromIndex, toIndex);
+        shellSortComparable(values, fromIndex, toIndex - 1);
+    }
+
+    @Override
+    public <T> void sortRange(T[] values, int fromIndex, int toIndex, Comparator<? super T> c) {
+        Ranges.check(values.length, fromIndex, toIndex);
+        shellSortUsingComparator(values, fromIndex, toIndex - 1, c);
+    }
+
+    /**
+     * Main method of Shell-Sort using the natural ordering of the array
+     * elements for sorting. Both boundaries are considered inclusively.
+     *
+     * @param <T> type of the array elements.
+     * @param values the array to be sorted.
+     * @param left the left boundary of the array.
+     * @param right the right boundary of the array.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> void shellSortComparable(T[] values, int left, int right) {
+        int n = right - left + 1;
+        /*calculate gap using Knuth-sequence*/
+        int gap = 1;
+        while (gap <= Math.ceil(n / 3)) {
+            gap = 3 * gap + 1;
+        }
+
+        while (gap > 0) {
+            /*do insertion sort*/
+            for (int i = left + gap; i <= right; ++i) {
+                T temp = values[i];
+                int j = i;
+                while (j >= left + gap && ((Comparable<? super T>) values[j - gap]).compareTo(temp) > 0) {
+                    values[j] = values[j - gap];
+                    j -= gap;
+                }
+                values[j] = temp;
             }
+            gap /= 3;
+        }
+    }
+
+    /**
+     * Main method of Shell-Sort using the specified comparator for sorting the
+     * elements in the array. Both boundaries are considered inclusively.
+     *
+     * @param <T> type of the array elements.
+     * @param values the array to be sorted.
+     * @param left the left boundary of the array.
+     * @param right the right boundary of the array.
+     * @param c the comparator used for sorting the array.
+     */
+    private <T> void shellSortUsingComparator(T[] values, int left, int right,
+            Comparator<? super T> c) {
+        int n = right - left + 1;
+        /*calculate gap using Knuth-sequence*/
+        int gap = 1;
+        while (gap <= Math.ceil(n / 3)) {
+            gap = 3 * gap + 1;
+        }
 
-            while (gap > 0) {
-                /*do insertion sort*/
-                for (int i = gap; i < values.length; ++i) {
-                    T temp = values[i];
-                    int j = i;
-                    while (j >= gap && c.compare(values[j - gap], temp) > 0) {
-                        values[j] = values[j - gap];
-                        j -= gap;
-                    }
-                    values[j] = temp;
+        while (gap > 0) {
+            /*do insertion sort*/
+            for (int i = left + gap; i <= right; ++i) {
+                T temp = values[i];
+                int j = i;
+                while (j >= left + gap && c.compare(values[j - gap], temp) > 0) {
+                    values[j] = values[j - gap];
+                    j -= gap;
                 }
-                gap /= 3;
+                values[j] = temp;
             }
+            gap /= 3;
         }
     }
 }
@@ -0,0 +1,390 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import org.sort_search_lib.java.sort.api.InPlaceSort;
+
+/**
+ * Offers an adaptive facade which samples the input to choose one of the
+ * algorithms of this library, sorting an array consisting of any type in
+ * ascending order or by using a specified {@link Comparator}. The sort is not
+ * guaranteed to be stable.
+ *
+ * The planner looks at the size of the input, at the share of adjacent pairs
+ * in a few evenly spaced windows which are already in order, at the share of
+ * duplicates among a small sorted sample and at the type of the sampled
+ * elements. Tiny ranges are sorted by Insertion-Sort and mostly sorted ranges
+ * by merging their runs. If the natural ordering is used, arrays of
+ * {@link Integer} or {@link Long} are sorted by Radix-Sort and arrays of
+ * {@link String} by Multikey Quicksort. Ranges with many duplicates are sorted
+ * by a three-way partitioning Quicksort, anything else by Introsort. The
+ * sampling is deterministic, so the plan returned by {@link #plan(Object[])}
+ * is the one that a subsequent sort of the same array will execute.
+ *
+ * @author Matthias Fussenegger
+ */
+public final class SortPlanner implements InPlaceSort {
+
+    /**
+     * Algorithms which may be chosen by the planner.
+     */
+    public enum Algorithm {
+        INSERTION_SORT, TIM_SORT, RADIX_SORT, MULTIKEY_QUICKSORT,
+        THREE_WAY_QUICKSORT, INTRO_SORT
+    }
+
+    /**
+     * Types of elements which are told apart by the planner.
+     */
+    public enum ElementType {
+        INTEGER, LONG, STRING, COMPARABLE, OTHER
+    }
+
+    /**
+     * Share of adjacent pairs being in order at which a range is considered
+     * to be mostly sorted.
+     */
+    static final double PRESORTED_THRESHOLD = 0.9;
+
+    /**
+     * Share of duplicates at which a range is considered to consist of few
+     * distinct values.
+     */
+    static final double DUPLICATE_THRESHOLD = 0.25;
+
+    /**
+     * Number of windows in which adjacent pairs are compared.
+     */
+    static final int WINDOWS = 32;
+
+    /**
+     * Number of elements of each window.
+     */
+    static final int WINDOW_LENGTH = 16;
+
+    /**
+     * Number of elements sampled to estimate duplicates and the type.
+     */
+    static final int SAMPLE_SIZE = 256;
+
+    /**
+     * Three-way Quicksort instance used for ranges with many duplicates.
+     */
+    private final Quicksort _threeWayQuicksort = new Quicksort(true);
+
+    /**
+     * Introsort instance used if no other algorithm fits better.
+     */
+    private final IntroSort _introSort = new IntroSort();
+
+    /**
+     * Radix-Sort instance used for {@link Integer} and {@link Long} keys.
+     */
+    private final RadixSort _radixSort = new RadixSort();
+
+    /**
+     * Multikey Quicksort instance used for {@link String} elements.
+     */
+    private final MultikeyQuicksort _multikeyQuicksort = new MultikeyQuicksort();
+
+    @Override
+    public <T> void sort(T[] values) {
+        if (values != null && values.length > 1) {
+            sort(values, 0, values.length, Comparators.<T>naturalOrder(), true);
+        }
+    }
+
+    @Override
+    public <T> void sort(T[] values, Comparator<? super T> c) {
+        if (values != null && values.length > 1) {
+            sort(values, 0, values.length, c, false);
+        }
+    }
+
+    @Override
+    public <T> void sortRange(T[] values, int fromIndex, int toIndex) {
+        Ranges.check(values.length, fromIndex, toIndex);
+        if (toIndex - fromIndex > 1) {
+            sort(values, fromIndex, toIndex, Comparators.<T>naturalOrder(), true);
+        }
+    }
+
+    @Override
+    public <T> void sortRange(T[] values, int fromIndex, int toIndex, Comparator<? super T> c) {
+        Ranges.check(values.length, fromIndex, toIndex);
+        if (toIndex - fromIndex > 1) {
+            sort(values, fromIndex, toIndex, c, false);
+        }
+    }
+
+    /**
+     * Returns the plan which is executed when sorting the specified array
+     * using the natural ordering of its elements.
+     *
+     * @param <T> type of the array elements.
+     * @param values an array consisting of elements of any type.
+     * @return the plan chosen for the specified array.
+     */
+    public <T> Plan plan(T[] values) {
+        return plan(values, 0, values.length, Comparators.<T>naturalOrder(), true);
+    }
+
+    /**
+     * Returns the plan which is executed when sorting the specified array
+     * using the specified {@code Comparator}.
+     *
+     * @param <T> type of the array elements.
+     * @param values an array consisting of elements of any type.
+     * @param c the {@code Comparator} used to sort the elements of the array.
+     * @return the plan chosen for the specified array.
+     */
+    public <T> Plan plan(T[] values, Comparator<? super T> c) {
+        return plan(values, 0, values.length, c, false);
+    }
+
+    /**
+     * Sorts the range {@code [low, high)} by the algorithm chosen for it.
+     */
+    private <T> void sort(T[] values, int low, int high,
+            Comparator<? super T> c, boolean naturalOrder) {
+        Plan plan = plan(values, low, high, c, naturalOrder);
+        switch (plan._algorithm) {
+            case INSERTION_SORT:
+                InsertionSort.sort(values, low, high - 1, c);
+                break;
+            case TIM_SORT:
+                TimSort.sort(values, low, high, c);
+                break;
+            case RADIX_SORT:
+                if (plan._elementType == ElementType.INTEGER) {
+                    _radixSort.sortByInt(values, low, high, new ToIntFunction<T>() {
+                        @Override
+                        public int applyAsInt(T value) {
+                            return (Integer) value;
+                        }
+                    });
+                } else {
+                    _radixSort.sortByLong(values, low, high, new ToLongFunction<T>() {
+                        @Override
+                        public long applyAsLong(T value) {
+                            return (Long) value;
+                        }
+                    });
+                }
+                break;
+            case MULTIKEY_QUICKSORT:
+                _multikeyQuicksort.multikeyQuicksort((String[]) values,
+                        low, high - 1, 0, new SuffixComparator());
+                break;
+            case THREE_WAY_QUICKSORT:
+                _threeWayQuicksort.sortRange(values, low, high, c);
+                break;
+            default:
+                _introSort.sortRange(values, low, high, c);
+        }
+    }
+
+    /**
+     * Samples the range {@code [low, high)} and chooses an algorithm for it.
+     */
+    private static <T> Plan plan(T[] values, int low, int high,
+            Comparator<? super T> c, boolean naturalOrder) {
+        final int n = high - low;
+        if (n < InPlaceSort.SIZE_THRESHOLD) {
+            return new Plan(Algorithm.INSERTION_SORT, n, Double.NaN, Double.NaN, null);
+        }
+        double sortedness = sampleSortedness(values, low, high, c);
+        if (sortedness >= PRESORTED_THRESHOLD) {
+            return new Plan(Algorithm.TIM_SORT, n, sortedness, Double.NaN, null);
+        }
+        /*take a sample of evenly spaced elements*/
+        final int m = Math.min(n, SAMPLE_SIZE);
+        @SuppressWarnings("unchecked")
+        T[] sample = (T[]) new Object[m]; // never leaves this class
+        for (int i = 0; i < m; ++i) {
+            sample[i] = values[low + (int) ((long) i * n / m)];
+        }
+        ElementType type = sampleType(sample);
+        if (naturalOrder && (type == ElementType.INTEGER || type == ElementType.LONG)) {
+            return new Plan(Algorithm.RADIX_SORT, n, sortedness, Double.NaN, type);
+        }
+        if (naturalOrder && type == ElementType.STRING && values instanceof String[]) {
+            return new Plan(Algorithm.MULTIKEY_QUICKSORT, n, sortedness, Double.NaN, type);
+        }
+        double duplicateRatio = sampleDuplicates(sample, c);
+        Algorithm algorithm = duplicateRatio >= DUPLICATE_THRESHOLD
+                ? Algorithm.THREE_WAY_QUICKSORT : Algorithm.INTRO_SORT;
+        return new Plan(algorithm, n, sortedness, duplicateRatio, type);
+    }
+
+    /**
+     * Returns the share of adjacent pairs in the sampled windows which are
+     * in ascending or in descending order, whichever share is larger.
+     */
+    private static <T> double sampleSortedness(T[] values, int low, int high,
+            Comparator<? super T> c) {
+        final int n = high - low;
+        final int windows = Math.max(1, Math.min(WINDOWS, n / WINDOW_LENGTH));
+        final int length = Math.min(n, WINDOW_LENGTH);
+        int ascending = 0, descending = 0, pairs = 0;
+        for (int w = 0; w < windows; ++w) {
+            int start = low + (int) ((long) w * (n - length) / Math.max(1, windows - 1));
+            for (int i = start + 1; i < start + length; ++i) {
+                int cmp = c.compare(values[i - 1], values[i]);
+                if (cmp <= 0) {
+                    ++ascending;
+                }
+                if (cmp >= 0) {
+                    ++descending;
+                }
+                ++pairs;
+            }
+        }
+        return (double) Math.max(ascending, descending) / pairs;
+    }
+
+    /**
+     * Returns the type shared by all elements of the specified sample.
+     */
+    private static ElementType sampleType(Object[] sample) {
+        Class<?> shared = sample[0] == null ? null : sample[0].getClass();
+        boolean comparable = true;
+        for (Object value : sample) {
+            if (!(value instanceof Comparable)) {
+                return ElementType.OTHER;
+            }
+            if (value.getClass() != shared) {
+                comparable = false;
+            }
+        }
+        if (!comparable) {
+            return ElementType.COMPARABLE;
+        } else if (shared == Integer.class) {
+            return ElementType.INTEGER;
+        } else if (shared == Long.class) {
+            return ElementType.LONG;
+        } else if (shared == String.class) {
+            return ElementType.STRING;
+        }
+        return ElementType.COMPARABLE;
+    }
+
+    /**
+     * Sorts the specified sample and returns the share of adjacent pairs
+     * which are equal.
+     */
+    private static <T> double sampleDuplicates(T[] sample, Comparator<? super T> c) {
+        InsertionSort.sort(sample, 0, sample.length - 1, c);
+        int duplicates = 0;
+        for (int i = 1; i < sample.length; ++i) {
+            if (c.compare(sample[i - 1], sample[i]) == 0) {
+                ++duplicates;
+            }
+        }
+        return (double) duplicates / (sample.length - 1);
+    }
+
+    /**
+     * The plan chosen for an input, consisting of the algorithm and of the
+     * characteristics which led to it. Characteristics which have not been
+     * sampled before choosing the algorithm are {@code NaN} or {@code null}.
+     */
+    public static final class Plan {
+
+        private final Algorithm _algorithm;
+
+        private final int _size;
+
+        private final double _sortedness;
+
+        private final double _duplicateRatio;
+
+        private final ElementType _elementType;
+
+        Plan(Algorithm algorithm, int size, double sortedness,
+                double duplicateRatio, ElementType elementType) {
+            _algorithm = algorithm;
+            _size = size;
+            _sortedness = sortedness;
+            _duplicateRatio = duplicateRatio;
+            _elementType = elementType;
+        }
+
+        /**
+         * Returns the algorithm chosen for the input.
+         *
+         * @return the chosen algorithm.
+         */
+        public Algorithm getAlgorithm() {
+            return _algorithm;
+        }
+
+        /**
+         * Returns the number of elements to be sorted.
+         *
+         * @return the size of the input.
+         */
+        public int getSize() {
+            return _size;
+        }
+
+        /**
+         * Returns the share of sampled adjacent pairs which are in order.
+         *
+         * @return the estimated sortedness, or {@code NaN} if not sampled.
+         */
+        public double getSortedness() {
+            return _sortedness;
+        }
+
+        /**
+         * Returns the share of duplicates among the sampled elements.
+         *
+         * @return the estimated duplicate ratio, or {@code NaN} if not sampled.
+         */
+        public double getDuplicateRatio() {
+            return _duplicateRatio;
+        }
+
+        /**
+         * Returns the type shared by the sampled elements.
+         *
+         * @return the element type, or {@code null} if not sampled.
+         */
+        public ElementType getElementType() {
+            return _elementType;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT,
+                    "%s [size=%d, sortedness=%.2f, duplicates=%.2f, type=%s]",
+                    _algorithm, _size, _sortedness, _duplicateRatio, _elementType);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+/**
+ * Counters of a single instrumented sort, which are updated by hooks in the
+ * kernels of this library. The hooks are guarded by {@link #ENABLED}, a
+ * constant read once from the system property {@value #PROPERTY}. If it is
+ * not set to {@code true}, the just-in-time compiler removes the hooks
+ * entirely, so the kernels do not carry any overhead.
+ *
+ * The probe of a sort is bound to the thread which calls the sort. Kernels
+ * running on other threads, e.g. by the parallel algorithms, are not counted.
+ *
+ * @author Matthias Fussenegger
+ */
+final class SortProbe {
+
+    /**
+     * Name of the system property which enables the kernel hooks.
+     */
+    static final String PROPERTY = "org.sort_search_lib.java.sort.instrumentation";
+
+    /**
+     * Whether the kernel hooks are enabled.
+     */
+    static final boolean ENABLED = Boolean.getBoolean(PROPERTY);
+
+    /**
+     * The probe of the sort running on the current thread, if any.
+     */
+    private static final ThreadLocal<SortProbe> CURRENT = new ThreadLocal<SortProbe>();
+
+    long _swaps;
+
+    long _moves;
+
+    int _depth;
+
+    int _maxDepth;
+
+    long _heapSortFallbacks;
+
+    /**
+     * Binds the specified probe to the current thread.
+     *
+     * @param probe the probe to be bound or {@code null} to unbind.
+     * @return the probe which has been bound before.
+     */
+    static SortProbe bind(SortProbe probe) {
+        SortProbe previous = CURRENT.get();
+        if (probe == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(probe);
+        }
+        return previous;
+    }
+
+    /**
+     * Records the swap of two elements.
+     */
+    static void swap() {
+        SortProbe probe = CURRENT.get();
+        if (probe != null) {
+            ++probe._swaps;
+        }
+    }
+
+    /**
+     * Records the specified number of single element moves.
+     */
+    static void moves(int count) {
+        SortProbe probe = CURRENT.get();
+        if (probe != null) {
+            probe._moves += count;
+        }
+    }
+
+    /**
+     * Records entering a level of recursion.
+     */
+    static void enter() {
+        SortProbe probe = CURRENT.get();
+        if (probe != null && ++probe._depth > probe._maxDepth) {
+            probe._maxDepth = probe._depth;
+        }
+    }
+
+    /**
+     * Records leaving a level of recursion.
+     */
+    static void exit() {
+        SortProbe probe = CURRENT.get();
+        if (probe != null) {
+            --probe._depth;
+        }
+    }
+
+    /**
+     * Records switching from Quicksort to Heap-Sort.
+     */
+    static void heapSortFallback() {
+        SortProbe probe = CURRENT.get();
+        if (probe != null) {
+            ++probe._heapSortFallbacks;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+import java.util.Locale;
+
+/**
+ * Immutable snapshot of the statistics recorded by an
+ * {@link InstrumentedSort}, either of a single sort or accumulated over all
+ * sorts since the instance has been created or reset. Swaps, moves, depth and
+ * Heap-Sort fallbacks are only recorded if the kernel hooks are enabled, see
+ * {@link InstrumentedSort#isKernelInstrumentationEnabled()}.
+ *
+ * @author Matthias Fussenegger
+ */
+public final class SortStatistics {
+
+    /**
+     * Statistics without any sort.
+     */
+    static final SortStatistics EMPTY = new SortStatistics(0, 0, 0, 0, 0, 0, 0);
+
+    private final long _sorts;
+
+    private final long _comparisons;
+
+    private final long _swaps;
+
+    private final long _moves;
+
+    private final int _maxDepth;
+
+    private final long _heapSortFallbacks;
+
+    private final long _nanoTime;
+
+    SortStatistics(long sorts, long comparisons, long swaps, long moves,
+            int maxDepth, long heapSortFallbacks, long nanoTime) {
+        _sorts = sorts;
+        _comparisons = comparisons;
+        _swaps = swaps;
+        _moves = moves;
+        _maxDepth = maxDepth;
+        _heapSortFallbacks = heapSortFallbacks;
+        _nanoTime = nanoTime;
+    }
+
+    /**
+     * Returns statistics which combine these and the specified statistics.
+     * Counters and times are summed up, the depth is the larger one.
+     */
+    SortStatistics add(SortStatistics other) {
+        return new SortStatistics(_sorts + other._sorts,
+                _comparisons + other._comparisons,
+                _swaps + other._swaps,
+                _moves + other._moves,
+                Math.max(_maxDepth, other._maxDepth),
+                _heapSortFallbacks + other._heapSortFallbacks,
+                _nanoTime + other._nanoTime);
+    }
+
+    /**
+     * Returns the number of sorts.
+     *
+     * @return the number of sorts.
+     */
+    public long getSorts() {
+        return _sorts;
+    }
+
+    /**
+     * Returns the number of calls of the comparator.
+     *
+     * @return the number of comparisons.
+     */
+    public long getComparisons() {
+        return _comparisons;
+    }
+
+    /**
+     * Returns the number of swaps of two elements.
+     *
+     * @return the number of swaps.
+     */
+    public long getSwaps() {
+        return _swaps;
+    }
+
+    /**
+     * Returns the number of elements shifted by a single position, as done
+     * by Insertion-Sort.
+     *
+     * @return the number of moves.
+     */
+    public long getMoves() {
+        return _moves;
+    }
+
+    /**
+     * Returns the maximum depth of recursion.
+     *
+     * @return the maximum recursion depth.
+     */
+    public int getMaxDepth() {
+        return _maxDepth;
+    }
+
+    /**
+     * Returns how often Introsort has switched to Heap-Sort because the
+     * partitions have become too unbalanced.
+     *
+     * @return the number of Heap-Sort fallbacks.
+     */
+    public long getHeapSortFallbacks() {
+        return _heapSortFallbacks;
+    }
+
+    /**
+     * Returns the elapsed wall time in nanoseconds.
+     *
+     * @return the elapsed time in nanoseconds.
+     */
+    public long getNanoTime() {
+        return _nanoTime;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "sorts=%d, comparisons=%d, swaps=%d, "
+                + "moves=%d, maxDepth=%d, heapSortFallbacks=%d, nanoTime=%d",
+                _sorts, _comparisons, _swaps, _moves, _maxDepth,
+                _heapSortFallbacks, _nanoTime);
+    }
+}
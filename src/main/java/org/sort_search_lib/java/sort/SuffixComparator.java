@@ -0,0 +1,90 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+import java.util.Comparator;
+
+/**
+ * Compares character sequences lexicographically by their {@code char} values,
+ * starting at a specified offset. This allows string sorts to skip a prefix
+ * that is already known to be equal for all compared elements. The offset is
+ * mutable, so a single instance can be reused for a whole sort.
+ *
+ * @author Matthias Fussenegger
+ */
+final class SuffixComparator implements Comparator<CharSequence> {
+
+    /**
+     * Position of the first {@code char} to be compared.
+     */
+    private int _offset;
+
+    /**
+     * Sets the position of the first {@code char} to be compared.
+     *
+     * @param offset the position of the first {@code char} to be compared.
+     */
+    void setOffset(int offset) {
+        _offset = offset;
+    }
+
+    /**
+     * Returns the end of the prefix that is shared by all elements of the
+     * specified range, starting at the specified offset. The elements are
+     * expected to share all chars before the offset.
+     *
+     * @param values the array holding the character sequences.
+     * @param left the left boundary (inclusive) of the range.
+     * @param right the right boundary (inclusive) of the range.
+     * @param offset the position of the first {@code char} to be compared.
+     * @return the position of the first {@code char} that is not shared.
+     */
+    static int commonPrefixEnd(CharSequence[] values, int left, int right, int offset) {
+        CharSequence first = values[left];
+        int end = first.length();
+        for (int i = left + 1; i <= right && end > offset; ++i) {
+            CharSequence value = values[i];
+            int limit = Math.min(end, value.length());
+            int k = offset;
+            while (k < limit && value.charAt(k) == first.charAt(k)) {
+                ++k;
+            }
+            end = k;
+        }
+        return Math.max(end, offset);
+    }
+
+    @Override
+    public int compare(CharSequence v1, CharSequence v2) {
+        int length1 = v1.length(), length2 = v2.length();
+        int end = Math.min(length1, length2);
+        for (int i = _offset; i < end; ++i) {
+            char c1 = v1.charAt(i), c2 = v2.charAt(i);
+            if (c1 != c2) {
+                return c1 - c2;
+            }
+        }
+        return length1 - length2;
+    }
+}
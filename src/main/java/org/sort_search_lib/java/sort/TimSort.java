@@ -0,0 +1,667 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.sort_search_lib.java.sort.api.InPlaceSort;
+import org.sort_search_lib.java.sort.api.OutPlaceSort;
+
+/**
+ * Offers an adaptive, natural Merge-Sort algorithm in the style of Timsort to
+ * sort an array or a {@link List} consisting of any type in ascending order or
+ * by using a specified {@link Comparator}. The sort is stable.
+ *
+ * The input is scanned for ascending and strictly descending runs, the latter
+ * being reversed in place. Runs shorter than a minimum length are extended by
+ * binary insertion. The runs are kept on a stack and merged whenever the
+ * lengths on top of the stack no longer shrink fast enough, which keeps the
+ * merges balanced. If one run keeps winning while merging, the algorithm
+ * switches to galloping mode and copies whole blocks found by exponential
+ * search. Presorted input is therefore sorted in linear time.
+ *
+ * Sorted lists are returned as a new {@link ArrayList}, which can be modified
+ * by the caller.
+ *
+ * @author Matthias Fussenegger
+ */
+public final class TimSort implements InPlaceSort, OutPlaceSort {
+
+    /**
+     * Ranges shorter than this are sorted by binary insertion only. This is
+     * also the upper bound of the minimum run length.
+     */
+    static final int MIN_MERGE = 32;
+
+    /**
+     * Number of consecutive wins of one run before switching to galloping
+     * mode. The actual threshold adapts while merging.
+     */
+    static final int MIN_GALLOP = 7;
+
+    @Override
+    public <T> void sort(T[] values) {
+        if (values != null && values.length > 1) {
+            sort(values, 0, values.length, Comparators.<T>naturalOrder());
+        }
+    }
+
+    @Override
+    public <T> void sort(T[] values, Comparator<? super T> c) {
+        if (values != null && values.length > 1) {
+            sort(values, 0, values.length, c);
+        }
+    }
+
+    @Override
+    public <T> void sortRange(T[] values, int fromIndex, int toIndex) {
+        Ranges.check(values.length, fromIndex, toIndex);
+        sort(values, fromIndex, toIndex, Comparators.<T>naturalOrder());
+    }
+
+    @Override
+    public <T> void sortRange(T[] values, int fromIndex, int toIndex, Comparator<? super T> c) {
+        Ranges.check(values.length, fromIndex, toIndex);
+        sort(values, fromIndex, toIndex, c);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> List<T> sort(List<T> list) {
+        if (list == null || list.size() < 2) {
+            return list;
+        }
+        T[] values = (T[]) list.toArray();
+        sort(values, 0, values.length, Comparators.<T>naturalOrder());
+        return MergeSort.toList(values);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> List<T> sort(List<T> list, Comparator<? super T> c) {
+        if (list == null || list.size() < 2) {
+            return list;
+        }
+        T[] values = (T[]) list.toArray();
+        sort(values, 0, values.length, c);
+        return MergeSort.toList(values);
+    }
+
+    /**
+     * Internal API that sorts the range {@code [low, high)} of the specified
+     * array by using the specified {@link Comparator}.
+     *
+     * @param <T> type of the array elements.
+     * @param values reference to the array that is to be sorted.
+     * @param low the left boundary (inclusive) of the range.
+     * @param high the right boundary (exclusive) of the range.
+     * @param c the {@link Comparator} used to compare the elements.
+     */
+    static <T> void sort(T[] values, int low, int high, Comparator<? super T> c) {
+        int remaining = high - low;
+        if (remaining < 2) {
+            return;
+        }
+        if (remaining < MIN_MERGE) {
+            int runLength = makeAscendingRun(values, low, high, c);
+            binaryInsertionSort(values, low, high, low + runLength, c);
+            return;
+        }
+
+        RunMerger<T> merger = new RunMerger<T>(values, c);
+        int minRun = minRunLength(remaining);
+        do {
+            int runLength = makeAscendingRun(values, low, high, c);
+            /*extend short runs to the minimum run length*/
+            if (runLength < minRun) {
+                int forced = Math.min(remaining, minRun);
+                binaryInsertionSort(values, low, low + forced, low + runLength, c);
+                runLength = forced;
+            }
+            merger.pushRun(low, runLength);
+            merger.mergeCollapse();
+            low += runLength;
+            remaining -= runLength;
+        } while (remaining != 0);
+        merger.mergeForceCollapse();
+    }
+
+    /**
+     * Returns the length of the run that begins at {@code low}. A strictly
+     * descending run is reversed, so the returned run is always ascending.
+     * Only strictly descending runs are reversed to keep the sort stable.
+     *
+     * @param <T> type of the array elements.
+     * @param values the array in which to look for the run.
+     * @param low the position of the first element of the run.
+     * @param high the right boundary (exclusive) of the range.
+     * @param c the {@link Comparator} used to compare the elements.
+     * @return the length of the run.
+     */
+    static <T> int makeAscendingRun(T[] values, int low, int high, Comparator<? super T> c) {
+        int end = low + 1;
+        if (end == high) {
+            return 1;
+        }
+        if (c.compare(values[end++], values[low]) < 0) { // descending
+            while (end < high && c.compare(values[end], values[end - 1]) < 0) {
+                ++end;
+            }
+            reverse(values, low, end);
+        } else { // ascending
+            while (end < high && c.compare(values[end], values[end - 1]) >= 0) {
+                ++end;
+            }
+        }
+        return end - low;
+    }
+
+    /**
+     * Sorts the range {@code [low, high)} of which {@code [low, start)} is
+     * already sorted. The position of each further element is found by binary
+     * search, and equal elements are inserted after the existing ones.
+     *
+     * @param <T> type of the array elements.
+     * @param values reference to the array that is to be sorted.
+     * @param low the left boundary (inclusive) of the range.
+     * @param high the right boundary (exclusive) of the range.
+     * @param start the position of the first element that is not yet sorted.
+     * @param c the {@link Comparator} used to compare the elements.
+     */
+    static <T> void binaryInsertionSort(T[] values, int low, int high, int start,
+            Comparator<? super T> c) {
+        for (int i = start; i < high; ++i) {
+            T pivot = values[i];
+            int left = low, right = i;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (c.compare(pivot, values[mid]) < 0) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+            System.arraycopy(values, left, values, left + 1, i - left);
+            values[left] = pivot;
+        }
+    }
+
+    /**
+     * Returns the minimum run length for the specified number of elements. It
+     * is chosen so that the number of runs is equal to or slightly less than a
+     * power of two, which results in balanced merges.
+     *
+     * @param length the number of elements to be sorted.
+     * @return the minimum run length.
+     */
+    static int minRunLength(int length) {
+        int remainder = 0; // becomes one if any bit is shifted off
+        while (length >= MIN_MERGE) {
+            remainder |= length & 1;
+            length >>= 1;
+        }
+        return length + remainder;
+    }
+
+    /**
+     * Returns the position at which the specified key would be inserted into
+     * the sorted range {@code [base, base + length)} before all equal
+     * elements. The search starts at {@code base + hint} and gallops outwards
+     * with exponentially growing steps before the final binary search.
+     *
+     * @param <T> type of the array elements.
+     * @param key the element of which to find the position.
+     * @param values the array holding the sorted range.
+     * @param base the position of the first element of the range.
+     * @param length the length of the range.
+     * @param hint the offset from {@code base} at which to start searching.
+     * @param c the {@link Comparator} used to compare the elements.
+     * @return the offset from {@code base} at which to insert the key.
+     */
+    static <T> int gallopLeft(T key, T[] values, int base, int length, int hint,
+            Comparator<? super T> c) {
+        int lower, upper; // offsets with values[lower] < key <= values[upper]
+        if (c.compare(key, values[base + hint]) > 0) {
+            /*gallop to the right until key <= values[base + hint + step]*/
+            int maxStep = length - hint, previous = 0, step = 1;
+            while (step < maxStep && c.compare(key, values[base + hint + step]) > 0) {
+                previous = step;
+                step = (step << 1) + 1;
+                if (step <= 0) { // overflow
+                    step = maxStep;
+                }
+            }
+            lower = hint + previous;
+            upper = hint + Math.min(step, maxStep);
+        } else {
+            /*gallop to the left until values[base + hint - step] < key*/
+            int maxStep = hint + 1, previous = 0, step = 1;
+            while (step < maxStep && c.compare(key, values[base + hint - step]) <= 0) {
+                previous = step;
+                step = (step << 1) + 1;
+                if (step <= 0) { // overflow
+                    step = maxStep;
+                }
+            }
+            lower = hint - Math.min(step, maxStep);
+            upper = hint - previous;
+        }
+
+        /*binary search within (lower, upper]*/
+        ++lower;
+        while (lower < upper) {
+            int mid = (lower + upper) >>> 1;
+            if (c.compare(key, values[base + mid]) > 0) {
+                lower = mid + 1;
+            } else {
+                upper = mid;
+            }
+        }
+        return upper;
+    }
+
+    /**
+     * Returns the position at which the specified key would be inserted into
+     * the sorted range {@code [base, base + length)} after all equal elements.
+     * See {@link #gallopLeft} for details.
+     *
+     * @param <T> type of the array elements.
+     * @param key the element of which to find the position.
+     * @param values the array holding the sorted range.
+     * @param base the position of the first element of the range.
+     * @param length the length of the range.
+     * @param hint the offset from {@code base} at which to start searching.
+     * @param c the {@link Comparator} used to compare the elements.
+     * @return the offset from {@code base} at which to insert the key.
+     */
+    static <T> int gallopRight(T key, T[] values, int base, int length, int hint,
+            Comparator<? super T> c) {
+        int lower, upper; // offsets with values[lower] <= key < values[upper]
+        if (c.compare(key, values[base + hint]) < 0) {
+            /*gallop to the left until values[base + hint - step] <= key*/
+            int maxStep = hint + 1, previous = 0, step = 1;
+            while (step < maxStep && c.compare(key, values[base + hint - step]) < 0) {
+                previous = step;
+                step = (step << 1) + 1;
+                if (step <= 0) { // overflow
+                    step = maxStep;
+                }
+            }
+            lower = hint - Math.min(step, maxStep);
+            upper = hint - previous;
+        } else {
+            /*gallop to the right until key < values[base + hint + step]*/
+            int maxStep = length - hint, previous = 0, step = 1;
+            while (step < maxStep && c.compare(key, values[base + hint + step]) >= 0) {
+                previous = step;
+                step = (step << 1) + 1;
+                if (step <= 0) { // overflow
+                    step = maxStep;
+                }
+            }
+            lower = hint + previous;
+            upper = hint + Math.min(step, maxStep);
+        }
+
+        /*binary search within (lower, upper]*/
+        ++lower;
+        while (lower < upper) {
+            int mid = (lower + upper) >>> 1;
+            if (c.compare(key, values[base + mid]) < 0) {
+                upper = mid;
+            } else {
+                lower = mid + 1;
+            }
+        }
+        return upper;
+    }
+
+    private static <T> void reverse(T[] values, int low, int high) {
+        for (--high; low < high; ++low, --high) {
+            T temp = values[low];
+            values[low] = values[high];
+            values[high] = temp;
+        }
+    }
+
+    /**
+     * Holds the state of a single sort: the stack of pending runs, the buffer
+     * used for merging and the current galloping threshold.
+     *
+     * @param <T> type of the array elements.
+     */
+    private static final class RunMerger<T> {
+
+        /**
+         * Maximum number of pending runs. As the run lengths on the stack grow
+         * at least as fast as the Fibonacci numbers, this suffices for arrays
+         * of any length.
+         */
+        private static final int MAX_PENDING_RUNS = 49;
+
+        private final T[] _values;
+        private final Comparator<? super T> _c;
+        private final int[] _runBase = new int[MAX_PENDING_RUNS];
+        private final int[] _runLength = new int[MAX_PENDING_RUNS];
+        private int _pendingRuns = 0;
+        private int _minGallop = MIN_GALLOP;
+        private T[] _buffer;
+
+        RunMerger(T[] values, Comparator<? super T> c) {
+            _values = values;
+            _c = c;
+        }
+
+        void pushRun(int base, int length) {
+            _runBase[_pendingRuns] = base;
+            _runLength[_pendingRuns] = length;
+            ++_pendingRuns;
+        }
+
+        /**
+         * Merges runs until the lengths of the three topmost runs satisfy
+         * {@code A > B + C} and {@code B > C}, where {@code C} is on top.
+         */
+        void mergeCollapse() {
+            int[] len = _runLength;
+            while (_pendingRuns > 1) {
+                int n = _pendingRuns - 2;
+                if ((n > 0 && len[n - 1] <= len[n] + len[n + 1])
+                        || (n > 1 && len[n - 2] <= len[n] + len[n - 1])) {
+                    if (len[n - 1] < len[n + 1]) {
+                        --n; // merge the smaller neighbour into the middle run
+                    }
+                } else if (len[n] > len[n + 1]) {
+                    break; // invariant is established
+                }
+                mergeAt(n);
+            }
+        }
+
+        /**
+         * Merges all remaining runs until a single sorted run is left.
+         */
+        void mergeForceCollapse() {
+            while (_pendingRuns > 1) {
+                int n = _pendingRuns - 2;
+                if (n > 0 && _runLength[n - 1] < _runLength[n + 1]) {
+                    --n;
+                }
+                mergeAt(n);
+            }
+        }
+
+        /**
+         * Merges the runs at stack positions {@code i} and {@code i + 1}.
+         */
+        private void mergeAt(int i) {
+            int base1 = _runBase[i], length1 = _runLength[i];
+            int base2 = _runBase[i + 1], length2 = _runLength[i + 1];
+
+            /*record the merged run and drop the second one from the stack*/
+            _runLength[i] = length1 + length2;
+            if (i == _pendingRuns - 3) {
+                _runBase[i + 1] = _runBase[i + 2];
+                _runLength[i + 1] = _runLength[i + 2];
+            }
+            --_pendingRuns;
+
+            /*elements of the first run before the start of the second one stay*/
+            int skip = gallopRight(_values[base2], _values, base1, length1, 0, _c);
+            base1 += skip;
+            length1 -= skip;
+            if (length1 == 0) {
+                return;
+            }
+
+            /*elements of the second run after the end of the first one stay*/
+            length2 = gallopLeft(_values[base1 + length1 - 1], _values, base2,
+                    length2, length2 - 1, _c);
+            if (length2 == 0) {
+                return;
+            }
+
+            /*the shorter run is moved into the buffer*/
+            if (length1 <= length2) {
+                mergeLow(base1, length1, base2, length2);
+            } else {
+                mergeHigh(base1, length1, base2, length2);
+            }
+        }
+
+        /**
+         * Merges two adjacent runs from left to right, with the first run
+         * being moved into the buffer. The first element of the second run
+         * must be smaller than the first element of the first run, and the
+         * last element of the first run must be greater than all elements of
+         * the second run.
+         */
+        private void mergeLow(int base1, int length1, int base2, int length2) {
+            T[] values = _values;
+            T[] buffer = ensureCapacity(length1);
+            System.arraycopy(values, base1, buffer, 0, length1);
+            int cursor1 = 0, cursor2 = base2, dest = base1;
+
+            values[dest++] = values[cursor2++];
+            if (--length2 == 0) {
+                System.arraycopy(buffer, cursor1, values, dest, length1);
+                return;
+            }
+            if (length1 == 1) {
+                System.arraycopy(values, cursor2, values, dest, length2);
+                values[dest + length2] = buffer[cursor1];
+                return;
+            }
+
+            int minGallop = _minGallop;
+            merging:
+            while (true) {
+                int wins1 = 0, wins2 = 0;
+
+                /*compare one pair at a time until one run wins consistently*/
+                do {
+                    if (_c.compare(values[cursor2], buffer[cursor1]) < 0) {
+                        values[dest++] = values[cursor2++];
+                        ++wins2;
+                        wins1 = 0;
+                        if (--length2 == 0) {
+                            break merging;
+                        }
+                    } else {
+                        values[dest++] = buffer[cursor1++];
+                        ++wins1;
+                        wins2 = 0;
+                        if (--length1 == 1) {
+                            break merging;
+                        }
+                    }
+                } while ((wins1 | wins2) < minGallop);
+
+                /*gallop as long as whole blocks can be copied*/
+                do {
+                    wins1 = gallopRight(values[cursor2], buffer, cursor1, length1, 0, _c);
+                    if (wins1 != 0) {
+                        System.arraycopy(buffer, cursor1, values, dest, wins1);
+                        dest += wins1;
+                        cursor1 += wins1;
+                        length1 -= wins1;
+                        if (length1 <= 1) {
+                            break merging;
+                        }
+                    }
+                    values[dest++] = values[cursor2++];
+                    if (--length2 == 0) {
+                        break merging;
+                    }
+
+                    wins2 = gallopLeft(buffer[cursor1], values, cursor2, length2, 0, _c);
+                    if (wins2 != 0) {
+                        System.arraycopy(values, cursor2, values, dest, wins2);
+                        dest += wins2;
+                        cursor2 += wins2;
+                        length2 -= wins2;
+                        if (length2 == 0) {
+                            break merging;
+                        }
+                    }
+                    values[dest++] = buffer[cursor1++];
+                    if (--length1 == 1) {
+                        break merging;
+                    }
+                    --minGallop; // galloping pays off, so enter it sooner
+                } while (wins1 >= MIN_GALLOP || wins2 >= MIN_GALLOP);
+                minGallop = Math.max(minGallop, 0) + 2; // penalty for leaving
+            }
+            _minGallop = Math.max(minGallop, 1);
+
+            if (length1 == 1) {
+                System.arraycopy(values, cursor2, values, dest, length2);
+                values[dest + length2] = buffer[cursor1];
+            } else if (length1 == 0) {
+                throw new IllegalArgumentException(
+                        "Comparison method violates its general contract");
+            } else {
+                System.arraycopy(buffer, cursor1, values, dest, length1);
+            }
+        }
+
+        /**
+         * Merges two adjacent runs from right to left, with the second run
+         * being moved into the buffer. See {@link #mergeLow} for the
+         * preconditions.
+         */
+        private void mergeHigh(int base1, int length1, int base2, int length2) {
+            T[] values = _values;
+            T[] buffer = ensureCapacity(length2);
+            System.arraycopy(values, base2, buffer, 0, length2);
+            int cursor1 = base1 + length1 - 1, cursor2 = length2 - 1;
+            int dest = base2 + length2 - 1;
+
+            values[dest--] = values[cursor1--];
+            if (--length1 == 0) {
+                System.arraycopy(buffer, 0, values, dest - (length2 - 1), length2);
+                return;
+            }
+            if (length2 == 1) {
+                dest -= length1;
+                cursor1 -= length1;
+                System.arraycopy(values, cursor1 + 1, values, dest + 1, length1);
+                values[dest] = buffer[cursor2];
+                return;
+            }
+
+            int minGallop = _minGallop;
+            merging:
+            while (true) {
+                int wins1 = 0, wins2 = 0;
+
+                /*compare one pair at a time until one run wins consistently*/
+                do {
+                    if (_c.compare(buffer[cursor2], values[cursor1]) < 0) {
+                        values[dest--] = values[cursor1--];
+                        ++wins1;
+                        wins2 = 0;
+                        if (--length1 == 0) {
+                            break merging;
+                        }
+                    } else {
+                        values[dest--] = buffer[cursor2--];
+                        ++wins2;
+                        wins1 = 0;
+                        if (--length2 == 1) {
+                            break merging;
+                        }
+                    }
+                } while ((wins1 | wins2) < minGallop);
+
+                /*gallop as long as whole blocks can be copied*/
+                do {
+                    wins1 = length1 - gallopRight(buffer[cursor2], values, base1,
+                            length1, length1 - 1, _c);
+                    if (wins1 != 0) {
+                        dest -= wins1;
+                        cursor1 -= wins1;
+                        length1 -= wins1;
+                        System.arraycopy(values, cursor1 + 1, values, dest + 1, wins1);
+                        if (length1 == 0) {
+                            break merging;
+                        }
+                    }
+                    values[dest--] = buffer[cursor2--];
+                    if (--length2 == 1) {
+                        break merging;
+                    }
+
+                    wins2 = length2 - gallopLeft(values[cursor1], buffer, 0,
+                            length2, length2 - 1, _c);
+                    if (wins2 != 0) {
+                        dest -= wins2;
+                        cursor2 -= wins2;
+                        length2 -= wins2;
+                        System.arraycopy(buffer, cursor2 + 1, values, dest + 1, wins2);
+                        if (length2 <= 1) {
+                            break merging;
+                        }
+                    }
+                    values[dest--] = values[cursor1--];
+                    if (--length1 == 0) {
+                        break merging;
+                    }
+                    --minGallop; // galloping pays off, so enter it sooner
+                } while (wins1 >= MIN_GALLOP || wins2 >= MIN_GALLOP);
+                minGallop = Math.max(minGallop, 0) + 2; // penalty for leaving
+            }
+            _minGallop = Math.max(minGallop, 1);
+
+            if (length2 == 1) {
+                dest -= length1;
+                cursor1 -= length1;
+                System.arraycopy(values, cursor1 + 1, values, dest + 1, length1);
+                values[dest] = buffer[cursor2];
+            } else if (length2 == 0) {
+                throw new IllegalArgumentException(
+                        "Comparison method violates its general contract");
+            } else {
+                System.arraycopy(buffer, 0, values, dest - (length2 - 1), length2);
+            }
+        }
+
+        /**
+         * Returns the merge buffer, which is grown to hold at least the
+         * specified number of elements.
+         */
+        @SuppressWarnings("unchecked")
+        private T[] ensureCapacity(int capacity) {
+            if (_buffer == null || _buffer.length < capacity) {
+                int newCapacity = capacity;
+                if (_buffer != null) { // grow geometrically, but not beyond the array
+                    newCapacity = Math.max(capacity, Math.min(_buffer.length * 2, _values.length));
+                }
+                _buffer = (T[]) new Object[newCapacity]; // never leaves this class
+            }
+            return _buffer;
+        }
+    }
+}
@@ -23,7 +23,9 @@
  */
 package org.sort_search_lib.java.sort.api;
 
+import java.util.Arrays;
 import java.util.Comparator;
+import org.sort_search_lib.java.sort.Ranges;
 
 /**
  * Implementing classes offer the functionality of sorting an array consisting
@@ -58,4 +60,48 @@ public interface InPlaceSort {
      */
     <T> void sort(T[] values, Comparator<? super T> c);
 
+    /**
+     * Sorts the range {@code [fromIndex, toIndex)} of the specified array
+     * using the natural ordering of its elements in ascending order. Elements
+     * outside of this range are not touched. The default implementation sorts
+     * a copy of the range by using {@link #sort(Object[])} and copies it back.
+     *
+     * @param <T> type of the array elements.
+     * @param values an array consisting of elements of any type.
+     * @param fromIndex the index of the first element (inclusive) to be sorted.
+     * @param toIndex the index of the last element (exclusive) to be sorted.
+     * @throws IllegalArgumentException if {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     * {@code toIndex > values.length}.
+     */
+    default <T> void sortRange(T[] values, int fromIndex, int toIndex) {
+        Ranges.check(values.length, fromIndex, toIndex);
+        T[] range = Arrays.copyOfRange(values, fromIndex, toIndex);
+        sort(range);
+        System.arraycopy(range, 0, values, fromIndex, range.length);
+    }
+
+    /**
+     * Sorts the range {@code [fromIndex, toIndex)} of the specified array
+     * using the specified {@code Comparator}. Elements outside of this range are
+     * not touched. The default implementation sorts a copy of the range by
+     * using {@link #sort(Object[], Comparator)} and copies it back.
+     *
+     * @param <T> type of the array elements.
+     * @param values an array consisting of elements of any type.
+     * @param fromIndex the index of the first element (inclusive) to be sorted.
+     * @param toIndex the index of the last element (exclusive) to be sorted.
+     * @param c the {@code Comparator} used to sort the elements of the array.
+     * @throws IllegalArgumentException if {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     * {@code toIndex > values.length}.
+     */
+    default <T> void sortRange(T[] values, int fromIndex, int toIndex,
+            Comparator<? super T> c) {
+        Ranges.check(values.length, fromIndex, toIndex);
+        T[] range = Arrays.copyOfRange(values, fromIndex, toIndex);
+        sort(range, c);
+        System.arraycopy(range, 0, values, fromIndex, range.length);
+    }
+
 }
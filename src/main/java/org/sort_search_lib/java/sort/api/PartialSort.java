@@ -0,0 +1,63 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort.api;
+
+import java.util.Comparator;
+
+/**
+ * Implementing classes offer the functionality of sorting only the smallest
+ * elements of an array, which is cheaper than sorting the whole array if only
+ * the first few elements of the sorted order are of interest. The sort will be
+ * processed In-Order and the order of the remaining elements is unspecified.
+ *
+ * @author Matthias Fussenegger
+ */
+public interface PartialSort {
+
+    /**
+     * Moves the {@code k} smallest elements of the specified array to its
+     * front and sorts them using their natural ordering in ascending order. If
+     * {@code k} exceeds the length of the array, the whole array is sorted.
+     *
+     * @param <T> type of the array elements.
+     * @param values an array consisting of elements of any type.
+     * @param k the number of elements to be sorted.
+     * @throws IllegalArgumentException if {@code k} is negative.
+     */
+    <T> void partialSort(T[] values, int k);
+
+    /**
+     * Moves the {@code k} smallest elements of the specified array to its
+     * front and sorts them using the specified {@code Comparator}. If
+     * {@code k} exceeds the length of the array, the whole array is sorted.
+     *
+     * @param <T> type of the array elements.
+     * @param values an array consisting of elements of any type.
+     * @param k the number of elements to be sorted.
+     * @param c the {@code Comparator} used to sort the elements of the array.
+     * @throws IllegalArgumentException if {@code k} is negative.
+     */
+    <T> void partialSort(T[] values, int k, Comparator<? super T> c);
+
+}
@@ -0,0 +1,88 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort.api;
+
+/**
+ * Implementing classes offer the functionality of sorting an array of
+ * primitive values in ascending order. The sort will be processed In-Order and
+ * the values are never boxed into their wrapper types.
+ *
+ * Floating-point values are ordered the same way as
+ * {@link Double#compare(double, double)} does, so {@code -0.0} is placed
+ * before {@code 0.0} and {@code NaN} values are placed at the end.
+ *
+ * @author Matthias Fussenegger
+ */
+public interface PrimitiveSort {
+
+    /**
+     * Sorts the specified array in ascending numerical order.
+     *
+     * @param values the array to be sorted.
+     */
+    void sort(int[] values);
+
+    /**
+     * Sorts the specified array in ascending numerical order.
+     *
+     * @param values the array to be sorted.
+     */
+    void sort(long[] values);
+
+    /**
+     * Sorts the specified array in ascending numerical order.
+     *
+     * @param values the array to be sorted.
+     */
+    void sort(short[] values);
+
+    /**
+     * Sorts the specified array in ascending numerical order.
+     *
+     * @param values the array to be sorted.
+     */
+    void sort(char[] values);
+
+    /**
+     * Sorts the specified array in ascending numerical order.
+     *
+     * @param values the array to be sorted.
+     */
+    void sort(byte[] values);
+
+    /**
+     * Sorts the specified array in ascending numerical order.
+     *
+     * @param values the array to be sorted.
+     */
+    void sort(float[] values);
+
+    /**
+     * Sorts the specified array in ascending numerical order.
+     *
+     * @param values the array to be sorted.
+     */
+    void sort(double[] values);
+
+}
@@ -0,0 +1,67 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort.api;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Implementing classes convert records of a specific type to bytes and back,
+ * which allows sorting records that do not fit into memory at once. A record
+ * read back has to be equal to the one that has been written.
+ *
+ * @author Matthias Fussenegger
+ * @param <T> type of the records.
+ */
+public interface RecordSerializer<T> {
+
+    /**
+     * Writes the specified record to the specified output.
+     *
+     * @param record the record to be written.
+     * @param out the output to which the record is written.
+     * @throws IOException if an I/O error occurs.
+     */
+    void write(T record, DataOutput out) throws IOException;
+
+    /**
+     * Reads the next record from the specified input.
+     *
+     * @param in the input from which the record is read.
+     * @return the record which has been read.
+     * @throws IOException if an I/O error occurs.
+     */
+    T read(DataInput in) throws IOException;
+
+    /**
+     * Returns the estimated number of bytes the specified record occupies in
+     * memory, which is used to decide when to write records to disk.
+     *
+     * @param record the record of which to estimate the size.
+     * @return the estimated size of the record in bytes.
+     */
+    long sizeOf(T record);
+
+}
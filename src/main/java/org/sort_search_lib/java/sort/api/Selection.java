@@ -0,0 +1,93 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort.api;
+
+import java.util.Comparator;
+
+/**
+ * Implementing classes offer the functionality of finding the element at a
+ * specific position of the sorted order of an array, without sorting the
+ * whole array. The array is reordered In-Order, so that no element before the
+ * selected position is bigger and no element after it is smaller than the
+ * selected element.
+ *
+ * @author Matthias Fussenegger
+ */
+public interface Selection {
+
+    /**
+     * Returns the element which would be at the specified position if the
+     * specified array was sorted using the natural ordering of its elements
+     * in ascending order. The array is reordered accordingly.
+     *
+     * @param <T> type of the array elements.
+     * @param values an array consisting of elements of any type.
+     * @param k the zero-based position of the element in the sorted order.
+     * @return the {@code k}-th smallest element of the array.
+     * @throws IllegalArgumentException if {@code k} is not a valid position
+     * of the array.
+     */
+    <T> T select(T[] values, int k);
+
+    /**
+     * Returns the element which would be at the specified position if the
+     * specified array was sorted using the specified {@code Comparator}. The
+     * array is reordered accordingly.
+     *
+     * @param <T> type of the array elements.
+     * @param values an array consisting of elements of any type.
+     * @param k the zero-based position of the element in the sorted order.
+     * @param c the {@code Comparator} used to compare the elements.
+     * @return the {@code k}-th smallest element of the array.
+     * @throws IllegalArgumentException if {@code k} is not a valid position
+     * of the array.
+     */
+    <T> T select(T[] values, int k, Comparator<? super T> c);
+
+    /**
+     * Returns the median of the specified array using the natural ordering of
+     * its elements. For an even number of elements, the lower one of both
+     * middle elements is returned. The array is reordered accordingly.
+     *
+     * @param <T> type of the array elements.
+     * @param values an array consisting of elements of any type.
+     * @return the median of the array.
+     * @throws IllegalArgumentException if the array is empty.
+     */
+    <T> T median(T[] values);
+
+    /**
+     * Returns the median of the specified array using the specified
+     * {@code Comparator}. For an even number of elements, the lower one of
+     * both middle elements is returned. The array is reordered accordingly.
+     *
+     * @param <T> type of the array elements.
+     * @param values an array consisting of elements of any type.
+     * @param c the {@code Comparator} used to compare the elements.
+     * @return the median of the array.
+     * @throws IllegalArgumentException if the array is empty.
+     */
+    <T> T median(T[] values, Comparator<? super T> c);
+
+}
@@ -0,0 +1,174 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import org.junit.After;
+import org.junit.AfterClass;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ *
+ * @author Matthias Fussenegger
+ */
+public class ArgSortTest {
+
+    @BeforeClass
+    public static void setUpClass() {
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+    }
+
+    @Before
+    public void setUp() {
+    }
+
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Test of argsort method, of class ArgSort.
+     */
+    @Test
+    public void testArgsort() {
+        System.out.println("argsort - ArgSort");
+        ArgSort instance = new ArgSort();
+        Integer[] values = new Integer[TestableSort.VALUES.size()];
+        values = TestableSort.VALUES.toArray(values);
+        Integer[] copy = values.clone();
+        long startTime = System.nanoTime();
+        int[] permutation = instance.argsort(values);
+        System.out.println(System.nanoTime() - startTime);
+        assertArrayEquals(copy, values); // not changed
+        Integer[] sortedValues = values.clone();
+        Arrays.sort(sortedValues);
+        for (int i = 0; i < values.length; ++i) {
+            assertEquals(sortedValues[i], values[permutation[i]]);
+        }
+    }
+
+    /**
+     * Test of argsort method with comparator, of class ArgSort. Indexes of
+     * equal elements must be in ascending order.
+     */
+    @Test
+    public void testArgsort_Stable() {
+        System.out.println("argsort stable - ArgSort");
+        ArgSort instance = new ArgSort();
+        Integer[] values = new Integer[TestableSort.VALUES.size()];
+        values = TestableSort.VALUES.toArray(values);
+        Comparator<Integer> c = TestableSortUtils.createCoarseIntegerComparator();
+        int[] permutation = instance.argsort(values, c);
+        Integer[] sortedValues = values.clone();
+        Arrays.sort(sortedValues, c); // stable as well
+        Integer[] result = new Integer[values.length];
+        for (int i = 0; i < values.length; ++i) {
+            result[i] = values[permutation[i]];
+        }
+        assertArrayEquals(sortedValues, result);
+    }
+
+    /**
+     * Test of argsort method for primitive values, of class ArgSort.
+     */
+    @Test
+    public void testArgsort_Primitives() {
+        System.out.println("argsort primitives - ArgSort");
+        ArgSort instance = new ArgSort();
+        int[] ints = TestableSortUtils.generateRandomIntArray(TestableSort.VALUES.size());
+        long[] longs = TestableSortUtils.generateRandomLongArray(ints.length);
+        double[] doubles = TestableSortUtils.generateRandomDoubleArray(ints.length);
+        int[] intPermutation = instance.argsort(ints);
+        int[] longPermutation = instance.argsort(longs);
+        int[] doublePermutation = instance.argsort(doubles);
+        int[] sortedInts = ints.clone();
+        long[] sortedLongs = longs.clone();
+        double[] sortedDoubles = doubles.clone();
+        Arrays.sort(sortedInts);
+        Arrays.sort(sortedLongs);
+        Arrays.sort(sortedDoubles);
+        for (int i = 0; i < ints.length; ++i) {
+            assertEquals(sortedInts[i], ints[intPermutation[i]]);
+            assertEquals(sortedLongs[i], longs[longPermutation[i]]);
+            assertEquals(0, Double.compare(sortedDoubles[i], doubles[doublePermutation[i]]));
+            if (i > 0 && ints[intPermutation[i - 1]] == ints[intPermutation[i]]) {
+                assertTrue(intPermutation[i - 1] < intPermutation[i]);
+            }
+        }
+    }
+
+    /**
+     * Test of applyPermutation method, of class ArgSort. The permutation of
+     * one column is applied to parallel columns.
+     */
+    @Test
+    public void testApplyPermutation() {
+        System.out.println("applyPermutation - ArgSort");
+        ArgSort instance = new ArgSort();
+        int[] keys = TestableSortUtils.generateRandomIntArray(TestableSort.VALUES.size());
+        long[] longs = new long[keys.length];
+        double[] doubles = new double[keys.length];
+        String[] strings = new String[keys.length];
+        for (int i = 0; i < keys.length; ++i) {
+            longs[i] = keys[i] * 3L;
+            doubles[i] = keys[i] / 2.0d;
+            strings[i] = Integer.toString(keys[i]);
+        }
+        int[] permutation = instance.argsort(keys);
+        int[] copy = permutation.clone();
+        instance.applyPermutation(keys, permutation);
+        instance.applyPermutation(longs, permutation);
+        instance.applyPermutation(doubles, permutation);
+        instance.applyPermutation(strings, permutation);
+        assertArrayEquals(copy, permutation); // restored
+        int[] sortedKeys = keys.clone();
+        Arrays.sort(sortedKeys);
+        assertArrayEquals(sortedKeys, keys);
+        for (int i = 0; i < keys.length; ++i) {
+            assertEquals(keys[i] * 3L, longs[i]);
+            assertEquals(keys[i] / 2.0d, doubles[i], 0.0d);
+            assertEquals(Integer.toString(keys[i]), strings[i]);
+        }
+    }
+
+    /**
+     * Test of applyPermutation method with a duplicate index, of class
+     * ArgSort.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testApplyPermutation_Invalid() {
+        System.out.println("applyPermutation invalid - ArgSort");
+        ArgSort instance = new ArgSort();
+        instance.applyPermutation(new String[]{"a", "b", "c"}, new int[]{2, 0, 2});
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import org.junit.After;
+import org.junit.AfterClass;
+import static org.junit.Assert.assertArrayEquals;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ *
+ * @author Matthias Fussenegger
+ */
+public class BlockMergeSortTest implements TestableSort {
+
+    @BeforeClass
+    public static void setUpClass() {
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+    }
+
+    @Before
+    public void setUp() {
+    }
+
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Test of sort method, of class BlockMergeSort.
+     */
+    @Test
+    @Override
+    public void testSort() {
+        System.out.println("sort - BlockMergeSort");
+        BlockMergeSort instance = new BlockMergeSort();
+        Object[] values = VALUES.toArray();
+        long startTime = System.nanoTime();
+        instance.sort(values);
+        System.out.println(System.nanoTime() - startTime);
+        Object[] sortedValues = VALUES.toArray();
+        Arrays.sort(sortedValues);
+        assertArrayEquals(values, sortedValues);
+    }
+
+    /**
+     * Test of sort method, of class BlockMergeSort.
+     */
+    @Test
+    @Override
+    public void testSort_Comparator() {
+        System.out.println("sort using comparator - BlockMergeSort");
+        BlockMergeSort instance = new BlockMergeSort();
+        Integer[] values = new Integer[VALUES.size()];
+        values = VALUES.toArray(values);
+        Comparator<Integer> c = TestableSortUtils.createIntegerComparator();
+        long startTime = System.nanoTime();
+        instance.sort(values, c);
+        System.out.println(System.nanoTime() - startTime);
+        Integer[] sortedValues = new Integer[VALUES.size()];
+        sortedValues = VALUES.toArray(sortedValues);
+        Arrays.sort(sortedValues, c);
+        assertArrayEquals(values, sortedValues);
+    }
+
+    /**
+     * Test of sort method with many equal elements, of class BlockMergeSort.
+     */
+    @Test
+    public void testSort_Stable() {
+        System.out.println("sort stable - BlockMergeSort");
+        Comparator<Integer> c = TestableSortUtils.createCoarseIntegerComparator();
+        for (BlockMergeSort instance : new BlockMergeSort[]{
+            new BlockMergeSort(), new BlockMergeSort(0)}) {
+            Integer[] values = new Integer[VALUES.size()];
+            values = VALUES.toArray(values);
+            instance.sort(values, c);
+            Integer[] sortedValues = new Integer[VALUES.size()];
+            sortedValues = VALUES.toArray(sortedValues);
+            Arrays.sort(sortedValues, c); // stable as well
+            assertArrayEquals(sortedValues, values);
+        }
+    }
+
+    /**
+     * Test of sort method without a cache, of class BlockMergeSort. The number
+     * of distinct keys is varied, as it decides how runs are merged.
+     */
+    @Test
+    public void testSort_NoCache() {
+        System.out.println("sort without cache - BlockMergeSort");
+        BlockMergeSort instance = new BlockMergeSort(0);
+        Random rand = new Random();
+        for (final int keys : new int[]{1, 2, 3, 17, 100, 1000, Integer.MAX_VALUE}) {
+            Comparator<Integer> c = new Comparator<Integer>() {
+                @Override
+                public int compare(Integer v1, Integer v2) {
+                    return Integer.compare(v1 % keys, v2 % keys);
+                }
+            };
+            for (int size : new int[]{2, 3, 33, 500, 10000}) {
+                Integer[] values = new Integer[size];
+                for (int i = 0; i < size; ++i) {
+                    values[i] = rand.nextInt(Integer.MAX_VALUE);
+                }
+                Integer[] sortedValues = values.clone();
+                instance.sort(values, c);
+                Arrays.sort(sortedValues, c);
+                assertArrayEquals(sortedValues, values);
+            }
+        }
+    }
+
+    /**
+     * Test of sortRange method, of class BlockMergeSort.
+     */
+    @Test
+    public void testSortRange() {
+        System.out.println("sortRange - BlockMergeSort");
+        BlockMergeSort instance = new BlockMergeSort();
+        TestableSortUtils.assertSortRange(instance);
+        TestableSortUtils.assertSortRange(new BlockMergeSort(0));
+    }
+
+    /**
+     * Test of constructor with a negative cache size, of class BlockMergeSort.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor_NegativeCacheSize() {
+        System.out.println("constructor with negative cache size - BlockMergeSort");
+        new BlockMergeSort(-1);
+    }
+}
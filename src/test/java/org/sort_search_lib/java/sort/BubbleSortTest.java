@@ -91,4 +91,14 @@ public class BubbleSortTest implements TestableSort {
         assertArrayEquals(values, sortedValues);
     }
 
+    /**
+     * Test of sortRange method, of class BubbleSort.
+     */
+    @Test
+    public void testSortRange() {
+        System.out.println("sortRange - BubbleSort");
+        BubbleSort instance = new BubbleSort();
+        TestableSortUtils.assertSortRange(instance);
+    }
+
 }
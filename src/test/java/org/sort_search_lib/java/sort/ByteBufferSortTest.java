@@ -0,0 +1,178 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.After;
+import org.junit.AfterClass;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ *
+ * @author Matthias Fussenegger
+ */
+public class ByteBufferSortTest {
+
+    /**
+     * Number of records to be sorted.
+     */
+    private static final int RECORDS = 8192;
+
+    /**
+     * Number of bytes of each record: a payload and a key of eight bytes.
+     */
+    private static final int WIDTH = 12;
+
+    @BeforeClass
+    public static void setUpClass() {
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+    }
+
+    @Before
+    public void setUp() {
+    }
+
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Test of sort method with a long key, of class ByteBufferSort.
+     */
+    @Test
+    public void testSort_LongKey() {
+        System.out.println("sort long key - ByteBufferSort");
+        ByteBufferSort instance = new ByteBufferSort(WIDTH, 4, ByteBufferSort.KeyType.LONG);
+        long[] keys = TestableSortUtils.generateRandomLongArray(RECORDS);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(RECORDS * WIDTH);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < RECORDS; ++i) {
+            buffer.putInt(i * WIDTH, i);
+            buffer.putLong(i * WIDTH + 4, keys[i]);
+        }
+        long startTime = System.nanoTime();
+        instance.sort(buffer);
+        System.out.println(System.nanoTime() - startTime);
+        long[] sortedKeys = keys.clone();
+        Arrays.sort(sortedKeys);
+        for (int i = 0; i < RECORDS; ++i) {
+            long key = buffer.getLong(i * WIDTH + 4);
+            assertEquals(sortedKeys[i], key);
+            assertEquals(keys[buffer.getInt(i * WIDTH)], key); // payload moved along
+        }
+    }
+
+    /**
+     * Test of sort method with an int key, of class ByteBufferSort. Only the
+     * records between position and limit are sorted.
+     */
+    @Test
+    public void testSort_IntKey() {
+        System.out.println("sort int key - ByteBufferSort");
+        ByteBufferSort instance = new ByteBufferSort(WIDTH, 0, ByteBufferSort.KeyType.INT);
+        int[] keys = TestableSortUtils.generateRandomIntArray(RECORDS);
+        ByteBuffer buffer = ByteBuffer.allocate(RECORDS * WIDTH + 2 * WIDTH);
+        for (int i = 0; i < keys.length; ++i) {
+            buffer.putInt(WIDTH + i * WIDTH, keys[i]);
+        }
+        buffer.putInt(0, Integer.MAX_VALUE);
+        buffer.putInt(WIDTH + RECORDS * WIDTH, Integer.MIN_VALUE);
+        buffer.position(WIDTH).limit(WIDTH + RECORDS * WIDTH);
+        instance.sort(buffer);
+        assertEquals(WIDTH, buffer.position());
+        assertEquals(WIDTH + RECORDS * WIDTH, buffer.limit());
+        int[] result = new int[RECORDS];
+        for (int i = 0; i < RECORDS; ++i) {
+            result[i] = buffer.getInt(WIDTH + i * WIDTH);
+        }
+        int[] sortedKeys = keys.clone();
+        Arrays.sort(sortedKeys);
+        assertArrayEquals(sortedKeys, result);
+        buffer.clear(); // records outside the range are left untouched
+        assertEquals(Integer.MAX_VALUE, buffer.getInt(0));
+        assertEquals(Integer.MIN_VALUE, buffer.getInt(WIDTH + RECORDS * WIDTH));
+    }
+
+    /**
+     * Test of sort method with a key of unsigned bytes, of class
+     * ByteBufferSort. Keys are compared like strings of the same bytes.
+     */
+    @Test
+    public void testSort_UnsignedBytes() {
+        System.out.println("sort unsigned bytes - ByteBufferSort");
+        final int keyLength = WIDTH - 1;
+        ByteBufferSort instance = new ByteBufferSort(WIDTH, 1, keyLength);
+        Random rand = new Random();
+        ByteBuffer buffer = ByteBuffer.allocate(RECORDS * WIDTH);
+        String[] keys = new String[RECORDS];
+        for (int i = 0; i < RECORDS; ++i) {
+            char[] key = new char[keyLength];
+            for (int k = 0; k < keyLength; ++k) {
+                /*few distinct bytes, including ones that are negative*/
+                key[k] = (char) (rand.nextBoolean() ? 0x7F + rand.nextInt(3) : rand.nextInt(3));
+                buffer.put(i * WIDTH + 1 + k, (byte) key[k]);
+            }
+            keys[i] = new String(key);
+        }
+        instance.sort(buffer);
+        Arrays.sort(keys);
+        for (int i = 0; i < RECORDS; ++i) {
+            char[] key = new char[keyLength];
+            for (int k = 0; k < keyLength; ++k) {
+                key[k] = (char) (buffer.get(i * WIDTH + 1 + k) & 0xFF);
+            }
+            assertEquals(keys[i], new String(key));
+        }
+    }
+
+    /**
+     * Test of sort method with a partial record, of class ByteBufferSort.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testSort_PartialRecord() {
+        System.out.println("sort partial record - ByteBufferSort");
+        ByteBufferSort instance = new ByteBufferSort(WIDTH, 0, ByteBufferSort.KeyType.LONG);
+        instance.sort(ByteBuffer.allocate(WIDTH * 2 + 1));
+    }
+
+    /**
+     * Test of constructor with a key exceeding the record, of class
+     * ByteBufferSort.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor_KeyOutsideRecord() {
+        System.out.println("constructor key outside record - ByteBufferSort");
+        new ByteBufferSort(WIDTH, 8, ByteBufferSort.KeyType.LONG);
+    }
+}
@@ -93,4 +93,14 @@ public class CocktailShakerSortTest implements TestableSort {
         assertArrayEquals(values, sortedValues);
     }
 
+    /**
+     * Test of sortRange method, of class CocktailShakerSort.
+     */
+    @Test
+    public void testSortRange() {
+        System.out.println("sortRange - CocktailShakerSort");
+        CocktailShakerSort instance = new CocktailShakerSort();
+        TestableSortUtils.assertSortRange(instance);
+    }
+
 }
@@ -24,6 +24,7 @@
 package org.sort_search_lib.java.sort;
 
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 
 import java.util.Arrays;
 import java.util.Comparator;
@@ -133,4 +134,153 @@ public class DualPivotQuicksortTest implements TestableSort {
         Arrays.sort(sortedValues, c);
         assertArrayEquals(values, sortedValues);
     }
+
+    /**
+     * Test of sort method for primitive int values, of class DualPivotQuicksort.
+     */
+    @Test
+    public void testSort_IntArray() {
+        System.out.println("sort int array - DualPivotQuicksort");
+        DualPivotQuicksort instance = new DualPivotQuicksort();
+        int[] values = TestableSortUtils.generateRandomIntArray(VALUES.size());
+        int[] sortedValues = Arrays.copyOf(values, values.length);
+        long startTime = System.nanoTime();
+        instance.sort(values);
+        System.out.println(System.nanoTime() - startTime);
+        Arrays.sort(sortedValues);
+        assertArrayEquals(sortedValues, values);
+        /*sorting presorted input must not degenerate*/
+        instance.sort(values);
+        assertArrayEquals(sortedValues, values);
+    }
+
+    /**
+     * Test of sort method for primitive long values, of class DualPivotQuicksort.
+     */
+    @Test
+    public void testSort_LongArray() {
+        System.out.println("sort long array - DualPivotQuicksort");
+        DualPivotQuicksort instance = new DualPivotQuicksort();
+        long[] values = TestableSortUtils.generateRandomLongArray(VALUES.size());
+        long[] sortedValues = Arrays.copyOf(values, values.length);
+        long startTime = System.nanoTime();
+        instance.sort(values);
+        System.out.println(System.nanoTime() - startTime);
+        Arrays.sort(sortedValues);
+        assertArrayEquals(sortedValues, values);
+    }
+
+    /**
+     * Test of sort method for primitive double values, of class DualPivotQuicksort.
+     */
+    @Test
+    public void testSort_DoubleArray() {
+        System.out.println("sort double array - DualPivotQuicksort");
+        DualPivotQuicksort instance = new DualPivotQuicksort();
+        double[] values = TestableSortUtils.generateRandomDoubleArray(VALUES.size());
+        double[] sortedValues = Arrays.copyOf(values, values.length);
+        long startTime = System.nanoTime();
+        instance.sort(values);
+        System.out.println(System.nanoTime() - startTime);
+        Arrays.sort(sortedValues);
+        assertArrayEquals(sortedValues, values, 0.0d);
+        for (int i = 0; i < values.length; ++i) { // check order of signed zeros
+            assertEquals(Double.doubleToRawLongBits(sortedValues[i]),
+                    Double.doubleToRawLongBits(values[i]));
+        }
+    }
+
+    /**
+     * Test of sort method for the remaining primitive types, of class DualPivotQuicksort.
+     */
+    @Test
+    public void testSort_OtherPrimitiveArrays() {
+        System.out.println("sort other primitive arrays - DualPivotQuicksort");
+        DualPivotQuicksort instance = new DualPivotQuicksort();
+        int[] source = TestableSortUtils.generateRandomIntArray(VALUES.size());
+        short[] shorts = new short[source.length];
+        char[] chars = new char[source.length];
+        byte[] bytes = new byte[source.length];
+        float[] floats = new float[source.length];
+        for (int i = 0; i < source.length; ++i) {
+            shorts[i] = (short) source[i];
+            chars[i] = (char) source[i];
+            bytes[i] = (byte) source[i];
+            floats[i] = source[i] % 7 == 0 ? Float.NaN : source[i] / 3f;
+        }
+        short[] sortedShorts = Arrays.copyOf(shorts, shorts.length);
+        char[] sortedChars = Arrays.copyOf(chars, chars.length);
+        byte[] sortedBytes = Arrays.copyOf(bytes, bytes.length);
+        float[] sortedFloats = Arrays.copyOf(floats, floats.length);
+        instance.sort(shorts);
+        instance.sort(chars);
+        instance.sort(bytes);
+        instance.sort(floats);
+        Arrays.sort(sortedShorts);
+        Arrays.sort(sortedChars);
+        Arrays.sort(sortedBytes);
+        Arrays.sort(sortedFloats);
+        assertArrayEquals(sortedShorts, shorts);
+        assertArrayEquals(sortedChars, chars);
+        assertArrayEquals(sortedBytes, bytes);
+        assertArrayEquals(sortedFloats, floats, 0.0f);
+    }
+
+    /**
+     * Test of sort method for primitive arrays with few distinct values, of
+     * class DualPivotQuicksort.
+     */
+    @Test
+    public void testSort_FewDistinctPrimitiveArrays() {
+        System.out.println("sort few distinct primitive arrays - DualPivotQuicksort");
+        DualPivotQuicksort instance = new DualPivotQuicksort();
+        for (int distinct = 2; distinct <= 3; ++distinct) {
+            int[] ints = TestableSortUtils.generateFewDistinctIntArray(200000, distinct);
+            long[] longs = new long[ints.length];
+            short[] shorts = new short[ints.length];
+            char[] chars = new char[ints.length];
+            byte[] bytes = new byte[ints.length];
+            float[] floats = new float[ints.length];
+            double[] doubles = new double[ints.length];
+            for (int i = 0; i < ints.length; ++i) {
+                longs[i] = ints[i];
+                shorts[i] = (short) ints[i];
+                chars[i] = (char) ints[i];
+                bytes[i] = (byte) ints[i];
+                floats[i] = ints[i];
+                doubles[i] = ints[i];
+            }
+            int[] sortedInts = Arrays.copyOf(ints, ints.length);
+            Arrays.sort(sortedInts);
+            /*the second pass sorts presorted input*/
+            for (int pass = 0; pass < 2; ++pass) {
+                instance.sort(ints);
+                instance.sort(longs);
+                instance.sort(shorts);
+                instance.sort(chars);
+                instance.sort(bytes);
+                instance.sort(floats);
+                instance.sort(doubles);
+                assertArrayEquals(sortedInts, ints);
+                for (int i = 0; i < ints.length; ++i) {
+                    assertEquals(sortedInts[i], longs[i]);
+                    assertEquals(sortedInts[i], shorts[i]);
+                    assertEquals(sortedInts[i], chars[i]);
+                    assertEquals(sortedInts[i], bytes[i]);
+                    assertEquals(sortedInts[i], floats[i], 0.0f);
+                    assertEquals(sortedInts[i], doubles[i], 0.0d);
+                }
+            }
+        }
+    }
+
+    /**
+     * Test of sortRange method, of class DualPivotQuicksort.
+     */
+    @Test
+    public void testSortRange() {
+        System.out.println("sortRange - DualPivotQuicksort");
+        DualPivotQuicksort instance = new DualPivotQuicksort();
+        TestableSortUtils.assertSortRange(instance);
+    }
 }
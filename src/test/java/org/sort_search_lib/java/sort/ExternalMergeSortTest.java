@@ -0,0 +1,162 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import org.junit.After;
+import org.junit.AfterClass;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.sort_search_lib.java.sort.api.RecordSerializer;
+
+/**
+ *
+ * @author Matthias Fussenegger
+ */
+public class ExternalMergeSortTest {
+
+    /**
+     * Serializer which writes each value as four bytes.
+     */
+    private static final RecordSerializer<Integer> SERIALIZER = new RecordSerializer<Integer>() {
+        @Override
+        public void write(Integer record, DataOutput out) throws IOException {
+            out.writeInt(record);
+        }
+
+        @Override
+        public Integer read(DataInput in) throws IOException {
+            return in.readInt();
+        }
+
+        @Override
+        public long sizeOf(Integer record) {
+            return 16;
+        }
+    };
+
+    @Rule
+    public TemporaryFolder _tempFolder = new TemporaryFolder();
+
+    @BeforeClass
+    public static void setUpClass() {
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+    }
+
+    @Before
+    public void setUp() {
+    }
+
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Test of sort method with several merge passes, of class
+     * ExternalMergeSort.
+     */
+    @Test
+    public void testSort() throws IOException {
+        System.out.println("sort - ExternalMergeSort");
+        File tempDirectory = _tempFolder.newFolder();
+        /*about 500 records per run, merging 4 runs at once*/
+        ExternalMergeSort<Integer> instance = new ExternalMergeSort<Integer>(
+                SERIALIZER, new PdqSort(), 16 * 500, 4, tempDirectory);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long startTime = System.nanoTime();
+        instance.sort(TestableSort.VALUES.iterator(), output);
+        System.out.println(System.nanoTime() - startTime);
+        Integer[] sortedValues = new Integer[TestableSort.VALUES.size()];
+        sortedValues = TestableSort.VALUES.toArray(sortedValues);
+        Arrays.sort(sortedValues);
+        assertArrayEquals(sortedValues, readAll(output, sortedValues.length));
+        assertEquals(0, tempDirectory.list().length);
+    }
+
+    /**
+     * Test of sort method using a comparator, of class ExternalMergeSort.
+     */
+    @Test
+    public void testSort_Stable() throws IOException {
+        System.out.println("sort stable - ExternalMergeSort");
+        ExternalMergeSort<Integer> instance = new ExternalMergeSort<Integer>(
+                SERIALIZER, new TimSort(), 16 * 300, 3, _tempFolder.getRoot());
+        Comparator<Integer> c = TestableSortUtils.createCoarseIntegerComparator();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long startTime = System.nanoTime();
+        instance.sort(TestableSort.VALUES.iterator(), output, c);
+        System.out.println(System.nanoTime() - startTime);
+        /*equal values keep their order, as both sorts are stable*/
+        Integer[] sortedValues = new Integer[TestableSort.VALUES.size()];
+        sortedValues = TestableSort.VALUES.toArray(sortedValues);
+        Arrays.sort(sortedValues, c);
+        assertArrayEquals(sortedValues, readAll(output, sortedValues.length));
+    }
+
+    /**
+     * Test of sort method with all records fitting into memory, of class
+     * ExternalMergeSort.
+     */
+    @Test
+    public void testSort_InMemory() throws IOException {
+        System.out.println("sort in memory - ExternalMergeSort");
+        File tempDirectory = _tempFolder.newFolder();
+        ExternalMergeSort<Integer> instance = new ExternalMergeSort<Integer>(
+                SERIALIZER, new TimSort(), ExternalMergeSort.DEFAULT_MEMORY_BUDGET,
+                ExternalMergeSort.DEFAULT_FAN_IN, tempDirectory);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        instance.sort(TestableSort.VALUES.iterator(), output);
+        Integer[] sortedValues = new Integer[TestableSort.VALUES.size()];
+        sortedValues = TestableSort.VALUES.toArray(sortedValues);
+        Arrays.sort(sortedValues);
+        assertArrayEquals(sortedValues, readAll(output, sortedValues.length));
+        assertEquals(0, tempDirectory.list().length);
+    }
+
+    private static Integer[] readAll(ByteArrayOutputStream output, int count) throws IOException {
+        assertEquals(count * 4, output.size());
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(output.toByteArray()));
+        Integer[] values = new Integer[count];
+        for (int i = 0; i < count; ++i) {
+            values[i] = SERIALIZER.read(in);
+        }
+        return values;
+    }
+}
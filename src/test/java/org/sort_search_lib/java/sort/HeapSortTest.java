@@ -96,4 +96,70 @@ public class HeapSortTest implements TestableSort {
         assertArrayEquals(values, sortedValues);
     }
 
+    /**
+     * Test of partialSort method, of class HeapSort.
+     */
+    @Test
+    public void testPartialSort() {
+        System.out.println("partialSort - HeapSort");
+        HeapSort instance = new HeapSort();
+        Integer[] sortedValues = new Integer[VALUES.size()];
+        sortedValues = VALUES.toArray(sortedValues);
+        Arrays.sort(sortedValues);
+        int[] ks = {0, 1, 100, VALUES.size() - 1, VALUES.size(), VALUES.size() + 1};
+        for (int k : ks) {
+            Integer[] values = new Integer[VALUES.size()];
+            values = VALUES.toArray(values);
+            long startTime = System.nanoTime();
+            instance.partialSort(values, k);
+            System.out.println(System.nanoTime() - startTime);
+            int n = Math.min(k, values.length);
+            assertArrayEquals(Arrays.copyOf(sortedValues, n), Arrays.copyOf(values, n));
+            /*the remaining elements are still there*/
+            Arrays.sort(values);
+            assertArrayEquals(sortedValues, values);
+        }
+    }
+
+    /**
+     * Test of partialSort method with many duplicates, of class HeapSort.
+     */
+    @Test
+    public void testPartialSort_Comparator() {
+        System.out.println("partialSort using comparator - HeapSort");
+        HeapSort instance = new HeapSort();
+        Integer[] values = new Integer[VALUES.size()];
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = VALUES.get(i) % 10;
+        }
+        Integer[] sortedValues = Arrays.copyOf(values, values.length);
+        Comparator<Integer> c = TestableSortUtils.createIntegerComparator();
+        Arrays.sort(sortedValues, c);
+        int k = values.length / 3;
+        long startTime = System.nanoTime();
+        instance.partialSort(values, k, c);
+        System.out.println(System.nanoTime() - startTime);
+        assertArrayEquals(Arrays.copyOf(sortedValues, k), Arrays.copyOf(values, k));
+    }
+
+    /**
+     * Test of partialSort method with negative k, of class HeapSort.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testPartialSort_NegativeK() {
+        System.out.println("partialSort negative k - HeapSort");
+        HeapSort instance = new HeapSort();
+        instance.partialSort(VALUES.toArray(), -1);
+    }
+
+    /**
+     * Test of sortRange method, of class HeapSort.
+     */
+    @Test
+    public void testSortRange() {
+        System.out.println("sortRange - HeapSort");
+        HeapSort instance = new HeapSort();
+        TestableSortUtils.assertSortRange(instance);
+    }
+
 }
@@ -0,0 +1,139 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import org.junit.After;
+import org.junit.AfterClass;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ *
+ * @author Matthias Fussenegger
+ */
+public class IncrementalQuicksortTest {
+
+    @BeforeClass
+    public static void setUpClass() {
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+    }
+
+    @Before
+    public void setUp() {
+    }
+
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Test of next method, of class IncrementalQuicksort.
+     */
+    @Test
+    public void testNext() {
+        System.out.println("next - IncrementalQuicksort");
+        Integer[] values = new Integer[TestableSort.VALUES.size()];
+        values = TestableSort.VALUES.toArray(values);
+        Integer[] sortedValues = values.clone();
+        Arrays.sort(sortedValues);
+        IncrementalQuicksort<Integer> instance = new IncrementalQuicksort<Integer>(values);
+        long startTime = System.nanoTime();
+        Integer[] result = new Integer[values.length];
+        for (int i = 0; i < result.length; ++i) {
+            result[i] = instance.next();
+        }
+        System.out.println(System.nanoTime() - startTime);
+        assertFalse(instance.hasNext());
+        assertArrayEquals(sortedValues, result);
+        assertArrayEquals(sortedValues, values);
+    }
+
+    /**
+     * Test of next method with comparator, of class IncrementalQuicksort.
+     * Only some elements are consumed, so only the beginning is sorted.
+     */
+    @Test
+    public void testNext_Comparator() {
+        System.out.println("next using comparator - IncrementalQuicksort");
+        Integer[] values = new Integer[TestableSort.VALUES.size()];
+        values = TestableSort.VALUES.toArray(values);
+        Comparator<Integer> c = TestableSortUtils.createIntegerComparator();
+        Integer[] sortedValues = values.clone();
+        Arrays.sort(sortedValues, c);
+        IncrementalQuicksort<Integer> instance = new IncrementalQuicksort<Integer>(values, c);
+        final int k = 100;
+        for (int i = 0; i < k; ++i) {
+            assertEquals(sortedValues[i], instance.next());
+        }
+        assertEquals(k, instance.position());
+        assertArrayEquals(Arrays.copyOf(sortedValues, k), Arrays.copyOf(values, k));
+        /*the remaining elements are still there, in any order*/
+        Arrays.sort(values, k, values.length, c);
+        assertArrayEquals(sortedValues, values);
+    }
+
+    /**
+     * Test of next method with many duplicates, of class IncrementalQuicksort.
+     */
+    @Test
+    public void testNext_Duplicates() {
+        System.out.println("next duplicates - IncrementalQuicksort");
+        Integer[] values = new Integer[TestableSort.VALUES.size()];
+        values = TestableSort.VALUES.toArray(values);
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = values[i] % 4;
+        }
+        Integer[] sortedValues = values.clone();
+        Arrays.sort(sortedValues);
+        IncrementalQuicksort<Integer> instance = new IncrementalQuicksort<Integer>(values);
+        for (int i = 0; instance.hasNext(); ++i) {
+            assertEquals(sortedValues[i], instance.next());
+        }
+        assertArrayEquals(sortedValues, values);
+    }
+
+    /**
+     * Test of next method without elements left, of class
+     * IncrementalQuicksort.
+     */
+    @Test(expected = NoSuchElementException.class)
+    public void testNext_Exhausted() {
+        System.out.println("next exhausted - IncrementalQuicksort");
+        IncrementalQuicksort<Integer> instance
+                = new IncrementalQuicksort<Integer>(new Integer[]{2, 1});
+        instance.next();
+        instance.next();
+        instance.next();
+    }
+}
@@ -91,4 +91,14 @@ public class InsertionSortTest implements TestableSort {
         assertArrayEquals(values, sortedValues);
     }
 
+    /**
+     * Test of sortRange method, of class InsertionSort.
+     */
+    @Test
+    public void testSortRange() {
+        System.out.println("sortRange - InsertionSort");
+        InsertionSort instance = new InsertionSort();
+        TestableSortUtils.assertSortRange(instance);
+    }
+
 }
@@ -0,0 +1,228 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.After;
+import org.junit.AfterClass;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ *
+ * @author Matthias Fussenegger
+ */
+public class InstrumentedSortTest implements TestableSort {
+
+    /**
+     * Seed of the values whose statistics are checked.
+     */
+    private static final long SEED = 1L;
+
+    @BeforeClass
+    public static void setUpClass() {
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+    }
+
+    @Before
+    public void setUp() {
+    }
+
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Test of sort method, of class InstrumentedSort.
+     */
+    @Test
+    @Override
+    public void testSort() {
+        System.out.println("sort - InstrumentedSort");
+        InstrumentedSort instance = new InstrumentedSort(new IntroSort());
+        Object[] values = VALUES.toArray();
+        long startTime = System.nanoTime();
+        instance.sort(values);
+        System.out.println(System.nanoTime() - startTime);
+        Object[] sortedValues = VALUES.toArray();
+        Arrays.sort(sortedValues);
+        assertArrayEquals(values, sortedValues);
+    }
+
+    /**
+     * Test of sort method, of class InstrumentedSort.
+     */
+    @Test
+    @Override
+    public void testSort_Comparator() {
+        System.out.println("sort using comparator - InstrumentedSort");
+        InstrumentedSort instance = new InstrumentedSort(new IntroSort());
+        Integer[] values = new Integer[VALUES.size()];
+        values = VALUES.toArray(values);
+        Comparator<Integer> c = TestableSortUtils.createIntegerComparator();
+        long startTime = System.nanoTime();
+        instance.sort(values, c);
+        System.out.println(System.nanoTime() - startTime);
+        Integer[] sortedValues = new Integer[VALUES.size()];
+        sortedValues = VALUES.toArray(sortedValues);
+        Arrays.sort(sortedValues, c);
+        assertArrayEquals(values, sortedValues);
+    }
+
+    /**
+     * Test of snapshot method and of listeners, of class InstrumentedSort.
+     */
+    @Test
+    public void testStatistics() {
+        System.out.println("statistics - InstrumentedSort");
+        InstrumentedSort instance = new InstrumentedSort(new IntroSort());
+        final List<SortStatistics> recorded = new ArrayList<SortStatistics>();
+        instance.addListener(new SortListener() {
+            @Override
+            public void sorted(SortStatistics statistics) {
+                recorded.add(statistics);
+            }
+        });
+        /*the output of Random is specified for a seed, so these values are the
+        same on every JVM and Introsort stays below its depth limit*/
+        Random random = new Random(SEED);
+        Integer[] values = new Integer[VALUES.size()];
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = random.nextInt();
+        }
+        instance.sort(values);
+        instance.sortRange(values, 0, 10, TestableSortUtils.createIntegerComparator());
+        assertEquals(2, recorded.size());
+        SortStatistics first = recorded.get(0);
+        System.out.println(first);
+        /*every comparison sort needs at least n - 1 comparisons*/
+        assertTrue(first.getComparisons() >= values.length - 1);
+        assertTrue(first.getNanoTime() > 0);
+        if (InstrumentedSort.isKernelInstrumentationEnabled()) {
+            assertTrue(first.getSwaps() > 0);
+            assertTrue(first.getMoves() > 0);
+            assertTrue(first.getMaxDepth() > 1);
+            assertTrue(first.getMaxDepth() <= IntroSort.calculateMaxDepth(values.length) + 1);
+            assertEquals(0, first.getHeapSortFallbacks());
+        } else {
+            /*the kernel hooks must not record anything if disabled*/
+            assertEquals(0, first.getSwaps());
+            assertEquals(0, first.getMoves());
+            assertEquals(0, first.getMaxDepth());
+            assertEquals(0, first.getHeapSortFallbacks());
+        }
+        SortStatistics total = instance.snapshot();
+        assertEquals(2, total.getSorts());
+        assertEquals(first.getComparisons() + recorded.get(1).getComparisons(),
+                total.getComparisons());
+        assertEquals(first.getMaxDepth(), total.getMaxDepth());
+        instance.reset();
+        assertEquals(0, instance.snapshot().getSorts());
+    }
+
+    /**
+     * Test of recording Heap-Sort fallbacks, of class InstrumentedSort.
+     */
+    @Test
+    public void testStatistics_HeapSortFallback() {
+        System.out.println("statistics heap sort fallback - InstrumentedSort");
+        if (!InstrumentedSort.isKernelInstrumentationEnabled()) {
+            return; // kernel hooks are disabled
+        }
+        /*a depth limit of one forces both partitions into Heap-Sort*/
+        final int maxDepth = 1;
+        Integer[] values = TestableSortUtils.generateRandomIntegerList(VALUES.size())
+                .toArray(new Integer[VALUES.size()]);
+        SortProbe probe = new SortProbe();
+        SortProbe previous = SortProbe.bind(probe);
+        try {
+            new IntroSort().introsortComparable(values, 0, values.length - 1, maxDepth);
+        } finally {
+            SortProbe.bind(previous);
+        }
+        assertEquals(2, probe._heapSortFallbacks);
+        assertEquals(2, probe._maxDepth);
+        assertEquals(0, probe._depth);
+    }
+
+    /**
+     * Test of recording comparisons of a parallel delegate, of class
+     * InstrumentedSort.
+     */
+    @Test
+    public void testStatistics_Parallel() {
+        System.out.println("statistics parallel - InstrumentedSort");
+        Integer[] values = TestableSortUtils.generateRandomIntegerList(1 << 18)
+                .toArray(new Integer[1 << 18]);
+        final AtomicLong comparisons = new AtomicLong();
+        Comparator<Integer> c = new Comparator<Integer>() {
+            @Override
+            public int compare(Integer v1, Integer v2) {
+                comparisons.incrementAndGet();
+                return v1.compareTo(v2);
+            }
+        };
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            InstrumentedSort instance = new InstrumentedSort(new ParallelIntroSort(pool, 64));
+            instance.sort(values, c);
+            assertEquals(comparisons.get(), instance.snapshot().getComparisons());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Test of sortRange method, of class InstrumentedSort.
+     */
+    @Test
+    public void testSortRange() {
+        System.out.println("sortRange - InstrumentedSort");
+        InstrumentedSort instance = new InstrumentedSort(new IntroSort());
+        TestableSortUtils.assertSortRange(instance);
+        assertTrue(instance.snapshot().getSorts() > 0);
+    }
+
+    /**
+     * Test of constructor, of class InstrumentedSort.
+     */
+    @Test(expected = NullPointerException.class)
+    public void testConstructor_NullDelegate() {
+        System.out.println("constructor null delegate - InstrumentedSort");
+        new InstrumentedSort(null);
+    }
+}
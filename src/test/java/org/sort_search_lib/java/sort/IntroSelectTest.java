@@ -0,0 +1,133 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import org.junit.After;
+import org.junit.AfterClass;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ *
+ * @author Matthias Fussenegger
+ */
+public class IntroSelectTest {
+
+    @BeforeClass
+    public static void setUpClass() {
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+    }
+
+    @Before
+    public void setUp() {
+    }
+
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Test of select method, of class IntroSelect.
+     */
+    @Test
+    public void testSelect() {
+        System.out.println("select - IntroSelect");
+        IntroSelect instance = new IntroSelect();
+        Integer[] sortedValues = new Integer[TestableSort.VALUES.size()];
+        sortedValues = TestableSort.VALUES.toArray(sortedValues);
+        Arrays.sort(sortedValues);
+        int n = sortedValues.length;
+        int[] ks = {0, 1, n / 2, n * 99 / 100, n - 1};
+        for (int k : ks) {
+            Integer[] values = new Integer[n];
+            values = TestableSort.VALUES.toArray(values);
+            long startTime = System.nanoTime();
+            Integer result = instance.select(values, k);
+            System.out.println(System.nanoTime() - startTime);
+            assertEquals(sortedValues[k], result);
+            assertEquals(sortedValues[k], values[k]);
+            /*no element before is bigger, no element after is smaller*/
+            for (int i = 0; i < n; ++i) {
+                int cmp = values[i].compareTo(result);
+                assertTrue(i < k ? cmp <= 0 : i > k ? cmp >= 0 : cmp == 0);
+            }
+        }
+    }
+
+    /**
+     * Test of select method with many duplicates, of class IntroSelect.
+     */
+    @Test
+    public void testSelect_Comparator() {
+        System.out.println("select using comparator - IntroSelect");
+        IntroSelect instance = new IntroSelect();
+        Integer[] values = new Integer[TestableSort.VALUES.size()];
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = TestableSort.VALUES.get(i) % 7;
+        }
+        Comparator<Integer> c = TestableSortUtils.createIntegerComparator();
+        Integer[] sortedValues = Arrays.copyOf(values, values.length);
+        Arrays.sort(sortedValues, c);
+        int k = values.length / 3;
+        long startTime = System.nanoTime();
+        Integer result = instance.select(values, k, c);
+        System.out.println(System.nanoTime() - startTime);
+        assertEquals(sortedValues[k], result);
+    }
+
+    /**
+     * Test of median method, of class IntroSelect.
+     */
+    @Test
+    public void testMedian() {
+        System.out.println("median - IntroSelect");
+        IntroSelect instance = new IntroSelect();
+        assertEquals(Integer.valueOf(3), instance.median(new Integer[]{5, 1, 3, 4, 2}));
+        assertEquals(Integer.valueOf(2), instance.median(new Integer[]{4, 1, 3, 2}));
+        assertEquals(Integer.valueOf(7), instance.median(new Integer[]{7}));
+        Integer[] values = new Integer[TestableSort.VALUES.size()];
+        values = TestableSort.VALUES.toArray(values);
+        Integer[] sortedValues = Arrays.copyOf(values, values.length);
+        Arrays.sort(sortedValues);
+        assertEquals(sortedValues[(values.length - 1) / 2], instance.median(values));
+    }
+
+    /**
+     * Test of select method with an invalid position, of class IntroSelect.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testSelect_InvalidK() {
+        System.out.println("select invalid k - IntroSelect");
+        IntroSelect instance = new IntroSelect();
+        instance.select(new Integer[]{1, 2, 3}, 3);
+    }
+}
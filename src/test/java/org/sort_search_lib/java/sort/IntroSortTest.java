@@ -28,6 +28,7 @@ import java.util.Comparator;
 import org.junit.After;
 import org.junit.AfterClass;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -90,4 +91,105 @@ public class IntroSortTest implements TestableSort {
         Arrays.sort(sortedValues, c);
         assertArrayEquals(values, sortedValues);
     }
+
+    /**
+     * Test of sort method for primitive int values, of class IntroSort.
+     */
+    @Test
+    public void testSort_IntArray() {
+        System.out.println("sort int array - IntroSort");
+        IntroSort instance = new IntroSort();
+        int[] values = TestableSortUtils.generateRandomIntArray(VALUES.size());
+        int[] sortedValues = Arrays.copyOf(values, values.length);
+        long startTime = System.nanoTime();
+        instance.sort(values);
+        System.out.println(System.nanoTime() - startTime);
+        Arrays.sort(sortedValues);
+        assertArrayEquals(sortedValues, values);
+        /*sorting presorted input must not degenerate*/
+        instance.sort(values);
+        assertArrayEquals(sortedValues, values);
+    }
+
+    /**
+     * Test of sort method for primitive long values, of class IntroSort.
+     */
+    @Test
+    public void testSort_LongArray() {
+        System.out.println("sort long array - IntroSort");
+        IntroSort instance = new IntroSort();
+        long[] values = TestableSortUtils.generateRandomLongArray(VALUES.size());
+        long[] sortedValues = Arrays.copyOf(values, values.length);
+        long startTime = System.nanoTime();
+        instance.sort(values);
+        System.out.println(System.nanoTime() - startTime);
+        Arrays.sort(sortedValues);
+        assertArrayEquals(sortedValues, values);
+    }
+
+    /**
+     * Test of sort method for primitive double values, of class IntroSort.
+     */
+    @Test
+    public void testSort_DoubleArray() {
+        System.out.println("sort double array - IntroSort");
+        IntroSort instance = new IntroSort();
+        double[] values = TestableSortUtils.generateRandomDoubleArray(VALUES.size());
+        double[] sortedValues = Arrays.copyOf(values, values.length);
+        long startTime = System.nanoTime();
+        instance.sort(values);
+        System.out.println(System.nanoTime() - startTime);
+        Arrays.sort(sortedValues);
+        assertArrayEquals(sortedValues, values, 0.0d);
+        for (int i = 0; i < values.length; ++i) { // check order of signed zeros
+            assertEquals(Double.doubleToRawLongBits(sortedValues[i]),
+                    Double.doubleToRawLongBits(values[i]));
+        }
+    }
+
+    /**
+     * Test of sort method for the remaining primitive types, of class IntroSort.
+     */
+    @Test
+    public void testSort_OtherPrimitiveArrays() {
+        System.out.println("sort other primitive arrays - IntroSort");
+        IntroSort instance = new IntroSort();
+        int[] source = TestableSortUtils.generateRandomIntArray(VALUES.size());
+        short[] shorts = new short[source.length];
+        char[] chars = new char[source.length];
+        byte[] bytes = new byte[source.length];
+        float[] floats = new float[source.length];
+        for (int i = 0; i < source.length; ++i) {
+            shorts[i] = (short) source[i];
+            chars[i] = (char) source[i];
+            bytes[i] = (byte) source[i];
+            floats[i] = source[i] % 7 == 0 ? Float.NaN : source[i] / 3f;
+        }
+        short[] sortedShorts = Arrays.copyOf(shorts, shorts.length);
+        char[] sortedChars = Arrays.copyOf(chars, chars.length);
+        byte[] sortedBytes = Arrays.copyOf(bytes, bytes.length);
+        float[] sortedFloats = Arrays.copyOf(floats, floats.length);
+        instance.sort(shorts);
+        instance.sort(chars);
+        instance.sort(bytes);
+        instance.sort(floats);
+        Arrays.sort(sortedShorts);
+        Arrays.sort(sortedChars);
+        Arrays.sort(sortedBytes);
+        Arrays.sort(sortedFloats);
+        assertArrayEquals(sortedShorts, shorts);
+        assertArrayEquals(sortedChars, chars);
+        assertArrayEquals(sortedBytes, bytes);
+        assertArrayEquals(sortedFloats, floats, 0.0f);
+    }
+
+    /**
+     * Test of sortRange method, of class IntroSort.
+     */
+    @Test
+    public void testSortRange() {
+        System.out.println("sortRange - IntroSort");
+        IntroSort instance = new IntroSort();
+        TestableSortUtils.assertSortRange(instance);
+    }
 }
@@ -0,0 +1,152 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.After;
+import org.junit.AfterClass;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ *
+ * @author Matthias Fussenegger
+ */
+public class LoserTreeMergeTest {
+
+    /**
+     * Number of sorted sequences to be merged.
+     */
+    private static final int SEQUENCES = 37;
+
+    @BeforeClass
+    public static void setUpClass() {
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+    }
+
+    @Before
+    public void setUp() {
+    }
+
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Test of merge method for arrays, of class LoserTreeMerge.
+     */
+    @Test
+    public void testMerge_Arrays() {
+        System.out.println("merge arrays - LoserTreeMerge");
+        Integer[][] arrays = split(TestableSort.VALUES, null);
+        long startTime = System.nanoTime();
+        Integer[] result = LoserTreeMerge.merge(arrays);
+        System.out.println(System.nanoTime() - startTime);
+        Integer[] sortedValues = new Integer[TestableSort.VALUES.size()];
+        sortedValues = TestableSort.VALUES.toArray(sortedValues);
+        Arrays.sort(sortedValues);
+        assertArrayEquals(sortedValues, result);
+    }
+
+    /**
+     * Test of merge method for lists using a comparator, of class
+     * LoserTreeMerge.
+     */
+    @Test
+    public void testMerge_Lists() {
+        System.out.println("merge lists using comparator - LoserTreeMerge");
+        Comparator<Integer> c = TestableSortUtils.createCoarseIntegerComparator();
+        List<List<Integer>> lists = new ArrayList<List<Integer>>();
+        for (Integer[] array : split(TestableSort.VALUES, c)) {
+            lists.add(Arrays.asList(array));
+        }
+        long startTime = System.nanoTime();
+        List<Integer> result = LoserTreeMerge.merge(lists, c);
+        System.out.println(System.nanoTime() - startTime);
+        /*equal elements of earlier lists come first*/
+        List<Integer> sortedValues = new ArrayList<Integer>();
+        for (List<Integer> list : lists) {
+            sortedValues.addAll(list);
+        }
+        Collections.sort(sortedValues, c);
+        assertEquals(sortedValues, result);
+    }
+
+    /**
+     * Test of the iterator with empty sequences, of class LoserTreeMerge.
+     */
+    @Test
+    public void testIterator() {
+        System.out.println("iterator - LoserTreeMerge");
+        List<Iterator<Integer>> sources = new ArrayList<Iterator<Integer>>();
+        sources.add(Collections.<Integer>emptyIterator());
+        sources.add(Arrays.asList(1, 4, 9).iterator());
+        sources.add(Collections.<Integer>emptyIterator());
+        sources.add(Arrays.asList(2, 3, 10, 11).iterator());
+        sources.add(Arrays.asList(4).iterator());
+        LoserTreeMerge<Integer> instance = new LoserTreeMerge<Integer>(sources);
+        List<Integer> result = new ArrayList<Integer>();
+        while (instance.hasNext()) {
+            result.add(instance.next());
+        }
+        assertEquals(Arrays.asList(1, 2, 3, 4, 4, 9, 10, 11), result);
+        /*no sequences at all*/
+        List<Iterator<Integer>> none = Collections.emptyList();
+        assertFalse(new LoserTreeMerge<Integer>(none).hasNext());
+    }
+
+    /**
+     * Splits the specified values into sorted arrays of different lengths.
+     */
+    private static Integer[][] split(List<Integer> values, Comparator<Integer> c) {
+        Integer[][] arrays = new Integer[SEQUENCES][];
+        int from = 0;
+        for (int i = 0; i < SEQUENCES; ++i) {
+            int to = i == SEQUENCES - 1 ? values.size()
+                    : Math.min(values.size(), from + i * 2 * values.size() / (SEQUENCES * SEQUENCES));
+            Integer[] array = new Integer[to - from];
+            array = values.subList(from, to).toArray(array);
+            if (c == null) {
+                Arrays.sort(array);
+            } else {
+                Arrays.sort(array, c);
+            }
+            arrays[i] = array;
+            from = to;
+        }
+        return arrays;
+    }
+}
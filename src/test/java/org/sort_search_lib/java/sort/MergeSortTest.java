@@ -23,6 +23,7 @@
  */
 package org.sort_search_lib.java.sort;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -86,4 +87,33 @@ public class MergeSortTest implements TestableSort {
         assertEquals(VALUES, result);
     }
 
+    /**
+     * Test of sort method for stability, of class MergeSort.
+     */
+    @Test
+    public void testSort_Stable() {
+        System.out.println("sort stable - MergeSort");
+        MergeSort instance = new MergeSort();
+        List<Integer> values = TestableSortUtils.generateRandomIntegerList(VALUES.size());
+        Comparator<Integer> c = TestableSortUtils.createCoarseIntegerComparator();
+        List<Integer> result = instance.sort(values, c);
+        List<Integer> sortedValues = new ArrayList<Integer>(values);
+        Collections.sort(sortedValues, c); // stable as well
+        assertEquals(sortedValues, result);
+    }
+
+    /**
+     * Test of sort method whether the result can be modified, of class
+     * MergeSort.
+     */
+    @Test
+    public void testSort_Modifiable() {
+        System.out.println("sort modifiable - MergeSort");
+        MergeSort instance = new MergeSort();
+        List<Integer> values = TestableSortUtils.generateRandomIntegerList(100);
+        List<Integer> result = instance.sort(values);
+        result.add(Integer.MIN_VALUE);
+        assertEquals(values.size() + 1, result.size());
+    }
+
 }
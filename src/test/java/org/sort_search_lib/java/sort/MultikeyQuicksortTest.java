@@ -0,0 +1,93 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+import java.util.Arrays;
+import org.junit.After;
+import org.junit.AfterClass;
+import static org.junit.Assert.assertArrayEquals;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ *
+ * @author Matthias Fussenegger
+ */
+public class MultikeyQuicksortTest {
+
+    @BeforeClass
+    public static void setUpClass() {
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+    }
+
+    @Before
+    public void setUp() {
+    }
+
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Test of sort method for strings, of class MultikeyQuicksort.
+     */
+    @Test
+    public void testSort() {
+        System.out.println("sort - MultikeyQuicksort");
+        MultikeyQuicksort instance = new MultikeyQuicksort();
+        String[] values = TestableSortUtils.generateRandomStrings(TestableSort.VALUES.size());
+        String[] sortedValues = Arrays.copyOf(values, values.length);
+        long startTime = System.nanoTime();
+        instance.sort(values);
+        System.out.println(System.nanoTime() - startTime);
+        Arrays.sort(sortedValues);
+        assertArrayEquals(sortedValues, values);
+    }
+
+    /**
+     * Test of sort method for character sequences which are not comparable,
+     * of class MultikeyQuicksort.
+     */
+    @Test
+    public void testSort_CharSequence() {
+        System.out.println("sort char sequences - MultikeyQuicksort");
+        MultikeyQuicksort instance = new MultikeyQuicksort();
+        String[] sortedValues = TestableSortUtils.generateRandomStrings(TestableSort.VALUES.size());
+        StringBuilder[] values = new StringBuilder[sortedValues.length];
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = new StringBuilder(sortedValues[i]);
+        }
+        instance.sort(values);
+        Arrays.sort(sortedValues);
+        String[] result = new String[values.length];
+        for (int i = 0; i < values.length; ++i) {
+            result[i] = values[i].toString();
+        }
+        assertArrayEquals(sortedValues, result);
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.After;
+import org.junit.AfterClass;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ *
+ * @author Matthias Fussenegger
+ */
+public class ParallelIntroSortTest implements TestableSort {
+
+    /**
+     * Pool with a fixed parallelism, so that tasks are stolen by other threads
+     * even on machines with few processors.
+     */
+    private static ForkJoinPool _pool;
+
+    @BeforeClass
+    public static void setUpClass() {
+        _pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        _pool.shutdown();
+    }
+
+    @Before
+    public void setUp() {
+    }
+
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Test of sort method, of class ParallelIntroSort.
+     */
+    @Test
+    @Override
+    public void testSort() {
+        System.out.println("sort - ParallelIntroSort");
+        ParallelIntroSort instance = new ParallelIntroSort(_pool, 64);
+        Object[] values = VALUES.toArray();
+        long startTime = System.nanoTime();
+        instance.sort(values);
+        System.out.println(System.nanoTime() - startTime);
+        Object[] sortedValues = VALUES.toArray();
+        Arrays.sort(sortedValues);
+        assertArrayEquals(values, sortedValues);
+    }
+
+    /**
+     * Test of sort method, of class ParallelIntroSort.
+     */
+    @Test
+    @Override
+    public void testSort_Comparator() {
+        System.out.println("sort using comparator - ParallelIntroSort");
+        ParallelIntroSort instance = new ParallelIntroSort(_pool, 64);
+        Integer[] values = new Integer[VALUES.size()];
+        values = VALUES.toArray(values);
+        Comparator<Integer> c = TestableSortUtils.createIntegerComparator();
+        long startTime = System.nanoTime();
+        instance.sort(values, c);
+        System.out.println(System.nanoTime() - startTime);
+        Integer[] sortedValues = new Integer[VALUES.size()];
+        sortedValues = VALUES.toArray(sortedValues);
+        Arrays.sort(sortedValues, c);
+        assertArrayEquals(values, sortedValues);
+    }
+
+    /**
+     * Test of sort method with the common pool, of class ParallelIntroSort.
+     */
+    @Test
+    public void testSort_LargeArray() {
+        System.out.println("sort large array - ParallelIntroSort");
+        ParallelIntroSort instance = new ParallelIntroSort();
+        int size = 1 << 18;
+        Integer[] values = new Integer[size];
+        values = TestableSortUtils.generateRandomIntegerList(size).toArray(values);
+        Integer[] sortedValues = Arrays.copyOf(values, size);
+        long startTime = System.nanoTime();
+        instance.sort(values);
+        System.out.println(System.nanoTime() - startTime);
+        Arrays.sort(sortedValues);
+        assertArrayEquals(sortedValues, values);
+        /*sorting presorted input must not degenerate*/
+        instance.sort(values);
+        assertArrayEquals(sortedValues, values);
+    }
+
+    /**
+     * Test of sortRange method, of class ParallelIntroSort.
+     */
+    @Test
+    public void testSortRange() {
+        System.out.println("sortRange - ParallelIntroSort");
+        ParallelIntroSort instance = new ParallelIntroSort(_pool, 64);
+        TestableSortUtils.assertSortRange(instance);
+    }
+
+    /**
+     * Test of close method with a pool created by the instance, of class
+     * ParallelIntroSort.
+     */
+    @Test(expected = RejectedExecutionException.class)
+    public void testClose_OwnedPool() {
+        System.out.println("close owned pool - ParallelIntroSort");
+        ParallelIntroSort instance = new ParallelIntroSort(2);
+        instance.close();
+        instance.sort(VALUES.toArray());
+    }
+
+    /**
+     * Test of close method with a pool passed by the caller, of class
+     * ParallelIntroSort.
+     */
+    @Test
+    public void testClose_SharedPool() {
+        System.out.println("close shared pool - ParallelIntroSort");
+        ParallelIntroSort instance = new ParallelIntroSort(_pool, 64);
+        instance.close();
+        assertFalse(_pool.isShutdown());
+    }
+}
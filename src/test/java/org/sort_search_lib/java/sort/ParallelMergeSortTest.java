@@ -0,0 +1,154 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Matthias Fussenegger
+ */
+public class ParallelMergeSortTest implements TestableSort {
+
+    /**
+     * Pool with a fixed parallelism, so that tasks are stolen by other threads
+     * even on machines with few processors.
+     */
+    private static ForkJoinPool _pool;
+
+    @BeforeClass
+    public static void setUpClass() {
+        _pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        _pool.shutdown();
+    }
+
+    @Before
+    public void setUp() {
+    }
+
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Test of sort method, of class ParallelMergeSort.
+     */
+    @Test
+    @Override
+    public void testSort() {
+        System.out.println("sort - ParallelMergeSort");
+        ParallelMergeSort instance = new ParallelMergeSort(_pool, 64);
+        List<Integer> values = new ArrayList<Integer>(VALUES);
+        long startTime = System.nanoTime();
+        List<Integer> result = instance.sort(values);
+        System.out.println(System.nanoTime() - startTime);
+        Collections.sort(values);
+        assertEquals(values, result);
+    }
+
+    /**
+     * Test of sort method, of class ParallelMergeSort.
+     */
+    @Test
+    @Override
+    public void testSort_Comparator() {
+        System.out.println("sort using comparator - ParallelMergeSort");
+        ParallelMergeSort instance = new ParallelMergeSort(_pool, 64);
+        List<Integer> values = new ArrayList<Integer>(VALUES);
+        Comparator<Integer> c = TestableSortUtils.createIntegerComparator();
+        long startTime = System.nanoTime();
+        List<Integer> result = instance.sort(values, c);
+        System.out.println(System.nanoTime() - startTime);
+        Collections.sort(values, c);
+        assertEquals(values, result);
+    }
+
+    /**
+     * Test of sort method for stability, of class ParallelMergeSort.
+     */
+    @Test
+    public void testSort_Stable() {
+        System.out.println("sort stable - ParallelMergeSort");
+        ParallelMergeSort instance = new ParallelMergeSort(_pool, 64);
+        List<Integer> values = TestableSortUtils.generateRandomIntegerList(1 << 16);
+        Comparator<Integer> c = TestableSortUtils.createCoarseIntegerComparator();
+        List<Integer> result = instance.sort(values, c);
+        List<Integer> sortedValues = new ArrayList<Integer>(values);
+        Collections.sort(sortedValues, c); // stable as well
+        assertEquals(sortedValues, result);
+    }
+
+    /**
+     * Test of sort method whether the result can be modified, of class
+     * ParallelMergeSort.
+     */
+    @Test
+    public void testSort_Modifiable() {
+        System.out.println("sort modifiable - ParallelMergeSort");
+        ParallelMergeSort instance = new ParallelMergeSort(_pool, 64);
+        List<Integer> values = TestableSortUtils.generateRandomIntegerList(1000);
+        List<Integer> result = instance.sort(values);
+        result.add(Integer.MIN_VALUE);
+        assertEquals(values.size() + 1, result.size());
+    }
+
+    /**
+     * Test of close method with a pool created by the instance, of class
+     * ParallelMergeSort.
+     */
+    @Test(expected = RejectedExecutionException.class)
+    public void testClose_OwnedPool() {
+        System.out.println("close owned pool - ParallelMergeSort");
+        ParallelMergeSort instance = new ParallelMergeSort(2);
+        instance.close();
+        instance.sort(VALUES);
+    }
+
+    /**
+     * Test of close method with a pool passed by the caller, of class
+     * ParallelMergeSort.
+     */
+    @Test
+    public void testClose_SharedPool() {
+        System.out.println("close shared pool - ParallelMergeSort");
+        ParallelMergeSort instance = new ParallelMergeSort(_pool, 64);
+        instance.close();
+        assertFalse(_pool.isShutdown());
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.After;
+import org.junit.AfterClass;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ *
+ * @author Matthias Fussenegger
+ */
+public class ParallelSampleSortTest implements TestableSort {
+
+    /**
+     * Pool with a fixed parallelism, so that tasks are stolen by other threads
+     * even on machines with few processors.
+     */
+    private static ForkJoinPool _pool;
+
+    @BeforeClass
+    public static void setUpClass() {
+        _pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        _pool.shutdown();
+    }
+
+    @Before
+    public void setUp() {
+    }
+
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Test of sort method, of class ParallelSampleSort.
+     */
+    @Test
+    @Override
+    public void testSort() {
+        System.out.println("sort - ParallelSampleSort");
+        ParallelSampleSort instance = new ParallelSampleSort(_pool, 64);
+        Object[] values = VALUES.toArray();
+        long startTime = System.nanoTime();
+        instance.sort(values);
+        System.out.println(System.nanoTime() - startTime);
+        Object[] sortedValues = VALUES.toArray();
+        Arrays.sort(sortedValues);
+        assertArrayEquals(values, sortedValues);
+    }
+
+    /**
+     * Test of sort method, of class ParallelSampleSort.
+     */
+    @Test
+    @Override
+    public void testSort_Comparator() {
+        System.out.println("sort using comparator - ParallelSampleSort");
+        ParallelSampleSort instance = new ParallelSampleSort(_pool, 64);
+        Integer[] values = new Integer[VALUES.size()];
+        values = VALUES.toArray(values);
+        Comparator<Integer> c = TestableSortUtils.createIntegerComparator();
+        long startTime = System.nanoTime();
+        instance.sort(values, c);
+        System.out.println(System.nanoTime() - startTime);
+        Integer[] sortedValues = new Integer[VALUES.size()];
+        sortedValues = VALUES.toArray(sortedValues);
+        Arrays.sort(sortedValues, c);
+        assertArrayEquals(values, sortedValues);
+    }
+
+    /**
+     * Test of sort method with the common pool, of class ParallelSampleSort.
+     */
+    @Test
+    public void testSort_LargeArray() {
+        System.out.println("sort large array - ParallelSampleSort");
+        ParallelSampleSort instance = new ParallelSampleSort();
+        int size = 1 << 18;
+        Integer[] values = new Integer[size];
+        values = TestableSortUtils.generateRandomIntegerList(size).toArray(values);
+        Integer[] sortedValues = Arrays.copyOf(values, size);
+        long startTime = System.nanoTime();
+        instance.sort(values);
+        System.out.println(System.nanoTime() - startTime);
+        Arrays.sort(sortedValues);
+        assertArrayEquals(sortedValues, values);
+        /*sorting presorted input must not degenerate*/
+        instance.sort(values);
+        assertArrayEquals(sortedValues, values);
+    }
+
+    /**
+     * Test of sort method with many duplicates, of class ParallelSampleSort.
+     * Duplicates are put into equality buckets, which are not sorted.
+     */
+    @Test
+    public void testSort_Duplicates() {
+        System.out.println("sort duplicates - ParallelSampleSort");
+        ParallelSampleSort instance = new ParallelSampleSort(_pool, 64);
+        Integer[] values = new Integer[VALUES.size()];
+        values = VALUES.toArray(values);
+        for (int i = 0; i < values.length; ++i) {
+            if (i % 4 != 0) {
+                values[i] = values[i] % 3; // three values make up most elements
+            }
+        }
+        Integer[] sortedValues = values.clone();
+        instance.sort(values);
+        Arrays.sort(sortedValues);
+        assertArrayEquals(sortedValues, values);
+        Arrays.fill(values, 42);
+        instance.sort(values);
+        for (Integer value : values) {
+            assertEquals(42, value.intValue());
+        }
+    }
+
+    /**
+     * Test of sortRange method, of class ParallelSampleSort.
+     */
+    @Test
+    public void testSortRange() {
+        System.out.println("sortRange - ParallelSampleSort");
+        ParallelSampleSort instance = new ParallelSampleSort(_pool, 64);
+        TestableSortUtils.assertSortRange(instance);
+    }
+
+    /**
+     * Test of close method with a pool created by the instance, of class
+     * ParallelSampleSort.
+     */
+    @Test(expected = RejectedExecutionException.class)
+    public void testClose_OwnedPool() {
+        System.out.println("close owned pool - ParallelSampleSort");
+        ParallelSampleSort instance = new ParallelSampleSort(2);
+        instance.close();
+        int size = 4 * ParallelSampleSort.DEFAULT_GRANULARITY; // not sequential
+        instance.sort(TestableSortUtils.generateRandomIntegerList(size).toArray());
+    }
+
+    /**
+     * Test of close method with a pool passed by the caller, of class
+     * ParallelSampleSort.
+     */
+    @Test
+    public void testClose_SharedPool() {
+        System.out.println("close shared pool - ParallelSampleSort");
+        ParallelSampleSort instance = new ParallelSampleSort(_pool, 64);
+        instance.close();
+        assertFalse(_pool.isShutdown());
+    }
+}
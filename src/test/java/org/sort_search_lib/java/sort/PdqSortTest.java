@@ -0,0 +1,152 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import org.junit.After;
+import org.junit.AfterClass;
+import static org.junit.Assert.assertArrayEquals;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ *
+ * @author Matthias Fussenegger
+ */
+public class PdqSortTest implements TestableSort {
+
+    @BeforeClass
+    public static void setUpClass() {
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+    }
+
+    @Before
+    public void setUp() {
+    }
+
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Test of sort method, of class PdqSort.
+     */
+    @Test
+    @Override
+    public void testSort() {
+        System.out.println("sort - PdqSort");
+        PdqSort instance = new PdqSort();
+        Object[] values = VALUES.toArray();
+        long startTime = System.nanoTime();
+        instance.sort(values);
+        System.out.println(System.nanoTime() - startTime);
+        Object[] sortedValues = VALUES.toArray();
+        Arrays.sort(sortedValues);
+        assertArrayEquals(values, sortedValues);
+    }
+
+    /**
+     * Test of sort method, of class PdqSort.
+     */
+    @Test
+    @Override
+    public void testSort_Comparator() {
+        System.out.println("sort using comparator - PdqSort");
+        PdqSort instance = new PdqSort();
+        Integer[] values = new Integer[VALUES.size()];
+        values = VALUES.toArray(values);
+        Comparator<Integer> c = TestableSortUtils.createIntegerComparator();
+        long startTime = System.nanoTime();
+        instance.sort(values, c);
+        System.out.println(System.nanoTime() - startTime);
+        Integer[] sortedValues = new Integer[VALUES.size()];
+        sortedValues = VALUES.toArray(sortedValues);
+        Arrays.sort(sortedValues, c);
+        assertArrayEquals(values, sortedValues);
+    }
+
+    /**
+     * Test of sort method with patterned input, of class PdqSort.
+     */
+    @Test
+    public void testSort_Patterns() {
+        System.out.println("sort patterns - PdqSort");
+        PdqSort instance = new PdqSort();
+        int n = VALUES.size();
+        Integer[][] patterns = new Integer[6][n];
+        for (int i = 0; i < n; ++i) {
+            patterns[0][i] = i; // ascending
+            patterns[1][i] = n - i; // descending
+            patterns[2][i] = i < n / 2 ? i : n - i; // organ pipe
+            patterns[3][i] = i % 100; // sawtooth
+            patterns[4][i] = VALUES.get(i) & 3; // few distinct values
+            patterns[5][i] = 42; // all equal
+        }
+        patterns[0][n / 2] = -1; // nearly ascending
+        Comparator<Integer> c = TestableSortUtils.createIntegerComparator();
+        for (Integer[] values : patterns) {
+            Integer[] sortedValues = Arrays.copyOf(values, n);
+            long startTime = System.nanoTime();
+            instance.sort(values, c);
+            System.out.println(System.nanoTime() - startTime);
+            Arrays.sort(sortedValues, c);
+            assertArrayEquals(values, sortedValues);
+        }
+    }
+
+    /**
+     * Test of sort method with arrays of all sizes up to a few blocks, of
+     * class PdqSort.
+     */
+    @Test
+    public void testSort_SmallArrays() {
+        System.out.println("sort small arrays - PdqSort");
+        PdqSort instance = new PdqSort();
+        for (int n = 0; n <= 4 * PdqSort.BLOCK_SIZE; ++n) {
+            Integer[] values = new Integer[n];
+            for (int i = 0; i < n; ++i) {
+                values[i] = VALUES.get(i) % 50;
+            }
+            Integer[] sortedValues = Arrays.copyOf(values, n);
+            instance.sort(values);
+            Arrays.sort(sortedValues);
+            assertArrayEquals(values, sortedValues);
+        }
+    }
+
+    /**
+     * Test of sortRange method, of class PdqSort.
+     */
+    @Test
+    public void testSortRange() {
+        System.out.println("sortRange - PdqSort");
+        PdqSort instance = new PdqSort();
+        TestableSortUtils.assertSortRange(instance);
+    }
+}
@@ -132,4 +132,57 @@ public class QuicksortTest implements TestableSort {
         assertArrayEquals(values, sortedValues);
     }
 
+    /**
+     * Test of sort method using three-way partitioning, of class Quicksort.
+     */
+    @Test
+    public void testSort_ThreeWay() {
+        System.out.println("sort - Quicksort - Three-Way");
+        Quicksort instance = new Quicksort(true);
+        Object[] values = VALUES.toArray();
+        long startTime = System.nanoTime();
+        instance.sort(values);
+        System.out.println(System.nanoTime() - startTime);
+        Object[] sortedValues = VALUES.toArray();
+        Arrays.sort(sortedValues);
+        assertArrayEquals(values, sortedValues);
+    }
+
+    /**
+     * Test of sort method using three-way partitioning with only a few
+     * distinct values, of class Quicksort.
+     */
+    @Test
+    public void testSort_ThreeWay_Duplicates() {
+        System.out.println("sort - Quicksort - Three-Way - Duplicates");
+        Quicksort instance = new Quicksort(true);
+        Integer[] values = new Integer[VALUES.size()];
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = VALUES.get(i) % 5;
+        }
+        Integer[] sortedValues = Arrays.copyOf(values, values.length);
+        Comparator<Integer> c = TestableSortUtils.createIntegerComparator();
+        long startTime = System.nanoTime();
+        instance.sort(values, c);
+        System.out.println(System.nanoTime() - startTime);
+        Arrays.sort(sortedValues, c);
+        assertArrayEquals(values, sortedValues);
+        /*all values being equal*/
+        Arrays.fill(values, 42);
+        instance.sort(values);
+        Arrays.fill(sortedValues, 42);
+        assertArrayEquals(values, sortedValues);
+    }
+
+    /**
+     * Test of sortRange method, of class Quicksort.
+     */
+    @Test
+    public void testSortRange() {
+        System.out.println("sortRange - Quicksort");
+        Quicksort instance = new Quicksort();
+        TestableSortUtils.assertSortRange(instance);
+        TestableSortUtils.assertSortRange(new Quicksort(true));
+    }
+
 }
@@ -0,0 +1,230 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import org.junit.After;
+import org.junit.AfterClass;
+import static org.junit.Assert.assertArrayEquals;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ *
+ * @author Matthias Fussenegger
+ */
+public class RadixSortTest {
+
+    @BeforeClass
+    public static void setUpClass() {
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+    }
+
+    @Before
+    public void setUp() {
+    }
+
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Test of sort method for primitive int values, of class RadixSort.
+     */
+    @Test
+    public void testSort_IntArray() {
+        System.out.println("sort int array - RadixSort");
+        RadixSort instance = new RadixSort();
+        int[] values = TestableSortUtils.generateRandomIntArray(TestableSort.VALUES.size());
+        int[] sortedValues = Arrays.copyOf(values, values.length);
+        long startTime = System.nanoTime();
+        instance.sort(values);
+        System.out.println(System.nanoTime() - startTime);
+        Arrays.sort(sortedValues);
+        assertArrayEquals(sortedValues, values);
+    }
+
+    /**
+     * Test of sort method for primitive long values, of class RadixSort.
+     */
+    @Test
+    public void testSort_LongArray() {
+        System.out.println("sort long array - RadixSort");
+        RadixSort instance = new RadixSort();
+        long[] values = TestableSortUtils.generateRandomLongArray(TestableSort.VALUES.size());
+        long[] sortedValues = Arrays.copyOf(values, values.length);
+        long startTime = System.nanoTime();
+        instance.sort(values);
+        System.out.println(System.nanoTime() - startTime);
+        Arrays.sort(sortedValues);
+        assertArrayEquals(sortedValues, values);
+    }
+
+    /**
+     * Test of sort method with keys sharing most of their bytes, of class
+     * RadixSort.
+     */
+    @Test
+    public void testSort_SkippedDigits() {
+        System.out.println("sort skipped digits - RadixSort");
+        RadixSort instance = new RadixSort();
+        int[] values = TestableSortUtils.generateRandomIntArray(TestableSort.VALUES.size());
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = Integer.MIN_VALUE | (values[i] & 0xFF00); // only the second byte varies
+        }
+        int[] sortedValues = Arrays.copyOf(values, values.length);
+        instance.sort(values);
+        Arrays.sort(sortedValues);
+        assertArrayEquals(sortedValues, values);
+    }
+    /**
+     * Test of sortByInt method, of class RadixSort.
+     */
+    @Test
+    public void testSort_IntKey() {
+        System.out.println("sort int key - RadixSort");
+        RadixSort instance = new RadixSort();
+        Integer[] values = TestableSort.VALUES.toArray(new Integer[0]);
+        Integer[] sortedValues = Arrays.copyOf(values, values.length);
+        long startTime = System.nanoTime();
+        instance.sortByInt(values, new ToIntFunction<Integer>() {
+            @Override
+            public int applyAsInt(Integer value) {
+                return value >> 24;
+            }
+        });
+        System.out.println(System.nanoTime() - startTime);
+        /*the coarse keys are equal for many values, checking stability*/
+        Arrays.sort(sortedValues, TestableSortUtils.createCoarseIntegerComparator());
+        assertArrayEquals(sortedValues, values);
+    }
+
+    /**
+     * Test of sortByLong method, of class RadixSort.
+     */
+    @Test
+    public void testSort_LongKey() {
+        System.out.println("sort long key - RadixSort");
+        RadixSort instance = new RadixSort();
+        ToLongFunction<Long> key = new ToLongFunction<Long>() {
+            @Override
+            public long applyAsLong(Long value) {
+                return value >> 48;
+            }
+        };
+        long[] keys = TestableSortUtils.generateRandomLongArray(TestableSort.VALUES.size());
+        Long[] values = new Long[keys.length];
+        for (int i = 0; i < keys.length; ++i) {
+            values[i] = keys[i];
+        }
+        Long[] sortedValues = Arrays.copyOf(values, values.length);
+        long startTime = System.nanoTime();
+        instance.sortByLong(values, key);
+        System.out.println(System.nanoTime() - startTime);
+        Comparator<Long> c = new Comparator<Long>() {
+            @Override
+            public int compare(Long v1, Long v2) {
+                return Long.compare(v1 >> 48, v2 >> 48);
+            }
+        };
+        Arrays.sort(sortedValues, c);
+        assertArrayEquals(sortedValues, values);
+        /*short arrays take another path*/
+        Long[] shortValues = new Long[20];
+        for (int i = 0; i < shortValues.length; ++i) {
+            shortValues[i] = sortedValues[sortedValues.length - 1 - i * 7];
+        }
+        Long[] sortedShortValues = Arrays.copyOf(shortValues, shortValues.length);
+        instance.sortByLong(shortValues, key);
+        Arrays.sort(sortedShortValues, c);
+        assertArrayEquals(sortedShortValues, shortValues);
+    }
+
+    /**
+     * Test of sortByDouble method, of class RadixSort.
+     */
+    @Test
+    public void testSort_DoubleKey() {
+        System.out.println("sort double key - RadixSort");
+        RadixSort instance = new RadixSort();
+        double[] keys = TestableSortUtils.generateRandomDoubleArray(TestableSort.VALUES.size());
+        Double[] values = new Double[keys.length];
+        for (int i = 0; i < keys.length; ++i) {
+            values[i] = keys[i];
+        }
+        Double[] sortedValues = Arrays.copyOf(values, values.length);
+        long startTime = System.nanoTime();
+        instance.sortByDouble(values, new ToDoubleFunction<Double>() {
+            @Override
+            public double applyAsDouble(Double value) {
+                return value;
+            }
+        });
+        System.out.println(System.nanoTime() - startTime);
+        Arrays.sort(sortedValues);
+        assertArrayEquals(sortedValues, values);
+    }
+
+    /**
+     * Test of sortByInt and sortByLong methods for a range, of class
+     * RadixSort.
+     */
+    @Test
+    public void testSort_KeyRange() {
+        System.out.println("sort key range - RadixSort");
+        RadixSort instance = new RadixSort();
+        Integer[] values = TestableSort.VALUES.toArray(new Integer[0]);
+        Integer[] expected = Arrays.copyOf(values, values.length);
+        final int from = 100, to = values.length - 100;
+        instance.sortByInt(values, from, to, new ToIntFunction<Integer>() {
+            @Override
+            public int applyAsInt(Integer value) {
+                return value;
+            }
+        });
+        Arrays.sort(expected, from, to);
+        assertArrayEquals(expected, values);
+        Long[] longs = new Long[values.length];
+        for (int i = 0; i < longs.length; ++i) {
+            longs[i] = (long) TestableSort.VALUES.get(i) << 8;
+        }
+        Long[] expectedLongs = Arrays.copyOf(longs, longs.length);
+        instance.sortByLong(longs, from, to, new ToLongFunction<Long>() {
+            @Override
+            public long applyAsLong(Long value) {
+                return value;
+            }
+        });
+        Arrays.sort(expectedLongs, from, to);
+        assertArrayEquals(expectedLongs, longs);
+    }
+}
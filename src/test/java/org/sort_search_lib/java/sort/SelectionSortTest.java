@@ -91,4 +91,14 @@ public class SelectionSortTest implements TestableSort {
         assertArrayEquals(values, sortedValues);
     }
 
+    /**
+     * Test of sortRange method, of class SelectionSort.
+     */
+    @Test
+    public void testSortRange() {
+        System.out.println("sortRange - SelectionSort");
+        SelectionSort instance = new SelectionSort();
+        TestableSortUtils.assertSortRange(instance);
+    }
+
 }
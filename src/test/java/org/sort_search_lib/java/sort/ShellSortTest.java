@@ -27,6 +27,7 @@ import static org.junit.Assert.assertArrayEquals;
 
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
 
 import org.junit.After;
 import org.junit.AfterClass;
@@ -96,4 +97,42 @@ public class ShellSortTest implements TestableSort {
         assertArrayEquals(values, sortedValues);
     }
 
+    /**
+     * Test of sortRange method, of class ShellSort.
+     */
+    @Test
+    public void testSortRange() {
+        System.out.println("sortRange - ShellSort");
+        ShellSort instance = new ShellSort();
+        TestableSortUtils.assertSortRange(instance);
+    }
+
+    /**
+     * Test of sort and sortRange methods for small sizes around the gaps of
+     * the Knuth sequence, of class ShellSort.
+     */
+    @Test
+    public void testSort_SmallSizes() {
+        System.out.println("sort small sizes - ShellSort");
+        ShellSort instance = new ShellSort();
+        Comparator<Integer> c = TestableSortUtils.createIntegerComparator();
+        /*the shared values may have been sorted by other tests*/
+        List<Integer> random = TestableSortUtils.generateRandomIntegerList(400);
+        for (int n = 2; n <= random.size(); ++n) {
+            Integer[] values = new Integer[n];
+            values = random.subList(0, n).toArray(values);
+            Integer[] sortedValues = Arrays.copyOf(values, n);
+            Arrays.sort(sortedValues);
+            Integer[] naturalValues = Arrays.copyOf(values, n);
+            instance.sort(naturalValues);
+            assertArrayEquals(sortedValues, naturalValues);
+            Integer[] rangeValues = Arrays.copyOf(values, n);
+            instance.sortRange(rangeValues, 0, n);
+            assertArrayEquals(sortedValues, rangeValues);
+            Arrays.sort(sortedValues, c);
+            instance.sort(values, c);
+            assertArrayEquals(sortedValues, values);
+        }
+    }
+
 }
@@ -0,0 +1,221 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.After;
+import org.junit.AfterClass;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.sort_search_lib.java.sort.SortPlanner.Algorithm;
+import org.sort_search_lib.java.sort.SortPlanner.ElementType;
+
+/**
+ *
+ * @author Matthias Fussenegger
+ */
+public class SortPlannerTest implements TestableSort {
+
+    @BeforeClass
+    public static void setUpClass() {
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+    }
+
+    @Before
+    public void setUp() {
+    }
+
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Test of sort method, of class SortPlanner.
+     */
+    @Test
+    @Override
+    public void testSort() {
+        System.out.println("sort - SortPlanner");
+        SortPlanner instance = new SortPlanner();
+        Object[] values = VALUES.toArray();
+        long startTime = System.nanoTime();
+        instance.sort(values);
+        System.out.println(System.nanoTime() - startTime);
+        Object[] sortedValues = VALUES.toArray();
+        Arrays.sort(sortedValues);
+        assertArrayEquals(values, sortedValues);
+    }
+
+    /**
+     * Test of sort method, of class SortPlanner.
+     */
+    @Test
+    @Override
+    public void testSort_Comparator() {
+        System.out.println("sort using comparator - SortPlanner");
+        SortPlanner instance = new SortPlanner();
+        Integer[] values = new Integer[VALUES.size()];
+        values = VALUES.toArray(values);
+        Comparator<Integer> c = TestableSortUtils.createIntegerComparator();
+        long startTime = System.nanoTime();
+        instance.sort(values, c);
+        System.out.println(System.nanoTime() - startTime);
+        Integer[] sortedValues = new Integer[VALUES.size()];
+        sortedValues = VALUES.toArray(sortedValues);
+        Arrays.sort(sortedValues, c);
+        assertArrayEquals(values, sortedValues);
+    }
+
+    /**
+     * Test of sort method for each plan, of class SortPlanner.
+     */
+    @Test
+    public void testSort_Plans() {
+        System.out.println("sort plans - SortPlanner");
+        SortPlanner instance = new SortPlanner();
+        /*the shared values may have been sorted by other tests*/
+        List<Integer> random = TestableSortUtils.generateRandomIntegerList(VALUES.size());
+        Integer[] integers = random.toArray(new Integer[random.size()]);
+        assertPlan(instance, Arrays.copyOf(integers, 10), null,
+                Algorithm.INSERTION_SORT);
+        assertPlan(instance, integers, null, Algorithm.RADIX_SORT);
+        assertPlan(instance, integers, TestableSortUtils.createIntegerComparator(),
+                Algorithm.INTRO_SORT);
+        assertPlan(instance, integers, TestableSortUtils.createCoarseIntegerComparator(),
+                Algorithm.THREE_WAY_QUICKSORT);
+        Long[] longs = new Long[integers.length];
+        for (int i = 0; i < longs.length; ++i) {
+            longs[i] = (long) integers[i] * integers[i];
+        }
+        assertPlan(instance, longs, null, Algorithm.RADIX_SORT);
+        assertPlan(instance, TestableSortUtils.generateRandomStrings(integers.length),
+                null, Algorithm.MULTIKEY_QUICKSORT);
+        Double[] doubles = new Double[integers.length];
+        for (int i = 0; i < doubles.length; ++i) {
+            doubles[i] = integers[i] / 3d;
+        }
+        assertPlan(instance, doubles, null, Algorithm.INTRO_SORT);
+        assertEquals(ElementType.COMPARABLE, instance.plan(doubles).getElementType());
+        /*nearly sorted input is merged, no matter the order*/
+        Integer[] presorted = Arrays.copyOf(integers, integers.length);
+        Arrays.sort(presorted);
+        for (int i = 0; i < presorted.length; i += 100) {
+            presorted[i] = integers[i];
+        }
+        assertPlan(instance, presorted, null, Algorithm.TIM_SORT);
+        Comparator<Integer> c = TestableSortUtils.createIntegerComparator();
+        Arrays.sort(presorted, c);
+        assertPlan(instance, presorted, null, Algorithm.TIM_SORT);
+        /*few distinct values without a type-specific algorithm*/
+        Object[] duplicates = new Object[integers.length];
+        for (int i = 0; i < duplicates.length; ++i) {
+            duplicates[i] = Integer.toString(integers[i] & 7);
+        }
+        assertPlan(instance, duplicates, null, Algorithm.THREE_WAY_QUICKSORT);
+        SortPlanner.Plan plan = instance.plan(duplicates);
+        assertEquals(ElementType.STRING, plan.getElementType());
+        assertEquals(duplicates.length, plan.getSize());
+    }
+
+    /**
+     * Test of sortRange method, of class SortPlanner.
+     */
+    @Test
+    public void testSortRange() {
+        System.out.println("sortRange - SortPlanner");
+        SortPlanner instance = new SortPlanner();
+        TestableSortUtils.assertSortRange(instance);
+    }
+
+    /**
+     * Test of sortRange method with type-specific plans, of class SortPlanner.
+     */
+    @Test
+    public void testSortRange_Plans() {
+        System.out.println("sortRange plans - SortPlanner");
+        SortPlanner instance = new SortPlanner();
+        List<Integer> random = TestableSortUtils.generateRandomIntegerList(VALUES.size());
+        Integer[] integers = random.toArray(new Integer[random.size()]);
+        Long[] longs = new Long[integers.length];
+        for (int i = 0; i < longs.length; ++i) {
+            longs[i] = (long) integers[i] * integers[i];
+        }
+        String[] strings = TestableSortUtils.generateRandomStrings(integers.length);
+        assertEquals(Algorithm.RADIX_SORT, instance.plan(integers).getAlgorithm());
+        assertEquals(Algorithm.RADIX_SORT, instance.plan(longs).getAlgorithm());
+        assertEquals(Algorithm.MULTIKEY_QUICKSORT, instance.plan(strings).getAlgorithm());
+        assertSortRange(instance, integers, 100, integers.length - 100);
+        assertSortRange(instance, longs, 100, longs.length - 100);
+        assertSortRange(instance, strings, 100, strings.length - 100);
+        /*just above the size at which the sampling starts*/
+        assertSortRange(instance, longs, 1, 64);
+    }
+
+    /**
+     * Asserts that a copy of the values is sorted correctly within the
+     * specified range and left untouched outside of it.
+     */
+    private static <T> void assertSortRange(SortPlanner instance, T[] values,
+            int fromIndex, int toIndex) {
+        T[] copy = Arrays.copyOf(values, values.length);
+        T[] sortedValues = Arrays.copyOf(values, values.length);
+        instance.sortRange(copy, fromIndex, toIndex);
+        Arrays.sort(sortedValues, fromIndex, toIndex);
+        assertArrayEquals(sortedValues, copy);
+    }
+
+    /**
+     * Asserts that the specified algorithm is planned for the values and that
+     * a copy of the values is sorted correctly. Uses the natural ordering if the
+     * specified comparator is {@code null}.
+     */
+    private static <T> void assertPlan(SortPlanner instance, T[] values,
+            Comparator<? super T> c, Algorithm algorithm) {
+        SortPlanner.Plan plan = c == null ? instance.plan(values) : instance.plan(values, c);
+        System.out.println(plan);
+        assertEquals(algorithm, plan.getAlgorithm());
+        T[] copy = Arrays.copyOf(values, values.length);
+        if (c == null) {
+            instance.sort(copy);
+            T[] sortedValues = Arrays.copyOf(values, values.length);
+            Arrays.sort(sortedValues);
+            assertArrayEquals(sortedValues, copy);
+        } else {
+            /*the sort is not stable, so only the order of keys is checked*/
+            instance.sort(copy, c);
+            for (int i = 1; i < copy.length; ++i) {
+                assertTrue(c.compare(copy[i - 1], copy[i]) <= 0);
+            }
+        }
+    }
+}
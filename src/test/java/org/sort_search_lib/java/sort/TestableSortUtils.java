@@ -23,11 +23,16 @@
  */
 package org.sort_search_lib.java.sort;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Random;
+import org.sort_search_lib.java.sort.api.InPlaceSort;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.fail;
 
 /**
  *
@@ -45,6 +50,83 @@ public class TestableSortUtils {
         return values;
     }
 
+    static int[] generateRandomIntArray(int size) {
+        int[] values = new int[size];
+        Random rand = new Random();
+        for (int i = 0; i < size; ++i) {
+            /*every fourth value is taken from a small range to get duplicates*/
+            values[i] = i % 4 == 0 ? rand.nextInt(16) : rand.nextInt();
+        }
+        return values;
+    }
+
+    static long[] generateRandomLongArray(int size) {
+        long[] values = new long[size];
+        Random rand = new Random();
+        for (int i = 0; i < size; ++i) {
+            values[i] = i % 4 == 0 ? rand.nextInt(16) : rand.nextLong();
+        }
+        return values;
+    }
+
+    /**
+     * Generates values which are taken from a small range only, so that every
+     * value occurs many times.
+     *
+     * @param size the number of values to be generated.
+     * @param distinct the number of distinct values.
+     * @return an array of random values in {@code [0, distinct)}.
+     */
+    static int[] generateFewDistinctIntArray(int size, int distinct) {
+        int[] values = new int[size];
+        Random rand = new Random();
+        for (int i = 0; i < size; ++i) {
+            values[i] = rand.nextInt(distinct);
+        }
+        return values;
+    }
+
+    static double[] generateRandomDoubleArray(int size) {
+        double[] values = new double[size];
+        Random rand = new Random();
+        for (int i = 0; i < size; ++i) {
+            values[i] = rand.nextGaussian();
+        }
+        /*add values which are not ordered by the relational operators*/
+        for (int i = 0; i < size / 16; ++i) {
+            values[rand.nextInt(size)] = Double.NaN;
+            values[rand.nextInt(size)] = -0.0d;
+            values[rand.nextInt(size)] = 0.0d;
+        }
+        return values;
+    }
+
+    /**
+     * Generates strings which resemble paths, so that many of them share long
+     * prefixes. Some strings contain chars beyond the Latin-1 range and some
+     * strings are prefixes of others.
+     *
+     * @param size the number of strings to be generated.
+     * @return an array of random strings.
+     */
+    static String[] generateRandomStrings(int size) {
+        final String[] segments = {"api", "v1", "v2", "users", "\u00fcber", "\u4e2d\u6587", "a", ""};
+        String[] values = new String[size];
+        Random rand = new Random();
+        for (int i = 0; i < size; ++i) {
+            StringBuilder sb = new StringBuilder("https://example.org");
+            int depth = rand.nextInt(5);
+            for (int j = 0; j < depth; ++j) {
+                sb.append('/').append(segments[rand.nextInt(segments.length)]);
+            }
+            if (rand.nextBoolean()) {
+                sb.append('/').append(rand.nextInt(1000));
+            }
+            values[i] = sb.toString();
+        }
+        return values;
+    }
+
     static Comparator<Integer> createIntegerComparator() {
         return new Comparator<Integer>() {
             @Override
@@ -53,4 +135,63 @@ public class TestableSortUtils {
             }
         };
     }
+
+    /**
+     * Creates a comparator which only compares the highest bits of the values,
+     * so that many distinct values are considered equal. This allows checking
+     * whether an algorithm is stable.
+     *
+     * @return a comparator that considers many distinct values equal.
+     */
+    static Comparator<Integer> createCoarseIntegerComparator() {
+        return new Comparator<Integer>() {
+            @Override
+            public int compare(Integer v1, Integer v2) {
+                return Integer.compare(v1 >> 24, v2 >> 24);
+            }
+        };
+    }
+
+    /**
+     * Sorts several ranges of {@link TestableSort#VALUES}, both by natural
+     * order and by comparator, and compares the result with the ranges
+     * sorted by {@link Arrays}. Also checks that invalid ranges are rejected.
+     *
+     * @param instance the sort to be tested.
+     */
+    static void assertSortRange(InPlaceSort instance) {
+        final int n = TestableSort.VALUES.size();
+        final int[][] ranges = {
+            {0, n}, {0, 0}, {5, 5}, {10, 20}, {100, n - 100}, {n - 1, n}
+        };
+        Comparator<Integer> c = createIntegerComparator();
+        for (int[] range : ranges) {
+            Integer[] values = new Integer[n];
+            values = TestableSort.VALUES.toArray(values);
+            Integer[] sortedValues = values.clone();
+            instance.sortRange(values, range[0], range[1]);
+            Arrays.sort(sortedValues, range[0], range[1]);
+            assertArrayEquals(sortedValues, values);
+            instance.sortRange(values, range[0], range[1], c);
+            Arrays.sort(sortedValues, range[0], range[1], c);
+            assertArrayEquals(sortedValues, values);
+        }
+        Integer[] values = new Integer[n];
+        values = TestableSort.VALUES.toArray(values);
+        try {
+            instance.sortRange(values, 20, 10);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+        }
+        try {
+            instance.sortRange(values, -1, 10, c);
+            fail("Expected ArrayIndexOutOfBoundsException");
+        } catch (ArrayIndexOutOfBoundsException ex) {
+        }
+        try {
+            instance.sortRange(values, 0, n + 1);
+            fail("Expected ArrayIndexOutOfBoundsException");
+        } catch (ArrayIndexOutOfBoundsException ex) {
+        }
+    }
 }
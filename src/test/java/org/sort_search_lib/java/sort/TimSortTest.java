@@ -0,0 +1,172 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 Matthias Fussenegger
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.sort_search_lib.java.sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.After;
+import org.junit.AfterClass;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ *
+ * @author Matthias Fussenegger
+ */
+public class TimSortTest implements TestableSort {
+
+    @BeforeClass
+    public static void setUpClass() {
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+    }
+
+    @Before
+    public void setUp() {
+    }
+
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Test of sort method, of class TimSort.
+     */
+    @Test
+    @Override
+    public void testSort() {
+        System.out.println("sort - TimSort");
+        TimSort instance = new TimSort();
+        Object[] values = VALUES.toArray();
+        long startTime = System.nanoTime();
+        instance.sort(values);
+        System.out.println(System.nanoTime() - startTime);
+        Object[] sortedValues = VALUES.toArray();
+        Arrays.sort(sortedValues);
+        assertArrayEquals(values, sortedValues);
+    }
+
+    /**
+     * Test of sort method, of class TimSort.
+     */
+    @Test
+    @Override
+    public void testSort_Comparator() {
+        System.out.println("sort using comparator - TimSort");
+        TimSort instance = new TimSort();
+        Integer[] values = new Integer[VALUES.size()];
+        values = VALUES.toArray(values);
+        Comparator<Integer> c = TestableSortUtils.createIntegerComparator();
+        long startTime = System.nanoTime();
+        instance.sort(values, c);
+        System.out.println(System.nanoTime() - startTime);
+        Integer[] sortedValues = new Integer[VALUES.size()];
+        sortedValues = VALUES.toArray(sortedValues);
+        Arrays.sort(sortedValues, c);
+        assertArrayEquals(values, sortedValues);
+    }
+
+    /**
+     * Test of sort method for lists, of class TimSort.
+     */
+    @Test
+    public void testSort_List() {
+        System.out.println("sort list - TimSort");
+        TimSort instance = new TimSort();
+        List<Integer> values = new ArrayList<Integer>(VALUES);
+        long startTime = System.nanoTime();
+        List<Integer> result = instance.sort(values);
+        System.out.println(System.nanoTime() - startTime);
+        Collections.sort(values);
+        assertEquals(values, result);
+    }
+
+    /**
+     * Test of sort method whether the resulting list can be modified, of
+     * class TimSort.
+     */
+    @Test
+    public void testSort_Modifiable() {
+        System.out.println("sort modifiable - TimSort");
+        TimSort instance = new TimSort();
+        List<Integer> values = TestableSortUtils.generateRandomIntegerList(100);
+        List<Integer> result = instance.sort(values);
+        result.add(Integer.MIN_VALUE);
+        assertEquals(values.size() + 1, result.size());
+    }
+
+    /**
+     * Test of sort method for stability, of class TimSort.
+     */
+    @Test
+    public void testSort_Stable() {
+        System.out.println("sort stable - TimSort");
+        TimSort instance = new TimSort();
+        List<Integer> values = TestableSortUtils.generateRandomIntegerList(VALUES.size());
+        Comparator<Integer> c = TestableSortUtils.createCoarseIntegerComparator();
+        List<Integer> result = instance.sort(values, c);
+        List<Integer> sortedValues = new ArrayList<Integer>(values);
+        Collections.sort(sortedValues, c); // stable as well
+        assertEquals(sortedValues, result);
+    }
+
+    /**
+     * Test of sort method with partially ordered runs, of class TimSort.
+     */
+    @Test
+    public void testSort_Runs() {
+        System.out.println("sort runs - TimSort");
+        TimSort instance = new TimSort();
+        Integer[] values = new Integer[VALUES.size()];
+        for (int i = 0; i < values.length; ++i) {
+            /*alternating ascending and descending runs of different lengths*/
+            int run = i / (64 + i % 7);
+            values[i] = run % 2 == 0 ? i : -i;
+        }
+        Integer[] sortedValues = Arrays.copyOf(values, values.length);
+        long startTime = System.nanoTime();
+        instance.sort(values);
+        System.out.println(System.nanoTime() - startTime);
+        Arrays.sort(sortedValues);
+        assertArrayEquals(sortedValues, values);
+    }
+
+    /**
+     * Test of sortRange method, of class TimSort.
+     */
+    @Test
+    public void testSortRange() {
+        System.out.println("sortRange - TimSort");
+        TimSort instance = new TimSort();
+        TestableSortUtils.assertSortRange(instance);
+    }
+}